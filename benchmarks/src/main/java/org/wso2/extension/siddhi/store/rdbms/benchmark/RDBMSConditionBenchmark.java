@@ -0,0 +1,144 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.store.rdbms.RDBMSCompiledCondition;
+import org.wso2.extension.siddhi.store.rdbms.RDBMSConditionVisitor;
+import org.wso2.siddhi.query.api.definition.Attribute;
+import org.wso2.siddhi.query.api.expression.condition.Compare;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the compile time and bind time costs of RDBMS Event Table conditions, isolated from the rest of the
+ * table operations. The compile benchmark walks the condition
+ * "StockTable.symbol == symbol and StockTable.price > 10.0 and StockTable.volume < volume" through the condition
+ * visitor, as Siddhi does when a query is created, and the bind benchmark sets the parameters of the compiled condition
+ * to a prepared statement of an embedded H2 database, as the table does for every event. The benchmarks are not run
+ * by default, and can be selected through the JMH include pattern, e.g. "RDBMSConditionBenchmark".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RDBMSConditionBenchmark {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:conditionBenchmark;DB_CLOSE_DELAY=-1";
+    private static final String JDBC_USER = "sa";
+    private static final String TABLE_NAME = "StockTable";
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private RDBMSCompiledCondition compiledCondition;
+    private Map<String, Object> parameterMap;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, "");
+        this.compiledCondition = compile();
+        try (Statement stmt = this.connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (symbol VARCHAR(64), price DOUBLE, " +
+                    "volume BIGINT)");
+        }
+        this.statement = this.connection.prepareStatement("SELECT * FROM " + TABLE_NAME + " WHERE " +
+                this.compiledCondition.getCompiledQuery());
+        this.parameterMap = new HashMap<>();
+        this.parameterMap.put("symbol", "WSO2");
+        this.parameterMap.put("volume", 100L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.statement.close();
+        try (Statement stmt = this.connection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE IF EXISTS " + TABLE_NAME);
+        }
+        this.connection.close();
+    }
+
+    @Benchmark
+    public RDBMSCompiledCondition compileCondition() {
+        return compile();
+    }
+
+    @Benchmark
+    public int bindParameters() throws SQLException {
+        return this.compiledCondition.bindParameters(this.statement, this.parameterMap, 0);
+    }
+
+    private static RDBMSCompiledCondition compile() {
+        RDBMSConditionVisitor visitor = new RDBMSConditionVisitor(TABLE_NAME);
+        visitor.beginVisitAnd();
+        visitor.beginVisitAndLeftOperand();
+        visitor.beginVisitAnd();
+        visitor.beginVisitAndLeftOperand();
+        visitCompare(visitor, Compare.Operator.EQUAL, "symbol", Attribute.Type.STRING, null);
+        visitor.endVisitAndLeftOperand();
+        visitor.beginVisitAndRightOperand();
+        visitCompare(visitor, Compare.Operator.GREATER_THAN, "price", Attribute.Type.DOUBLE, 10.0);
+        visitor.endVisitAndRightOperand();
+        visitor.endVisitAnd();
+        visitor.endVisitAndLeftOperand();
+        visitor.beginVisitAndRightOperand();
+        visitCompare(visitor, Compare.Operator.LESS_THAN, "volume", Attribute.Type.LONG, null);
+        visitor.endVisitAndRightOperand();
+        visitor.endVisitAnd();
+        return new RDBMSCompiledCondition(visitor.returnCondition(), visitor.getParameters(),
+                visitor.getEqualityOperands());
+    }
+
+    private static void visitCompare(RDBMSConditionVisitor visitor, Compare.Operator operator, String attributeName,
+                                     Attribute.Type type, Object constant) {
+        visitor.beginVisitCompare(operator);
+        visitor.beginVisitCompareLeftOperand(operator);
+        visitor.beginVisitStoreVariable(TABLE_NAME, attributeName, type);
+        visitor.endVisitStoreVariable(TABLE_NAME, attributeName, type);
+        visitor.endVisitCompareLeftOperand(operator);
+        visitor.beginVisitCompareRightOperand(operator);
+        if (constant == null) {
+            visitor.beginVisitStreamVariable(attributeName, "StockStream", attributeName, type);
+            visitor.endVisitStreamVariable(attributeName, "StockStream", attributeName, type);
+        } else {
+            visitor.beginVisitConstant(constant, type);
+            visitor.endVisitConstant(constant, type);
+        }
+        visitor.endVisitCompareRightOperand(operator);
+        visitor.endVisitCompare(operator);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.store.rdbms.RDBMSEventTable;
+import org.wso2.siddhi.core.SiddhiAppRuntime;
+import org.wso2.siddhi.core.SiddhiManager;
+import org.wso2.siddhi.core.event.Event;
+import org.wso2.siddhi.core.stream.input.InputHandler;
+import org.wso2.siddhi.core.stream.output.StreamCallback;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks of the RDBMS Event Table operations against an embedded H2 database. Each benchmark method sends a batch
+ * of events to a Siddhi stream whose query performs the operation on the table, so that the table receives the whole
+ * batch at once, as it does in production. The table is populated with the given number of rows before each trial.
+ * <p>
+ * Thread counts are set through the JMH "-t" option, and additional "@Store" elements (e.g. cache="true") can be given
+ * through the "storeOptions" parameter, so that the effect of table options can be compared on the same workload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RDBMSEventTableBenchmark {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+    private static final String JDBC_USER = "sa";
+    private static final String JDBC_DRIVER = "org.h2.Driver";
+    private static final String TABLE_NAME = "BenchmarkTable";
+    private static final int PRELOAD_BATCH_SIZE = 1000;
+
+    @Param({"1", "100", "1000"})
+    public int batchSize;
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    @Param({""})
+    public String storeOptions;
+
+    private SiddhiManager siddhiManager;
+    private SiddhiAppRuntime siddhiAppRuntime;
+    private InputHandler insertStream;
+    private InputHandler findStream;
+    private InputHandler containsStream;
+    private InputHandler updateStream;
+    private InputHandler updateOrInsertStream;
+    private InputHandler deleteStream;
+    private final AtomicLong nextKey = new AtomicLong();
+    private final LongAdder matchedEvents = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException, SQLException {
+        dropTable();
+        String options = storeOptions.trim().isEmpty() ? "" : ", " + storeOptions.trim();
+        String siddhiApp = "" +
+                "define stream InsertStream (symbol string, price double, volume long); " +
+                "define stream FindStream (symbol string, price double, volume long); " +
+                "define stream ContainsStream (symbol string, price double, volume long); " +
+                "define stream UpdateStream (symbol string, price double, volume long); " +
+                "define stream UpdateOrInsertStream (symbol string, price double, volume long); " +
+                "define stream DeleteStream (symbol string, price double, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + JDBC_URL + "\", username=\"" + JDBC_USER + "\", " +
+                "jdbc.driver.name=\"" + JDBC_DRIVER + "\", table.name=\"" + TABLE_NAME + "\", " +
+                "field.length=\"symbol:64\"" + options + ") " +
+                "@PrimaryKey(\"symbol\") " +
+                "define table StockTable (symbol string, price double, volume long); " +
+                "" +
+                "from InsertStream " +
+                "insert into StockTable; " +
+                "" +
+                "from FindStream join StockTable on StockTable.symbol == FindStream.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutputStream; " +
+                "" +
+                "from ContainsStream[StockTable.symbol == symbol in StockTable] " +
+                "insert into OutputStream; " +
+                "" +
+                "from UpdateStream " +
+                "update StockTable set StockTable.price = price, StockTable.volume = volume " +
+                "   on StockTable.symbol == symbol; " +
+                "" +
+                "from UpdateOrInsertStream " +
+                "update or insert into StockTable set StockTable.price = price, StockTable.volume = volume " +
+                "   on StockTable.symbol == symbol; " +
+                "" +
+                "from DeleteStream " +
+                "delete StockTable on StockTable.symbol == symbol; ";
+
+        siddhiManager = new SiddhiManager();
+        siddhiManager.setExtension("store:rdbms", RDBMSEventTable.class);
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("OutputStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                matchedEvents.add(events.length);
+            }
+        });
+        insertStream = siddhiAppRuntime.getInputHandler("InsertStream");
+        findStream = siddhiAppRuntime.getInputHandler("FindStream");
+        containsStream = siddhiAppRuntime.getInputHandler("ContainsStream");
+        updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        updateOrInsertStream = siddhiAppRuntime.getInputHandler("UpdateOrInsertStream");
+        deleteStream = siddhiAppRuntime.getInputHandler("DeleteStream");
+        siddhiAppRuntime.start();
+
+        for (int start = 0; start < rowCount; start += PRELOAD_BATCH_SIZE) {
+            Event[] events = new Event[Math.min(PRELOAD_BATCH_SIZE, rowCount - start)];
+            for (int i = 0; i < events.length; i++) {
+                events[i] = createEvent(start + i);
+            }
+            insertStream.send(events);
+        }
+        nextKey.set(rowCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (siddhiAppRuntime != null) {
+            siddhiAppRuntime.shutdown();
+        }
+        if (siddhiManager != null) {
+            siddhiManager.shutdown();
+        }
+        dropTable();
+    }
+
+    /**
+     * Inserts a batch of records with new keys.
+     */
+    @Benchmark
+    public void add() throws InterruptedException {
+        Event[] events = new Event[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            events[i] = createEvent(nextKey.getAndIncrement());
+        }
+        insertStream.send(events);
+    }
+
+    /**
+     * Looks up a batch of existing keys through a join.
+     */
+    @Benchmark
+    public void find() throws InterruptedException {
+        findStream.send(createEventsWithExistingKeys());
+    }
+
+    /**
+     * Checks a batch of existing keys for presence through an "in" condition.
+     */
+    @Benchmark
+    public void contains() throws InterruptedException {
+        containsStream.send(createEventsWithExistingKeys());
+    }
+
+    /**
+     * Updates a batch of records with existing keys.
+     */
+    @Benchmark
+    public void update() throws InterruptedException {
+        updateStream.send(createEventsWithExistingKeys());
+    }
+
+    /**
+     * Updates or inserts a batch of records, of which about half have existing keys.
+     */
+    @Benchmark
+    public void updateOrAdd() throws InterruptedException {
+        Event[] events = new Event[batchSize];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < batchSize; i++) {
+            events[i] = createEvent(random.nextBoolean() ? random.nextInt(rowCount) : nextKey.getAndIncrement());
+        }
+        updateOrInsertStream.send(events);
+    }
+
+    /**
+     * Deletes a batch of records with keys of the initially populated rows. Deleted rows are not replaced, hence later
+     * invocations increasingly delete keys which no longer exist, which still exercises the full statement path.
+     */
+    @Benchmark
+    public void delete() throws InterruptedException {
+        deleteStream.send(createEventsWithExistingKeys());
+    }
+
+    private Event[] createEventsWithExistingKeys() {
+        Event[] events = new Event[batchSize];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < batchSize; i++) {
+            events[i] = createEvent(random.nextInt(rowCount));
+        }
+        return events;
+    }
+
+    private static Event createEvent(long key) {
+        return new Event(System.currentTimeMillis(), new Object[]{"SYMBOL-" + key,
+                ThreadLocalRandom.current().nextDouble(1000), key});
+    }
+
+    private static void dropTable() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(JDBC_URL, JDBC_USER, "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+        }
+    }
+}
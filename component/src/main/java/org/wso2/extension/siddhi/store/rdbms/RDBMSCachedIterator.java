@@ -0,0 +1,60 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.wso2.siddhi.core.table.record.RecordIterator;
+
+import java.util.List;
+
+/**
+ * A RecordIterator over the records of a find() operation which were read ahead of time, i.e. served from the
+ * {@link RDBMSResultCache} or retrieved through the {@link RDBMSLookupBatcher}. Each record is copied on retrieval so
+ * that records shared with the cache or with other lookups cannot be modified by the consumer.
+ */
+public class RDBMSCachedIterator implements RecordIterator<Object[]> {
+
+    private final List<Object[]> records;
+    private int position;
+
+    public RDBMSCachedIterator(List<Object[]> records) {
+        this.records = records;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.position < this.records.size();
+    }
+
+    @Override
+    public Object[] next() {
+        if (this.position >= this.records.size()) {
+            return null;
+        }
+        return this.records.get(this.position++).clone();
+    }
+
+    @Override
+    public void remove() {
+        //Do nothing. This is a read-only iterator.
+    }
+
+    @Override
+    public void close() {
+        this.position = this.records.size();
+    }
+}
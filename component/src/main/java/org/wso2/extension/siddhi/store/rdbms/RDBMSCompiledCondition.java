@@ -17,38 +17,191 @@
 */
 package org.wso2.extension.siddhi.store.rdbms;
 
+import org.wso2.extension.siddhi.store.rdbms.util.Constant;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSValueBinder;
 import org.wso2.siddhi.core.util.collection.operator.CompiledCondition;
+import org.wso2.siddhi.query.api.definition.Attribute;
 
-import java.util.SortedMap;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Implementation class of {@link CompiledCondition} corresponding to the RDBMS Event Table.
- * Maintains the condition string returned by the ConditionVisitor as well as a map of parameters to be used at runtime.
+ * Maintains the condition string returned by the ConditionVisitor as well as the parameters to be used at runtime, in
+ * the order of the "?" placeholders of the condition.
+ * The final SQL statements which use the condition are composed on first use and kept along with it, since the query
+ * templates of the table are only resolved once it connects, which is after the condition is compiled. The binders of
+ * the parameters are resolved along with the compilation and kept in flat arrays indexed by parameter position, so that
+ * they can be set to statements without iterating maps or checking types.
+ * <p>
+ * Namespaced functions of the condition are kept as placeholders until the condition is first used, at which point
+ * they are translated into the SQL expressions configured for the database of the table.
  */
 public class RDBMSCompiledCondition implements CompiledCondition {
 
     private String compiledQuery;
-    private SortedMap<Integer, Object> parameters;
+    private List<Object> parameters;
+    private Map<String, Object> equalityOperands;
+    private final Map<Object, String> statements = new ConcurrentHashMap<>();
+    private Object[] constants;
+    private String[] variableNames;
+    private RDBMSValueBinder[] binders;
+    private volatile List<RDBMSFunctionCall> functionCalls;
+    private RDBMSFunctionMapper functionMapper;
 
-    public RDBMSCompiledCondition(String compiledQuery, SortedMap<Integer, Object> parameters) {
+    public RDBMSCompiledCondition(String compiledQuery, List<Object> parameters) {
+        this(compiledQuery, parameters, null);
+    }
+
+    public RDBMSCompiledCondition(String compiledQuery, List<Object> parameters,
+                                  Map<String, Object> equalityOperands) {
+        this(compiledQuery, parameters, equalityOperands, null, null);
+    }
+
+    public RDBMSCompiledCondition(String compiledQuery, List<Object> parameters, Map<String, Object> equalityOperands,
+                                  List<RDBMSFunctionCall> functionCalls, RDBMSFunctionMapper functionMapper) {
         this.compiledQuery = compiledQuery;
-        this.parameters = parameters;
+        this.equalityOperands = equalityOperands;
+        this.functionMapper = functionMapper;
+        this.initParameters(parameters);
+        this.functionCalls = (functionCalls == null || functionCalls.isEmpty()) ? null : functionCalls;
+    }
+
+    private void initParameters(List<Object> parameters) {
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.constants = new Object[parameters.size()];
+        this.variableNames = new String[parameters.size()];
+        this.binders = new RDBMSValueBinder[parameters.size()];
+        for (int i = 0; i < this.binders.length; i++) {
+            Object parameter = parameters.get(i);
+            if (parameter instanceof Constant) {
+                this.constants[i] = ((Constant) parameter).getValue();
+                this.binders[i] = RDBMSValueBinder.forType(((Constant) parameter).getType());
+            } else {
+                this.variableNames[i] = ((Attribute) parameter).getName();
+                this.binders[i] = RDBMSValueBinder.forType(((Attribute) parameter).getType());
+            }
+        }
+    }
+
+    /**
+     * Translates the function placeholders of the condition into SQL expressions if that has not been done yet,
+     * reordering the parameters to match the resolved condition.
+     */
+    private void resolveFunctions() {
+        if (this.functionCalls == null) {
+            return;
+        }
+        synchronized (this) {
+            if (this.functionCalls != null) {
+                List<Integer> parameterOrder = new ArrayList<>(this.parameters.size());
+                this.compiledQuery = this.functionMapper.resolve(this.compiledQuery, this.functionCalls,
+                        parameterOrder);
+                List<Object> orderedParameters = new ArrayList<>(parameterOrder.size());
+                for (int parameter : parameterOrder) {
+                    orderedParameters.add(this.parameters.get(parameter));
+                }
+                this.initParameters(orderedParameters);
+                this.functionCalls = null;
+            }
+        }
     }
 
     @Override
-    public CompiledCondition cloneCompilation(String key) {
-        return new RDBMSCompiledCondition(this.compiledQuery, this.parameters);
+    public synchronized CompiledCondition cloneCompilation(String key) {
+        return new RDBMSCompiledCondition(this.compiledQuery, this.parameters, this.equalityOperands,
+                this.functionCalls, this.functionMapper);
     }
 
     public String getCompiledQuery() {
+        this.resolveFunctions();
         return compiledQuery;
     }
 
     public String toString() {
-        return getCompiledQuery();
+        // Not resolving the functions, which is only possible once the table is connected.
+        return compiledQuery;
     }
 
-    public SortedMap<Integer, Object> getParameters() {
+    /**
+     * Returns the parameters of the condition, i.e. the {@link org.wso2.extension.siddhi.store.rdbms.util.Constant}s
+     * and stream variable {@link org.wso2.siddhi.query.api.definition.Attribute}s, in the order of their placeholders.
+     *
+     * @return an unmodifiable list of the parameters.
+     */
+    public List<Object> getParameters() {
+        this.resolveFunctions();
         return parameters;
     }
+
+    /**
+     * Returns the number of parameters of the condition.
+     *
+     * @return the parameter count.
+     */
+    public int getParameterCount() {
+        this.resolveFunctions();
+        return binders.length;
+    }
+
+    /**
+     * Returns the runtime value of a parameter of the condition.
+     *
+     * @param index        the position of the parameter, starting from 0.
+     * @param parameterMap the runtime values of the stream variables of the condition.
+     * @return the value of the constant, or of the stream variable in the parameter map.
+     */
+    public Object resolveParameter(int index, Map<String, Object> parameterMap) {
+        this.resolveFunctions();
+        return (variableNames[index] == null) ? constants[index] : parameterMap.get(variableNames[index]);
+    }
+
+    /**
+     * Returns the operands which the table columns are compared against, if the condition is a conjunction of
+     * equality comparisons between table columns and constants or stream variables only.
+     *
+     * @return a map of column names to the {@link org.wso2.extension.siddhi.store.rdbms.util.Constant} or
+     * {@link org.wso2.siddhi.query.api.definition.Attribute} they are compared against, or null if the condition is
+     * not such a conjunction.
+     */
+    public Map<String, Object> getEqualityOperands() {
+        return equalityOperands;
+    }
+
+    /**
+     * Returns the SQL statement of the given shape which uses this condition, composing it only if it has not been
+     * composed before.
+     *
+     * @param shape    the key identifying the statement, e.g. the operation along with its set expressions.
+     * @param composer the function composing the statement for the shape.
+     * @return the SQL statement.
+     */
+    public String getStatement(Object shape, Function<Object, String> composer) {
+        return statements.computeIfAbsent(shape, composer);
+    }
+
+    /**
+     * Sets the values of the parameters of this condition to a statement.
+     *
+     * @param stmt         the statement to which the values should be set.
+     * @param parameterMap the runtime values of the stream variables of the condition.
+     * @param seed         the number of parameters in the statement which precede those of this condition.
+     * @return the number of parameters which were set.
+     * @throws SQLException if a value cannot be set to the statement.
+     */
+    public int bindParameters(PreparedStatement stmt, Map<String, Object> parameterMap, int seed)
+            throws SQLException {
+        this.resolveFunctions();
+        for (int i = 0; i < binders.length; i++) {
+            Object value = (variableNames[i] == null) ? constants[i] : parameterMap.get(variableNames[i]);
+            binders[i].bind(stmt, seed + i + 1, value);
+        }
+        return binders.length;
+    }
 }
@@ -20,40 +20,79 @@ package org.wso2.extension.siddhi.store.rdbms;
 import org.wso2.extension.siddhi.store.rdbms.util.Constant;
 import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants;
 import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableUtils;
-import org.wso2.siddhi.core.exception.OperationNotSupportedException;
 import org.wso2.siddhi.core.table.record.BaseExpressionVisitor;
 import org.wso2.siddhi.query.api.definition.Attribute;
 import org.wso2.siddhi.query.api.expression.condition.Compare;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 
 /**
  * Class which is used by the Siddhi runtime for instructions on converting the SiddhiQL condition to the condition
- * format understood by the underlying RDBMS data store.
+ * format understood by the underlying RDBMS data store. Constants and stream variables are written as "?" placeholders
+ * as they are visited, and recorded in the same order as the parameters of the condition. Namespaced functions are
+ * written as placeholders of {@link RDBMSFunctionCall}s, which are translated into SQL once the database is known.
+ * <p>
+ * The operands of each comparison are also collected into a tree of {@link Term}s, through which comparisons of math
+ * expressions of a table column are rewritten to compare the column alone, e.g. "table.ts + 3600 &lt; ?" to
+ * "table.ts &lt; ? - 3600", so that the database can use an index on the column. Additions and subtractions are
+ * rewritten for columns of the INT and LONG types, whereas multiplications and divisions are only rewritten for FLOAT
+ * and DOUBLE columns and positive constants which are powers of two, since integer division truncates and negative
+ * factors reverse the comparison. Integer constants which a floating point column is multiplied by are promoted to
+ * DOUBLE, so that the other side is divided without truncation.
+ * <p>
+ * Other operations on floating point columns are emitted as written, since their results are rounded, so that the
+ * inverse operation on the other side does not always yield the value of the column which the original condition
+ * matches, e.g. "table.price * 3 = ?" matches a price of 0.1 for a value of 0.30000000000000004, whereas
+ * "table.price = ? / 3" does not, and neither does "table.price = ? - 0.2" for "table.price + 0.2 = ?". Scaling by
+ * a power of two only changes the exponent of a value, and is therefore exact unless it overflows or underflows.
+ * <p>
+ * Note that for INT and LONG columns the inverse operation is evaluated by the database on the other side, where it
+ * may overflow although the original expression of the column would not, e.g. "? - 3600" for a value of the other
+ * side close to the minimum of its type. Depending on the database, such a comparison fails with a numeric overflow
+ * error or wraps around, instead of comparing as the original condition would.
  */
 public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     private StringBuilder condition;
-    private String finalCompiledCondition;
     private String tableName;
 
-    private Map<String, Object> placeholders;
-    private SortedMap<Integer, Object> parameters;
-
-    private int streamVarCount;
-    private int constantCount;
+    private List<Object> parameters;
+    private List<RDBMSFunctionCall> functionCalls;
+    private Deque<FunctionFrame> functionFrames;
+
+    private Map<String, Object> equalityOperands;
+    private boolean equalityConjunction;
+    private boolean inCompare;
+    private String compareColumn;
+    private Object compareOperand;
+    private boolean compareIndexable;
+    private boolean conjunction;
+    private Map<String, Compare.Operator> filteredColumns;
+    private boolean compareRewritable;
+    private int compareStart;
+    private int compareParameterStart;
+    private Term[] compareSides;
+    private int compareSide;
+    private Deque<Term> mathTerms;
 
     public RDBMSConditionVisitor(String tableName) {
         this.tableName = tableName;
         this.condition = new StringBuilder();
-        this.streamVarCount = 0;
-        this.constantCount = 0;
-        this.placeholders = new HashMap<>();
-        this.parameters = new TreeMap<>();
+        this.parameters = new ArrayList<>();
+        this.functionCalls = new ArrayList<>();
+        this.functionFrames = new ArrayDeque<>();
+        this.equalityOperands = new HashMap<>();
+        this.equalityConjunction = true;
+        this.conjunction = true;
+        this.filteredColumns = new LinkedHashMap<>();
+        this.mathTerms = new ArrayDeque<>();
     }
 
     private RDBMSConditionVisitor() {
@@ -61,14 +100,56 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
     }
 
     public String returnCondition() {
-        this.parametrizeCondition();
-        return this.finalCompiledCondition.trim();
+        return this.condition.toString().trim();
     }
 
-    public SortedMap<Integer, Object> getParameters() {
+    /**
+     * Returns the constants and stream variables of the visited condition, in the order of their "?" placeholders.
+     *
+     * @return the parameters, as {@link Constant}s and {@link Attribute}s.
+     */
+    public List<Object> getParameters() {
         return this.parameters;
     }
 
+    /**
+     * Returns the calls of namespaced functions in the visited condition, which the condition refers to through
+     * placeholders.
+     *
+     * @return the function calls, in the order of their placeholder indexes.
+     */
+    public List<RDBMSFunctionCall> getFunctionCalls() {
+        return this.functionCalls;
+    }
+
+    /**
+     * Returns the operands which the table columns are compared against, if the visited condition is a conjunction of
+     * equality comparisons between table columns and constants or stream variables, e.g.
+     * "table.a == a and table.b == 'x'".
+     *
+     * @return a map of column names to their operands, or null if the condition is not such a conjunction.
+     */
+    public Map<String, Object> getEqualityOperands() {
+        if (!this.equalityConjunction || this.equalityOperands.isEmpty()) {
+            return null;
+        }
+        return this.equalityOperands;
+    }
+
+    /**
+     * Returns the columns which the visited condition compares against constants or stream variables, along with the
+     * operators they are compared with, if the condition is a conjunction, e.g. "table.a == a and table.b > 10".
+     * Comparisons of expressions of columns which can not be rewritten to compare the column alone, e.g.
+     * "table.a % 2 == a", and comparisons for inequality are left out, since they can not make use of an index on the
+     * column.
+     *
+     * @return a map of column names to their comparison operators, which is empty if the condition is not such a
+     * conjunction.
+     */
+    public Map<String, Compare.Operator> getFilteredColumns() {
+        return this.conjunction ? this.filteredColumns : new LinkedHashMap<>();
+    }
+
     @Override
     public void beginVisitAnd() {
         condition.append(RDBMSTableConstants.OPEN_PARENTHESIS);
@@ -101,6 +182,8 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitOr() {
+        this.equalityConjunction = false;
+        this.conjunction = false;
         condition.append(RDBMSTableConstants.OPEN_PARENTHESIS);
     }
 
@@ -131,6 +214,8 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitNot() {
+        this.equalityConjunction = false;
+        this.conjunction = false;
         condition.append(RDBMSTableConstants.SQL_NOT).append(RDBMSTableConstants.WHITESPACE);
     }
 
@@ -141,11 +226,41 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitCompare(Compare.Operator operator) {
+        if (operator != Compare.Operator.EQUAL) {
+            this.equalityConjunction = false;
+        }
+        this.inCompare = true;
+        this.compareColumn = null;
+        this.compareOperand = null;
+        this.compareIndexable = true;
         condition.append(RDBMSTableConstants.OPEN_PARENTHESIS);
+        // Comparisons within function arguments are written to a separate builder, hence they are not rewritten.
+        this.compareRewritable = this.functionFrames.isEmpty();
+        this.compareStart = this.condition.length();
+        this.compareParameterStart = this.parameters.size();
+        this.compareSides = new Term[2];
+        this.compareSide = 0;
+        this.mathTerms.clear();
     }
 
     @Override
     public void endVisitCompare(Compare.Operator operator) {
+        if (this.inCompare && this.compareRewritable) {
+            operator = this.rewriteCompare(operator);
+        }
+        if (this.compareColumn == null || this.compareOperand == null ||
+                this.equalityOperands.containsKey(this.compareColumn)) {
+            this.equalityConjunction = false;
+        } else {
+            this.equalityOperands.put(this.compareColumn, this.compareOperand);
+        }
+        if (this.compareIndexable && this.compareColumn != null && this.compareOperand != null &&
+                operator != Compare.Operator.NOT_EQUAL) {
+            // An equality comparison of a column takes precedence over range comparisons of it.
+            this.filteredColumns.merge(this.compareColumn, operator,
+                    (previous, current) -> previous == Compare.Operator.EQUAL ? previous : current);
+        }
+        this.inCompare = false;
         condition.append(RDBMSTableConstants.CLOSE_PARENTHESIS);
     }
 
@@ -161,6 +276,11 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitCompareRightOperand(Compare.Operator operator) {
+        this.compareSide = 1;
+        this.appendCompareOperator(operator);
+    }
+
+    private void appendCompareOperator(Compare.Operator operator) {
         switch (operator) {
             case EQUAL:
                 condition.append(RDBMSTableConstants.SQL_COMPARE_EQUAL);
@@ -191,6 +311,8 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitIsNull(String streamId) {
+        this.equalityConjunction = false;
+        this.compareRewritable = false;
         condition.append(RDBMSTableConstants.SQL_IS_NULL).append(RDBMSTableConstants.WHITESPACE);
     }
 
@@ -201,6 +323,8 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitIn(String storeId) {
+        this.equalityConjunction = false;
+        this.compareRewritable = false;
         condition.append(RDBMSTableConstants.SQL_IN).append(RDBMSTableConstants.WHITESPACE);
     }
 
@@ -211,9 +335,11 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitConstant(Object value, Attribute.Type type) {
-        String name = this.generateConstantName();
-        this.placeholders.put(name, new Constant(value, type));
-        condition.append("[").append(name).append("]").append(RDBMSTableConstants.WHITESPACE);
+        Constant constant = new Constant(value, type);
+        this.trackCompareOperand(constant);
+        this.addCompareTerm(Term.parameter(constant, type));
+        this.parameters.add(constant);
+        condition.append(RDBMSTableConstants.QUESTION_MARK).append(RDBMSTableConstants.WHITESPACE);
     }
 
     @Override
@@ -223,11 +349,19 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitMath(MathOperator mathOperator) {
+        this.equalityConjunction = false;
+        this.compareIndexable = false;
+        if (this.inCompare && this.compareRewritable) {
+            this.mathTerms.push(Term.math(mathOperator, null, null));
+        }
         condition.append(RDBMSTableConstants.OPEN_PARENTHESIS);
     }
 
     @Override
     public void endVisitMath(MathOperator mathOperator) {
+        if (this.inCompare && this.compareRewritable) {
+            this.addCompareTerm(this.mathTerms.pop());
+        }
         condition.append(RDBMSTableConstants.CLOSE_PARENTHESIS);
     }
 
@@ -243,6 +377,10 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitMathRightOperand(MathOperator mathOperator) {
+        this.appendMathOperator(mathOperator);
+    }
+
+    private void appendMathOperator(MathOperator mathOperator) {
         switch (mathOperator) {
             case ADD:
                 condition.append(RDBMSTableConstants.SQL_MATH_ADD);
@@ -270,41 +408,61 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitAttributeFunction(String namespace, String functionName) {
+        this.equalityConjunction = false;
+        this.compareIndexable = false;
+        this.compareRewritable = false;
         if (RDBMSTableUtils.isEmpty(namespace)) {
             condition.append(functionName).append(RDBMSTableConstants.OPEN_PARENTHESIS);
+            this.functionFrames.push(new FunctionFrame(null, null));
         } else {
-            throw new OperationNotSupportedException("The RDBMS Event table does not support function namespaces, " +
-                    "but namespace '" + namespace + "' was specified. Please use functions supported by the " +
-                    "defined RDBMS data store.");
+            this.functionFrames.push(new FunctionFrame(new RDBMSFunctionCall(namespace + ":" + functionName),
+                    this.condition));
         }
     }
 
     @Override
     public void endVisitAttributeFunction(String namespace, String functionName) {
-        if (RDBMSTableUtils.isEmpty(namespace)) {
+        FunctionFrame frame = this.functionFrames.pop();
+        if (frame.call == null) {
             condition.append(RDBMSTableConstants.CLOSE_PARENTHESIS).append(RDBMSTableConstants.WHITESPACE);
         } else {
-            throw new OperationNotSupportedException("The RDBMS Event table does not support function namespaces, " +
-                    "but namespace '" + namespace + "' was specified. Please use functions supported by the " +
-                    "defined RDBMS data store.");
+            frame.call.setParameterEnd(this.parameters.size());
+            this.condition = frame.enclosingCondition;
+            condition.append(RDBMSFunctionMapper.placeholder(this.functionCalls.size()))
+                    .append(RDBMSTableConstants.WHITESPACE);
+            this.functionCalls.add(frame.call);
         }
     }
 
     @Override
     public void beginVisitParameterAttributeFunction(int index) {
-        //Not applicable
+        FunctionFrame frame = this.functionFrames.peek();
+        if (frame.call == null) {
+            if (index > 0) {
+                condition.append(RDBMSTableConstants.SEPARATOR);
+            }
+        } else {
+            // The SQL of each argument is kept apart, since the SQL expression of the function may reorder them.
+            this.condition = new StringBuilder();
+            frame.argumentParameterStart = this.parameters.size();
+        }
     }
 
     @Override
     public void endVisitParameterAttributeFunction(int index) {
-        //Not applicable
+        FunctionFrame frame = this.functionFrames.peek();
+        if (frame.call != null) {
+            frame.call.addArgument(this.condition.toString().trim(), frame.argumentParameterStart);
+        }
     }
 
     @Override
     public void beginVisitStreamVariable(String id, String streamId, String attributeName, Attribute.Type type) {
-        String name = this.generateStreamVarName();
-        this.placeholders.put(name, new Attribute(id, type));
-        condition.append("[").append(name).append("]").append(RDBMSTableConstants.WHITESPACE);
+        Attribute variable = new Attribute(id, type);
+        this.trackCompareOperand(variable);
+        this.addCompareTerm(Term.parameter(variable, type));
+        this.parameters.add(variable);
+        condition.append(RDBMSTableConstants.QUESTION_MARK).append(RDBMSTableConstants.WHITESPACE);
     }
 
     @Override
@@ -314,6 +472,12 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitStoreVariable(String storeId, String attributeName, Attribute.Type type) {
+        if (!this.inCompare || this.compareColumn != null) {
+            this.equalityConjunction = false;
+            this.compareIndexable = false;
+        }
+        this.compareColumn = attributeName;
+        this.addCompareTerm(Term.column(attributeName, type));
         condition.append(this.tableName).append(".").append(attributeName).append(RDBMSTableConstants.WHITESPACE);
     }
 
@@ -323,51 +487,267 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
     }
 
     /**
-     * Util method for walking through the generated condition string and isolating the parameters which will be filled
-     * in later as part of building the SQL statement. This method will:
-     * (a) eliminate all temporary placeholders and put "?" in their places.
-     * (b) build and maintain a sorted map of ordinals and the coresponding parameters which will fit into the above
-     * places in the PreparedStatement.
+     * Keeps track of the non-column operand of the comparison being visited, for detecting equality conjunctions.
+     *
+     * @param operand the constant or stream variable being visited.
+     */
+    private void trackCompareOperand(Object operand) {
+        if (!this.inCompare || this.compareOperand != null) {
+            this.equalityConjunction = false;
+            this.compareIndexable = false;
+        }
+        this.compareOperand = operand;
+    }
+
+    /**
+     * Adds a visited operand to the tree of the comparison being visited, as an operand of the innermost math
+     * operation being visited, or as a side of the comparison.
+     *
+     * @param term the visited operand.
      */
-    private void parametrizeCondition() {
-        String query = this.condition.toString();
-        String[] tokens = query.split("\\[");
-        int ordinal = 1;
-        for (String token : tokens) {
-            if (token.contains("]")) {
-                String candidate = token.substring(0, token.indexOf("]"));
-                if (this.placeholders.containsKey(candidate)) {
-                    this.parameters.put(ordinal, this.placeholders.get(candidate));
-                    ordinal++;
-                }
+    private void addCompareTerm(Term term) {
+        if (!this.inCompare || !this.compareRewritable) {
+            return;
+        }
+        Term operation = this.mathTerms.peek();
+        if (operation != null) {
+            if (operation.left == null) {
+                operation.left = term;
+            } else {
+                operation.right = term;
             }
+        } else if (this.compareSides[this.compareSide] == null) {
+            this.compareSides[this.compareSide] = term;
+        } else {
+            this.compareRewritable = false;
         }
-        for (String placeholder : this.placeholders.keySet()) {
-            query = query.replace("[" + placeholder + "]", "?");
+    }
+
+    /**
+     * Rewrites the comparison being visited so that a table column which is an operand of math operations on one of
+     * its sides is compared alone, by applying the inverse operations to the other side. The comparison is left as
+     * is unless the column can be isolated, i.e. unless it is the only column of the comparison and each operation
+     * on it is invertible for its type.
+     *
+     * @param operator the operator of the comparison.
+     * @return the operator of the rewritten comparison, which is reversed if the column moved to the other side or
+     * was subtracted.
+     */
+    private Compare.Operator rewriteCompare(Compare.Operator operator) {
+        Term columnSide = this.compareSides[0];
+        Term otherSide = this.compareSides[1];
+        if (columnSide == null || otherSide == null) {
+            return operator;
         }
-        this.finalCompiledCondition = query;
+        Compare.Operator rewrittenOperator = operator;
+        if (!columnSide.containsColumn()) {
+            columnSide = otherSide;
+            otherSide = this.compareSides[0];
+            rewrittenOperator = reverse(operator);
+        }
+        Term column = columnSide.findColumn();
+        if (column == null || otherSide.containsColumn()) {
+            return operator;
+        }
+        if (columnSide != column && !isNumeric(column.type)) {
+            return operator;
+        }
+        if (columnSide == column) {
+            if (otherSide.operator != null) {
+                // Already compares the column alone, against an expression of parameters.
+                this.compareIndexable = true;
+                this.compareOperand = otherSide;
+            }
+            return operator;
+        }
+        while (columnSide != column) {
+            boolean columnOnLeft = columnSide.left.containsColumn();
+            Term operand = columnOnLeft ? columnSide.right : columnSide.left;
+            if (operand.containsColumn()) {
+                return operator;
+            }
+            switch (columnSide.operator) {
+                case ADD:
+                    if (isFloatingPoint(column.type)) {
+                        return operator;
+                    }
+                    otherSide = Term.math(MathOperator.SUBTRACT, otherSide, operand);
+                    break;
+                case SUBTRACT:
+                    if (isFloatingPoint(column.type)) {
+                        return operator;
+                    } else if (columnOnLeft) {
+                        otherSide = Term.math(MathOperator.ADD, otherSide, operand);
+                    } else {
+                        otherSide = Term.math(MathOperator.SUBTRACT, operand, otherSide);
+                        rewrittenOperator = reverse(rewrittenOperator);
+                    }
+                    break;
+                case MULTIPLY:
+                    // Dividing by a floating point constant, which does not truncate the other side.
+                    if (!isFloatingPoint(column.type) || !isPowerOfTwoConstant(operand)) {
+                        return operator;
+                    }
+                    otherSide = Term.math(MathOperator.DIVIDE, otherSide, toFloatingPoint(operand));
+                    break;
+                case DIVIDE:
+                    if (!columnOnLeft || !isFloatingPoint(column.type) || !isPowerOfTwoConstant(operand)) {
+                        return operator;
+                    }
+                    otherSide = Term.math(MathOperator.MULTIPLY, otherSide, operand);
+                    break;
+                default:
+                    return operator;
+            }
+            columnSide = columnOnLeft ? columnSide.left : columnSide.right;
+        }
+        this.condition.setLength(this.compareStart);
+        this.parameters.subList(this.compareParameterStart, this.parameters.size()).clear();
+        this.appendTerm(column);
+        this.appendCompareOperator(rewrittenOperator);
+        this.appendTerm(otherSide);
+        this.compareIndexable = true;
+        this.compareOperand = otherSide;
+        return rewrittenOperator;
+    }
+
+    /**
+     * Writes a term to the condition, recording its parameters in the order of their placeholders.
+     *
+     * @param term the term.
+     */
+    private void appendTerm(Term term) {
+        if (term.operator != null) {
+            condition.append(RDBMSTableConstants.OPEN_PARENTHESIS);
+            this.appendTerm(term.left);
+            this.appendMathOperator(term.operator);
+            this.appendTerm(term.right);
+            condition.append(RDBMSTableConstants.CLOSE_PARENTHESIS);
+        } else if (term.column != null) {
+            condition.append(this.tableName).append(".").append(term.column).append(RDBMSTableConstants.WHITESPACE);
+        } else {
+            this.parameters.add(term.parameter);
+            condition.append(RDBMSTableConstants.QUESTION_MARK).append(RDBMSTableConstants.WHITESPACE);
+        }
+    }
+
+    private static Compare.Operator reverse(Compare.Operator operator) {
+        switch (operator) {
+            case GREATER_THAN:
+                return Compare.Operator.LESS_THAN;
+            case GREATER_THAN_EQUAL:
+                return Compare.Operator.LESS_THAN_EQUAL;
+            case LESS_THAN:
+                return Compare.Operator.GREATER_THAN;
+            case LESS_THAN_EQUAL:
+                return Compare.Operator.GREATER_THAN_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
+    private static boolean isNumeric(Attribute.Type type) {
+        return type == Attribute.Type.INT || type == Attribute.Type.LONG || isFloatingPoint(type);
+    }
+
+    private static boolean isFloatingPoint(Attribute.Type type) {
+        return type == Attribute.Type.FLOAT || type == Attribute.Type.DOUBLE;
     }
 
     /**
-     * Method for generating a temporary placeholder for stream variables.
+     * Checks whether a term is a positive constant which is a power of two, e.g. 0.25, 1 or 8, by which floating point
+     * values are multiplied or divided without rounding.
      *
-     * @return a placeholder string of known format.
+     * @param term the term.
+     * @return true if the term is such a constant.
      */
-    private String generateStreamVarName() {
-        String name = "strVar" + this.streamVarCount;
-        this.streamVarCount++;
-        return name;
+    private static boolean isPowerOfTwoConstant(Term term) {
+        if (!(term.parameter instanceof Constant) || !(((Constant) term.parameter).getValue() instanceof Number)) {
+            return false;
+        }
+        double value = ((Number) ((Constant) term.parameter).getValue()).doubleValue();
+        return value >= Double.MIN_NORMAL && value <= Double.MAX_VALUE &&
+                value == Math.scalb(1.0, Math.getExponent(value));
     }
 
     /**
-     * Method for generating a temporary placeholder for constants.
+     * Promotes a numeric constant to a DOUBLE constant, unless it already is a floating point one.
      *
-     * @return a placeholder string of known format.
+     * @param term the term of the constant.
+     * @return the term of the floating point constant.
+     */
+    private static Term toFloatingPoint(Term term) {
+        if (isFloatingPoint(term.type)) {
+            return term;
+        }
+        double value = ((Number) ((Constant) term.parameter).getValue()).doubleValue();
+        return Term.parameter(new Constant(value, Attribute.Type.DOUBLE), Attribute.Type.DOUBLE);
+    }
+
+    /**
+     * The state of a function call being visited. Plain SQL functions are written to the condition directly, whereas
+     * the arguments of namespaced functions are collected into a {@link RDBMSFunctionCall}.
+     */
+    private static class FunctionFrame {
+
+        private final RDBMSFunctionCall call;
+        private final StringBuilder enclosingCondition;
+        private int argumentParameterStart;
+
+        private FunctionFrame(RDBMSFunctionCall call, StringBuilder enclosingCondition) {
+            this.call = call;
+            this.enclosingCondition = enclosingCondition;
+        }
+    }
+
+    /**
+     * An operand of a comparison being visited, which is either a table column, a parameter, i.e. a constant or a
+     * stream variable, or a math operation over two terms.
      */
-    private String generateConstantName() {
-        String name = "const" + this.constantCount;
-        this.constantCount++;
-        return name;
+    private static class Term {
+
+        private final String column;
+        private final Object parameter;
+        private final Attribute.Type type;
+        private final MathOperator operator;
+        private Term left;
+        private Term right;
+
+        private Term(String column, Object parameter, Attribute.Type type, MathOperator operator, Term left,
+                     Term right) {
+            this.column = column;
+            this.parameter = parameter;
+            this.type = type;
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        private static Term column(String column, Attribute.Type type) {
+            return new Term(column, null, type, null, null, null);
+        }
+
+        private static Term parameter(Object parameter, Attribute.Type type) {
+            return new Term(null, parameter, type, null, null, null);
+        }
+
+        private static Term math(MathOperator operator, Term left, Term right) {
+            return new Term(null, null, null, operator, left, right);
+        }
+
+        private boolean containsColumn() {
+            return this.findColumn() != null;
+        }
+
+        private Term findColumn() {
+            if (this.column != null) {
+                return this;
+            } else if (this.operator == null || this.left == null || this.right == null) {
+                return null;
+            }
+            Term column = this.left.findColumn();
+            return (column != null) ? column : this.right.findColumn();
+        }
     }
 
 }
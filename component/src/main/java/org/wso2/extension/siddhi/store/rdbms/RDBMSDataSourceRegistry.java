@@ -0,0 +1,108 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * A process-wide registry of the connection pools created from the connection parameters of RDBMS Event Tables.
+ * Tables with identical connection parameters (i.e. JDBC URL, credentials, driver and pool properties) share a single
+ * pool, which is closed once the last of these tables releases it.
+ */
+public class RDBMSDataSourceRegistry {
+
+    private static final Log log = LogFactory.getLog(RDBMSDataSourceRegistry.class);
+    private static final Map<Map<String, String>, SharedDataSource> DATA_SOURCES = new HashMap<>();
+
+    private RDBMSDataSourceRegistry() {
+        //preventing initialization
+    }
+
+    /**
+     * Returns the pool for the given connection properties, creating it if no table holds such a pool at the moment.
+     * Each call needs to be matched by a call to {@link #release(HikariDataSource)}.
+     *
+     * @param connectionProperties the Hikari configuration properties.
+     * @return the shared pool.
+     */
+    public static synchronized HikariDataSource acquire(Properties connectionProperties) {
+        Map<String, String> key = new TreeMap<>();
+        connectionProperties.stringPropertyNames()
+                .forEach(name -> key.put(name, connectionProperties.getProperty(name)));
+        SharedDataSource shared = DATA_SOURCES.get(key);
+        if (shared == null) {
+            shared = new SharedDataSource(new HikariDataSource(new HikariConfig(connectionProperties)));
+            DATA_SOURCES.put(key, shared);
+            if (log.isDebugEnabled()) {
+                log.debug("Created the shared pool '" + shared.dataSource.getPoolName() + "'.");
+            }
+        }
+        shared.referenceCount++;
+        return shared.dataSource;
+    }
+
+    /**
+     * Releases a pool obtained through {@link #acquire(Properties)}, closing it if no other table holds it.
+     *
+     * @param dataSource the pool to be released.
+     */
+    public static synchronized void release(HikariDataSource dataSource) {
+        Iterator<SharedDataSource> iterator = DATA_SOURCES.values().iterator();
+        while (iterator.hasNext()) {
+            SharedDataSource shared = iterator.next();
+            if (shared.dataSource == dataSource) {
+                shared.referenceCount--;
+                if (shared.referenceCount == 0) {
+                    iterator.remove();
+                    dataSource.close();
+                    if (log.isDebugEnabled()) {
+                        log.debug("Closing the pool name: " + dataSource.getPoolName());
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of pools which are currently held by tables.
+     *
+     * @return the number of shared pools.
+     */
+    static synchronized int getDataSourceCount() {
+        return DATA_SOURCES.size();
+    }
+
+    private static class SharedDataSource {
+        private final HikariDataSource dataSource;
+        private int referenceCount;
+
+        private SharedDataSource(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -17,7 +17,6 @@
 */
 package org.wso2.extension.siddhi.store.rdbms;
 
-import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.pool.PoolInitializationException;
 import org.apache.commons.logging.Log;
@@ -27,10 +26,17 @@ import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.ServiceReference;
 import org.wso2.carbon.datasource.core.api.DataSourceService;
 import org.wso2.carbon.datasource.core.exception.DataSourceException;
+import org.wso2.extension.siddhi.store.rdbms.config.RDBMSFunctionMapping;
 import org.wso2.extension.siddhi.store.rdbms.config.RDBMSQueryConfigurationEntry;
 import org.wso2.extension.siddhi.store.rdbms.config.RDBMSTypeMapping;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSBatchExecutionException;
 import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+import org.wso2.extension.siddhi.store.rdbms.util.Constant;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSBulkCopier;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSCopyTextEncoder;
 import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableUtils;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSValueBinder;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSValueReader;
 import org.wso2.siddhi.annotation.Example;
 import org.wso2.siddhi.annotation.Extension;
 import org.wso2.siddhi.annotation.Parameter;
@@ -51,64 +57,158 @@ import org.wso2.siddhi.query.api.definition.Attribute;
 import org.wso2.siddhi.query.api.definition.TableDefinition;
 import org.wso2.siddhi.query.api.util.AnnotationHelper;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ADVISED_INDEX_CREATE_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_DRIVER_CLASS_NAME;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BUFFER_FAILURE_POLICY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BUFFER_FULL_POLICY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BUFFER_RETRY_COUNT;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BUFFER_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_CACHE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_CACHE_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_CACHE_TTL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_CONNECTION_QUOTA;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_DATASOURCE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_FETCH_SIZE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_FIELD_LENGTHS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_FLUSH_INTERVAL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_FLUSH_THREADS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_INDEX_ADVISOR;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_JNDI_RESOURCE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_KEY_FILTER;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_KEY_FILTER_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_LOOKUP_BATCHING;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PASSWORD;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PLAN_INSPECTION;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PLAN_INSPECTION_ROWS;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_POOL_PROPERTIES;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_RETENTION_ATTRIBUTE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_RETENTION_CHUNK_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_RETENTION_INTERVAL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_RETENTION_PAUSE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_RETENTION_PERIOD;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_TABLE_NAME;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_URL;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_USERNAME;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_WRITE_COALESCING;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_WRITE_MODE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.BATCH_ENABLE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.BATCH_SIZE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.BINARY_TYPE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.BOOLEAN_TYPE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.BULK_COPY_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.BULK_COPY_THRESHOLD;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.CLOSE_PARENTHESIS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.COMMIT_PER_BATCH;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.COST_PATTERN;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.CURSOR_MODE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.CURSOR_MODE_NONE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.CURSOR_MODE_STREAMING;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.CURSOR_MODE_TRANSACTION;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_BUFFER_RETRY_COUNT;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_BUFFER_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_CACHE_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_CACHE_TTL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_FLUSH_INTERVAL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_FLUSH_THREADS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_KEY_FILTER_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_KEY_LIST_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_PLAN_INSPECTION_ROWS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_RETENTION_CHUNK_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_RETENTION_INTERVAL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DEFAULT_RETENTION_PAUSE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.DOUBLE_TYPE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.EXPLAIN_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.FETCH_MEMORY_BUDGET;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.FETCH_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.FETCH_SIZE_ADAPTIVE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.FLOAT_TYPE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.FULL_SCAN_PATTERN;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.FUNCTION_MAPPING;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.INDEX_CREATE_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.INTEGER_TYPE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.LONG_TYPE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.MAX_ADAPTIVE_FETCH_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.MAX_BIND_PARAMETERS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.MIN_ADAPTIVE_FETCH_SIZE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.MULTI_ROW_INSERT_ENABLE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.OPEN_PARENTHESIS;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS_FOR_CREATE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS_VALUES;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_CONDITION;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_INDEX;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_INDEX_NAME;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_KEY_CONDITION;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_LIMIT;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_PRIMARY_KEYS;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_Q;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_RETENTION_COLUMN;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_SOURCE_COLUMNS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_SOURCE_VALUES;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_STAGING_TABLE_NAME;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_TABLE_NAME;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PROPERTY_SEPARATOR;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.QUESTION_MARK;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_DELETE_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_EXISTS_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_INSERT_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_PURGE_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_SELECT_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_UPDATE_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RECORD_UPSERT_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.ROW_WISE_UPDATE_OR_INSERT;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SEPARATOR;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_AND;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_AS;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_NOT_NULL;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_PRIMARY_KEY_DEF;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STAGING_SOURCE_ALIAS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STAGING_TABLE_CREATE_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STAGING_TABLE_NAME;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STAGING_UPSERT_QUERY;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STAGING_UPSERT_THRESHOLD;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STRING_SIZE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.STRING_TYPE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.TABLE_CHECK_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.TABLE_CREATE_QUERY;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.TRANSACTION_SUPPORTED;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.TYPE_MAPPING;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.UPSERT_SOURCE_ALIAS;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.WHITESPACE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.WRITE_MODE_ASYNC;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.WRITE_MODE_SYNC;
 import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
 
 /**
@@ -134,10 +234,19 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                         type = {DataType.STRING}),
                 @Parameter(name = "pool.properties",
                         description = "Any pool parameters for the database connection must be specified as key value" +
-                                " pairs.",
+                                " pairs. Tables with the same JDBC URL, credentials, driver and pool properties " +
+                                "share a single connection pool.",
                         type = {DataType.STRING},
                         optional = true,
                         defaultValue = "null"),
+                @Parameter(name = "connection.quota",
+                        description = "The maximum number of connections which the table may hold at a time, so " +
+                                "that a busy table does not take up all connections of a pool shared with other " +
+                                "tables. Operations which need a connection beyond the quota wait for one to be " +
+                                "returned, for up to the connection timeout of the pool.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "The maximum size of the pool"),
                 @Parameter(name = "jndi.resource",
                         description = "The name of the JNDI resource through which the connection is attempted. " +
                                 "If this is found, the pool properties described above are not taken into account, " +
@@ -166,7 +275,191 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                                 "characters specific to the database type is considered.",
                         type = {DataType.STRING},
                         optional = true,
-                        defaultValue = "null")
+                        defaultValue = "null"),
+                @Parameter(name = "write.mode",
+                        description = "The mode in which records are inserted into the table. In the `sync` mode, " +
+                                "records are written to the data store on the thread that inserts them. In the " +
+                                "`async` mode, records are held in a bounded write-behind buffer and are written in " +
+                                "batches by dedicated flusher threads. Records which are still buffered are not " +
+                                "visible to read operations, and all buffered records are written when the table is " +
+                                "disconnected.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "sync"),
+                @Parameter(name = "flush.interval",
+                        description = "The maximum time a record is held in the write-behind buffer before it is " +
+                                "written, e.g. `50 ms`. This is only applicable in the `async` write mode.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "1 sec"),
+                @Parameter(name = "buffer.size",
+                        description = "The maximum number of records that can be held in the write-behind buffer. " +
+                                "This is only applicable in the `async` write mode.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "10000"),
+                @Parameter(name = "flush.threads",
+                        description = "The number of threads which write the buffered records to the data store. " +
+                                "When more than one thread is used, the order of the writes is not guaranteed. This " +
+                                "is only applicable in the `async` write mode.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(name = "buffer.full.policy",
+                        description = "The action taken when records are inserted while the write-behind buffer is " +
+                                "full. `block` makes the inserting thread wait until there is room in the buffer, " +
+                                "`drop` discards the records that do not fit, and `spill` writes them synchronously " +
+                                "on the inserting thread. This is only applicable in the `async` write mode.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "block"),
+                @Parameter(name = "buffer.failure.policy",
+                        description = "The action taken when a batch of buffered records cannot be written, e.g. " +
+                                "while the data store is unavailable. The records which were not committed are kept " +
+                                "in the write-behind buffer and retried with an exponential backoff starting from " +
+                                "the `flush.interval`. `retry` retries them until they are written, whereas `drop` " +
+                                "discards them once `buffer.retry.count` consecutive writes failed. Records which " +
+                                "still cannot be written 30 seconds after the table is shut down are discarded in " +
+                                "either case. This is only applicable in the `async` write mode.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "retry"),
+                @Parameter(name = "buffer.retry.count",
+                        description = "The number of consecutive failed writes after which buffered records are " +
+                                "discarded. This is only applicable in the `async` write mode, with the `drop` " +
+                                "buffer failure policy.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "3"),
+                @Parameter(name = "cache",
+                        description = "Enables a read-through cache of the results of the lookups made on the " +
+                                "table, e.g. by joins. The cache is cleared whenever the table is modified through " +
+                                "Siddhi, but changes made to the underlying database table by other clients are only " +
+                                "seen once the cached results expire.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "cache.size",
+                        description = "The maximum number of records held in the lookup cache. Results with more " +
+                                "records than this are not cached. This is only applicable when the cache is enabled.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "10000"),
+                @Parameter(name = "cache.ttl",
+                        description = "The time after which a cached lookup result expires, e.g. `30 sec`. This is " +
+                                "only applicable when the cache is enabled.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "30 sec"),
+                @Parameter(name = "lookup.batching",
+                        description = "Enables collapsing concurrent lookups on the table, e.g. by joins processed " +
+                                "in parallel, into a single query matching the keys of all of them. This is only " +
+                                "applied to conditions which compare table columns for equality and nothing else, " +
+                                "where none of the columns are of the `STRING`, `FLOAT` or `DOUBLE` types, since " +
+                                "the matching records are assigned to each lookup by comparing the key values " +
+                                "exactly, whereas the database may compare strings case-insensitively.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "key.filter",
+                        description = "Enables an in-memory filter of the primary key values of the table, which is " +
+                                "loaded from the database when the table connects and kept up to date by the " +
+                                "records written through the table. `Update or Insert` operations which match " +
+                                "records on their primary keys insert the records whose keys are definitely absent " +
+                                "right away, without attempting to update them first. This should only be enabled " +
+                                "if no other client inserts records into the underlying database table.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "key.filter.size",
+                        description = "The number of keys for which the key filter is sized. The filter takes up " +
+                                "about 1.2 bytes per key, and tells absent keys apart less often once the table " +
+                                "holds more keys than this. This is only applicable when the key filter is enabled.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1000000"),
+                @Parameter(name = "write.coalescing",
+                        description = "Enables collapsing the records of a single `Update`, `Update or Insert` or " +
+                                "`Delete` operation which match the same records of the table, before they are " +
+                                "sent to the database. Repeated deletes are sent once, and of repeated updates only " +
+                                "the last one is sent, with the record to be inserted combining all of them. " +
+                                "Updates are only collapsed if the condition compares table columns for equality " +
+                                "and nothing else, and the attributes being set are set to plain values and not " +
+                                "compared by the condition, so that the final state of the table is unchanged.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "retention.attribute",
+                        description = "The `long` attribute holding the time (in milliseconds since the epoch) of " +
+                                "each record, e.g. the event timestamp, according to which records are deleted " +
+                                "from the table once they are older than the retention period. The attribute " +
+                                "should be indexed through the `@Index` annotation, since expired records are " +
+                                "looked up by it.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "null"),
+                @Parameter(name = "retention.period",
+                        description = "The time for which records are retained, e.g. `7 days`. This needs to be " +
+                                "given along with the retention attribute.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "null"),
+                @Parameter(name = "retention.interval",
+                        description = "The time between the end of a purge of the expired records and the start of " +
+                                "the next one. This is only applicable when a retention period is given.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "1 min"),
+                @Parameter(name = "retention.chunk.size",
+                        description = "The maximum number of expired records deleted at a time. Each chunk is " +
+                                "committed on its own, so that a purge does not hold locks on many records at once. " +
+                                "This is only applicable when a retention period is given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1000"),
+                @Parameter(name = "retention.pause",
+                        description = "The time to pause between the chunks of a purge, which limits the rate at " +
+                                "which expired records are deleted to the chunk size per pause. This is only " +
+                                "applicable when a retention period is given.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "100 ms"),
+                @Parameter(name = "fetch.size",
+                        description = "The number of rows fetched from the database at a time when reading records, " +
+                                "overriding the `fetchSize` system parameter of the database. A value of `0` leaves " +
+                                "it to the JDBC driver, which may then read the whole result into memory. The value " +
+                                "`adaptive` derives the fetch size from the estimated size of a row and the " +
+                                "`fetchMemoryBudget` system parameter.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "The fetchSize system parameter"),
+                @Parameter(name = "index.advisor",
+                        description = "What is done about the indexes which the conditions of the queries on the " +
+                                "table would benefit from, but which the table is missing when it connects. The " +
+                                "advised index of a condition consists of the columns compared for equality, " +
+                                "followed by a column compared by range. `off` does not look for missing indexes, " +
+                                "`log` logs the statements which would create them, and `create` creates them.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "log"),
+                @Parameter(name = "plan.inspection",
+                        description = "What is done about the find, contains, update and delete operations which " +
+                                "would scan the whole table. The plan of each distinct condition is obtained " +
+                                "through the EXPLAIN query of the database the first time the condition is used, " +
+                                "and operations whose plan scans more rows than `plan.inspection.rows`, or an " +
+                                "unknown number of rows, are flagged. `off` does not inspect plans, `log` logs the " +
+                                "flagged conditions, `throttle` also executes at most one flagged operation at a " +
+                                "time on the table, and `reject` refuses flagged operations. Plans are not " +
+                                "inspected for databases without an EXPLAIN query.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "off"),
+                @Parameter(name = "plan.inspection.rows",
+                        description = "The estimated number of rows above which a full table scan is flagged by " +
+                                "the plan inspection.",
+                        type = {DataType.LONG},
+                        optional = true,
+                        defaultValue = "10000")
         },
         examples = {
                 @Example(
@@ -181,6 +474,35 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                                 "of the types types `string`, `float` and `long` respectively). The connection is " +
                                 "made as specified by the parameters configured for the '@Store' annotation. The " +
                                 "`symbol` attribute is considered a unique field, and a DB index is created for it."
+                ),
+                @Example(
+                        syntax = "@Store(type=\"rdbms\", jdbc.url=\"jdbc:mysql://localhost:3306/das\", " +
+                                "username=\"root\", password=\"root\" , jdbc.driver.name=\"com.mysql.jdbc.Driver\"," +
+                                "write.mode=\"async\", flush.interval=\"50 ms\", buffer.size=\"100000\")\n" +
+                                "define table StockTable (symbol string, price float, volume long);",
+                        description = "The above example creates an event table named `StockTable` whose inserts " +
+                                "are buffered and written to the DB in batches by a background thread, at least " +
+                                "once every 50 milliseconds. Up to 100000 records can be buffered, after which the " +
+                                "inserting threads are blocked until the buffer is drained."
+                ),
+                @Example(
+                        syntax = "@Store(type=\"rdbms\", jdbc.url=\"jdbc:mysql://localhost:3306/das\", " +
+                                "username=\"root\", password=\"root\" , jdbc.driver.name=\"com.mysql.jdbc.Driver\"," +
+                                "cache=\"true\", cache.size=\"50000\", cache.ttl=\"30 sec\")\n" +
+                                "@PrimaryKey(\"symbol\")" +
+                                "define table StockTable (symbol string, price float, volume long);",
+                        description = "The above example creates an event table named `StockTable` whose lookups " +
+                                "are served from a cache of up to 50000 records for up to 30 seconds, unless the " +
+                                "table is modified in the meantime."
+                ),
+                @Example(
+                        syntax = "@Store(type=\"rdbms\", jdbc.url=\"jdbc:mysql://localhost:3306/das\", " +
+                                "username=\"root\", password=\"root\" , jdbc.driver.name=\"com.mysql.jdbc.Driver\"," +
+                                "retention.attribute=\"timestamp\", retention.period=\"7 days\")\n" +
+                                "@Index(\"timestamp\")" +
+                                "define table SessionTable (sessionId string, user string, timestamp long);",
+                        description = "The above example creates an event table named `SessionTable` whose records " +
+                                "are deleted in the background once their `timestamp` is more than 7 days old."
                 )
         },
         systemParameter = {
@@ -295,6 +617,50 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                                 "<b>DB2.*</b>: DELETE FROM {{TABLE_NAME}} {{CONDITION}}",
                         possibleParameters = "N/A"
                 ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.recordPurgeQuery",
+                        description = "The query through which a chunk of the records whose retention attribute is " +
+                                "less than the given time is deleted, when a retention period is given for the " +
+                                "table.",
+                        defaultValue = "<b>H2</b>: DELETE FROM {{TABLE_NAME}} WHERE {{RETENTION_COLUMN}} < ? " +
+                                "LIMIT {{LIMIT}}<br>" +
+                                "<b>MySQL</b>: DELETE FROM {{TABLE_NAME}} WHERE {{RETENTION_COLUMN}} < ? ORDER BY " +
+                                "{{RETENTION_COLUMN}} LIMIT {{LIMIT}}<br>" +
+                                "<b>Oracle</b>: DELETE FROM {{TABLE_NAME}} WHERE {{RETENTION_COLUMN}} < ? AND " +
+                                "ROWNUM <= {{LIMIT}}<br>" +
+                                "<b>Microsoft SQL Server</b>: DELETE TOP ({{LIMIT}}) FROM {{TABLE_NAME}} WHERE " +
+                                "{{RETENTION_COLUMN}} < ?<br>" +
+                                "<b>PostgreSQL</b>: DELETE FROM {{TABLE_NAME}} WHERE ctid = ANY (ARRAY(SELECT ctid " +
+                                "FROM {{TABLE_NAME}} WHERE {{RETENTION_COLUMN}} < ? LIMIT {{LIMIT}}))<br>" +
+                                "<b>DB2.*</b>: DELETE FROM (SELECT 1 FROM {{TABLE_NAME}} WHERE {{RETENTION_COLUMN}} " +
+                                "< ? FETCH FIRST {{LIMIT}} ROWS ONLY)",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.recordUpsertQuery",
+                        description = "The single-statement query for the `update or insert` operation in " +
+                                "{{RDBMS-Name}}. It is used instead of separate update and insert statements when " +
+                                "the condition of the operation compares each primary key column for equality, and " +
+                                "nothing else. `{{KEY_CONDITION}}` and `{{SOURCE_COLUMNS}}` refer to the source " +
+                                "values through the `SRC` alias. If the query does not contain " +
+                                "`{{COLUMNS_AND_VALUES}}`, it is taken to replace the whole row, and is only used " +
+                                "when every other column is set to the value being inserted.",
+                        defaultValue = "<b>H2</b>: MERGE INTO {{TABLE_NAME}} ({{COLUMNS}}) KEY ({{PRIMARY_KEYS}}) " +
+                                "VALUES ({{Q}})<br>" +
+                                "<b>MySQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES ({{Q}}) ON DUPLICATE " +
+                                "KEY UPDATE {{COLUMNS_AND_VALUES}}<br>" +
+                                "<b>Oracle</b>: MERGE INTO {{TABLE_NAME}} USING (SELECT {{SOURCE_VALUES}} FROM DUAL) " +
+                                "SRC ON ({{KEY_CONDITION}}) WHEN MATCHED THEN UPDATE SET {{COLUMNS_AND_VALUES}} WHEN " +
+                                "NOT MATCHED THEN INSERT ({{COLUMNS}}) VALUES ({{SOURCE_COLUMNS}})<br>" +
+                                "<b>Microsoft SQL Server</b>: MERGE INTO {{TABLE_NAME}} WITH (HOLDLOCK) USING " +
+                                "(SELECT {{SOURCE_VALUES}}) AS SRC ON ({{KEY_CONDITION}}) WHEN MATCHED THEN UPDATE " +
+                                "SET {{COLUMNS_AND_VALUES}} WHEN NOT MATCHED THEN INSERT ({{COLUMNS}}) VALUES " +
+                                "({{SOURCE_COLUMNS}});<br>" +
+                                "<b>PostgreSQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES ({{Q}}) ON " +
+                                "CONFLICT ({{PRIMARY_KEYS}}) DO UPDATE SET {{COLUMNS_AND_VALUES}}<br>" +
+                                "<b>DB2.*</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
                 @SystemParameter(
                         name = "{{RDBMS-Name}}.stringSize",
                         description = "This defines the length for the string fields in {{RDBMS-Name}}.",
@@ -318,10 +684,140 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                                 "<b>DB2.*</b>: 1000",
                         possibleParameters = "N/A"
                 ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.commitPerBatch",
+                        description = "This specifies whether records inserted or updated-or-inserted as a batch are " +
+                                "committed once per chunk of `batchSize` records (`true`), or once for the complete " +
+                                "batch (`false`). " +
+                                "When committing per chunk, a failure only rolls back the chunk being processed, and " +
+                                "the records of the earlier chunks remain committed.",
+                        defaultValue = "<b>H2</b>: false<br>" +
+                                "<b>MySQL</b>: false<br>" +
+                                "<b>Oracle</b>: false<br>" +
+                                "<b>Microsoft SQL Server</b>: false<br>" +
+                                "<b>PostgreSQL</b>: false<br>" +
+                                "<b>DB2.*</b>: false",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.multiRowInsertEnable",
+                        description = "This specifies whether batches of records are inserted through multi-row " +
+                                "`INSERT ... VALUES (...), (...)` statements which insert up to 256 rows per " +
+                                "statement execution, instead of one row per statement execution.",
+                        defaultValue = "<b>H2</b>: true<br>" +
+                                "<b>MySQL</b>: true<br>" +
+                                "<b>Oracle</b>: false<br>" +
+                                "<b>Microsoft SQL Server</b>: true<br>" +
+                                "<b>PostgreSQL</b>: true<br>" +
+                                "<b>DB2.*</b>: true",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.maxBindParameters",
+                        description = "The maximum number of bind parameters the database accepts in a single " +
+                                "statement. Multi-row insert statements which would exceed this limit are not used. " +
+                                "A value of `0` denotes that there is no limit.",
+                        defaultValue = "<b>H2</b>: 0<br>" +
+                                "<b>MySQL</b>: 65535<br>" +
+                                "<b>Oracle</b>: 65535<br>" +
+                                "<b>Microsoft SQL Server</b>: 2100<br>" +
+                                "<b>PostgreSQL</b>: 32767<br>" +
+                                "<b>DB2.*</b>: 32767",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.bulkCopyQuery",
+                        description = "The query used to stream records to the table through the bulk copy API of " +
+                                "the JDBC driver. Bulk copy is currently supported with the PostgreSQL driver only, " +
+                                "and is not used for tables with attributes of the 'object' type.",
+                        defaultValue = "<b>PostgreSQL</b>: COPY {{TABLE_NAME}} ({{COLUMNS}}) FROM STDIN<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.bulkCopyThreshold",
+                        description = "The minimum number of records which need to be added at once for them to be " +
+                                "written through bulk copy instead of batched insert statements. A value of `0` " +
+                                "disables bulk copy.",
+                        defaultValue = "<b>PostgreSQL</b>: 1000<br>" +
+                                "<b>Others</b>: 0",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.stagingUpsertQuery",
+                        description = "The set-based statement through which large `Update or Insert` batches are " +
+                                "applied to tables with primary keys, after the records are loaded into a " +
+                                "session-scoped staging table, which is named through `stagingTableName` and " +
+                                "created through `stagingTableCreateQuery`. The columns of the staging table are " +
+                                "referred to through the alias given by `stagingSourceAlias` in the SET clause. It " +
+                                "is only used if the records are matched on their primary keys, all updated " +
+                                "attributes are set to the values of the records, and no two records have the same " +
+                                "key. The records are applied and committed once per chunk of `batchSize` records " +
+                                "if `commitPerBatch` is `true`, and all at once otherwise.",
+                        defaultValue = "<b>H2</b>: MERGE INTO {{TABLE_NAME}} ({{COLUMNS}}) KEY ({{PRIMARY_KEYS}}) " +
+                                "SELECT {{COLUMNS}} FROM {{STAGING_TABLE_NAME}}<br>" +
+                                "<b>MySQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) SELECT {{SOURCE_COLUMNS}} " +
+                                "FROM {{STAGING_TABLE_NAME}} SRC ON DUPLICATE KEY UPDATE {{COLUMNS_AND_VALUES}}<br>" +
+                                "<b>Microsoft SQL Server</b>: MERGE INTO {{TABLE_NAME}} WITH (HOLDLOCK) USING " +
+                                "{{STAGING_TABLE_NAME}} AS SRC ON ({{KEY_CONDITION}}) WHEN MATCHED THEN UPDATE SET " +
+                                "{{COLUMNS_AND_VALUES}} WHEN NOT MATCHED THEN INSERT ({{COLUMNS}}) VALUES " +
+                                "({{SOURCE_COLUMNS}});<br>" +
+                                "<b>PostgreSQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) SELECT {{COLUMNS}} FROM " +
+                                "{{STAGING_TABLE_NAME}} ON CONFLICT ({{PRIMARY_KEYS}}) DO UPDATE SET " +
+                                "{{COLUMNS_AND_VALUES}}<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.stagingUpsertThreshold",
+                        description = "The minimum number of records which need to be updated or inserted at once " +
+                                "for them to be applied through the staging table. A value of `0` disables the " +
+                                "staging table.",
+                        defaultValue = "<b>H2</b>: 10000<br>" +
+                                "<b>MySQL</b>: 10000<br>" +
+                                "<b>Microsoft SQL Server</b>: 10000<br>" +
+                                "<b>PostgreSQL</b>: 10000<br>" +
+                                "<b>Others</b>: 0",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.fetchSize",
+                        description = "The number of rows fetched from the database at a time when reading records. " +
+                                "A value of `0` leaves it to the JDBC driver. This can be overridden per table " +
+                                "through the `fetch.size` parameter.",
+                        defaultValue = "<b>Oracle</b>: 1000<br>" +
+                                "<b>PostgreSQL</b>: 1000<br>" +
+                                "<b>DB2</b>: 1000<br>" +
+                                "<b>Others</b>: 0",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.cursorMode",
+                        description = "How the JDBC driver is made to read results incrementally. `transaction` " +
+                                "runs queries with auto-commit disabled, which the PostgreSQL driver requires for " +
+                                "honouring the fetch size. `streaming` has the MySQL driver stream the results row " +
+                                "by row, in which case the fetch size is not applicable. `none` only sets the fetch " +
+                                "size.",
+                        defaultValue = "<b>MySQL</b>: streaming<br>" +
+                                "<b>PostgreSQL</b>: transaction<br>" +
+                                "<b>Others</b>: none",
+                        possibleParameters = "none, transaction, streaming"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.fetchMemoryBudget",
+                        description = "The approximate amount of memory (in bytes) which a single fetch may take up, " +
+                                "used for deriving the fetch size of tables with `fetch.size` set to `adaptive`.",
+                        defaultValue = "8388608",
+                        possibleParameters = "N/A"
+                ),
                 @SystemParameter(
                         name = "{{RDBMS-Name}}.batchEnable",
                         description = "This specifies whether `Update` and `Insert` operations can be performed for" +
-                                " batches of events or not.",
+                                " batches of events or not. `Update or Insert` operations are batched whenever the " +
+                                "driver reports the number of records matched by each statement of a batch, which " +
+                                "is checked when the table connects, and this value is only used if that check " +
+                                "fails. Otherwise, the records are updated or inserted one at a time, each within a " +
+                                "savepoint if the database supports them.",
                         defaultValue = "<b>H2</b>: true<br>" +
                                 "<b>MySQL</b>: true<br>" +
                                 "<b>Oracle (versions 12.0 and less)</b>: false<br>" +
@@ -331,6 +827,14 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                                 "<b>DB2.*</b>: true",
                         possibleParameters = "N/A"
                 ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.rowWiseUpdateOrInsert",
+                        description = "This forces `Update or Insert` operations to update or insert the records " +
+                                "one at a time, each within a savepoint if the database supports them, instead of " +
+                                "in batches, regardless of the batch update counts reported by the driver.",
+                        defaultValue = "false",
+                        possibleParameters = "true or false"
+                ),
                 @SystemParameter(
                         name = "{{RDBMS-Name}}.transactionSupported",
                         description = "This is used to specify whether or not the JDBC connection that is used " +
@@ -342,15 +846,84 @@ import static org.wso2.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
                                 "<b>PostgreSQL</b>: true<br>" +
                                 "<b>DB2.*</b>: true",
                         possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.advisedIndexCreateQuery",
+                        description = "The template query for creating the indexes advised by the index advisor in " +
+                                "{{RDBMS-Name}}.",
+                        defaultValue = "<b>H2</b>: CREATE INDEX {{INDEX_NAME}} ON {{TABLE_NAME}} " +
+                                "({{INDEX_COLUMNS}})<br>" +
+                                "<b>MySQL</b>: CREATE INDEX {{INDEX_NAME}} ON {{TABLE_NAME}} ({{INDEX_COLUMNS}})<br>" +
+                                "<b>Oracle</b>: CREATE INDEX {{INDEX_NAME}} ON {{TABLE_NAME}} ({{INDEX_COLUMNS}})<br>" +
+                                "<b>Microsoft SQL Server</b>: CREATE INDEX {{INDEX_NAME}} ON {{TABLE_NAME}} " +
+                                "({{INDEX_COLUMNS}})<br>" +
+                                "<b>PostgreSQL</b>: CREATE INDEX {{INDEX_NAME}} ON {{TABLE_NAME}} " +
+                                "({{INDEX_COLUMNS}})<br>" +
+                                "<b>DB2.*</b>: CREATE INDEX {{INDEX_NAME}} ON {{TABLE_NAME}} ({{INDEX_COLUMNS}})",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.explainQuery",
+                        description = "The template query for obtaining the plan of a statement in {{RDBMS-Name}} " +
+                                "for the plan inspection, where '{{QUERY}}' stands for the statement.",
+                        defaultValue = "<b>H2</b>: EXPLAIN {{QUERY}}<br>" +
+                                "<b>MySQL</b>: EXPLAIN {{QUERY}}<br>" +
+                                "<b>PostgreSQL</b>: EXPLAIN {{QUERY}}<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.fullScanPattern",
+                        description = "The regular expression which matches the full table scans in the plans of " +
+                                "{{RDBMS-Name}}, whose optional group named 'rows' captures the estimated number of " +
+                                "rows of a scan. The rows of a plan are matched as lines of 'column=value' pairs.",
+                        defaultValue = "<b>H2</b>: \\.tableScan\\b<br>" +
+                                "<b>MySQL</b>: \\btype=ALL\\b.*?\\brows=(?&lt;rows&gt;\\d+)<br>" +
+                                "<b>PostgreSQL</b>: Seq Scan on \\S+\\s+\\(cost=\\S+ rows=(?&lt;rows&gt;\\d+)<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.costPattern",
+                        description = "The regular expression whose group named 'cost' captures the estimated cost " +
+                                "of a statement in the plans of {{RDBMS-Name}}, which is logged along with the " +
+                                "flagged statements.",
+                        defaultValue = "<b>PostgreSQL</b>: cost=[\\d.]+\\.\\.(?&lt;cost&gt;[\\d.]+)<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.functionMapping.{{namespace:function}}",
+                        description = "The SQL expression which a namespaced Siddhi function used in conditions on " +
+                                "the table is translated into in {{RDBMS-Name}}, so that the condition is evaluated " +
+                                "by the database. '{{N}}' stands for the N-th argument of the function, starting " +
+                                "from 0, and the expression must use each argument, in any order.",
+                        defaultValue = "<b>H2</b>: str:contains = (LOCATE({{1}}, {{0}}) > 0), str:lower = " +
+                                "LOWER({{0}}), math:abs = ABS({{0}}), ...<br>" +
+                                "<b>MySQL</b>: str:contains = (LOCATE({{1}}, {{0}}) > 0), ...<br>" +
+                                "<b>Oracle</b>: str:contains = (INSTR({{0}}, {{1}}) > 0), ...<br>" +
+                                "<b>Microsoft SQL Server</b>: str:contains = (CHARINDEX({{1}}, {{0}}) > 0), ...<br>" +
+                                "<b>PostgreSQL</b>: str:contains = (STRPOS({{0}}, {{1}}) > 0), ...<br>" +
+                                "<b>DB2.*</b>: str:contains = (LOCATE({{1}}, {{0}}) > 0), ...",
+                        possibleParameters = "N/A"
                 )
         }
 )
 public class RDBMSEventTable extends AbstractRecordTable {
 
     private static final Log log = LogFactory.getLog(RDBMSEventTable.class);
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+    private static final String OPERATION_FIND = "find";
+    private static final String OPERATION_CONTAINS = "contains";
+    private static final String OPERATION_DELETE = "delete";
+    private static final String OPERATION_UPDATE = "update";
+    private static final String OPERATION_UPSERT = "upsert";
+    private static final String OPERATION_STAGED_UPSERT = "stagedUpsert";
+    private static final String OPERATION_EXPLAIN = "explain";
     private RDBMSQueryConfigurationEntry queryConfigurationEntry;
     private HikariDataSource dataSource;
     private boolean isLocalDatasource;
+    private Semaphore connectionQuota;
     private String dataSourceName;
     private String tableName;
     private List<Attribute> attributes;
@@ -358,17 +931,38 @@ public class RDBMSEventTable extends AbstractRecordTable {
     private String jndiResourceName;
     private Annotation storeAnnotation;
     private Annotation primaryKeys;
+    private int[] primaryKeyIndexes;
     private Annotation indices;
     private String selectQuery;
     private String containsQuery;
     private String deleteQuery;
     private String insertQuery;
+    private String insertStatement;
+    private RDBMSValueBinder[] columnBinders;
+    private RDBMSRecordDecoder recordDecoder;
     private String recordUpdateQuery;
+    private String recordUpsertQuery;
     private String tableCheckQuery;
     private String createQuery;
     private String indexQuery;
     private int batchSize;
     private boolean batchEnable;
+    private boolean rowWiseUpdateOrInsert;
+    private boolean batchUpdateCountsSupported;
+    private boolean savepointsSupported;
+    private boolean commitPerBatch;
+    private RDBMSMultiRowInsert multiRowInsert;
+    private int maxBindParameters;
+    private volatile String bulkCopyQuery;
+    private int bulkCopyThreshold;
+    private String stagingTableCreateQuery;
+    private String stagingTableClearQuery;
+    private String stagingInsertQuery;
+    private String stagingUpsertQuery;
+    private String stagingSourceAlias;
+    private int stagingUpsertThreshold;
+    private int fetchSize;
+    private boolean cursorTransaction;
     private boolean transactionSupported;
     private String binaryType;
     private String booleanType;
@@ -378,6 +972,34 @@ public class RDBMSEventTable extends AbstractRecordTable {
     private String longType;
     private String stringType;
     private String stringSize;
+    private boolean asyncWriteEnabled;
+    private long flushInterval;
+    private int bufferSize;
+    private int flushThreads;
+    private RDBMSWriteBehindBuffer.BufferFullPolicy bufferFullPolicy;
+    private RDBMSWriteBehindBuffer.WriteFailurePolicy writeFailurePolicy;
+    private int bufferRetryCount;
+    private volatile RDBMSWriteBehindBuffer writeBehindBuffer;
+    private RDBMSResultCache resultCache;
+    private Map<RDBMSCompiledCondition, RDBMSLookupBatcher> lookupBatchers;
+    private boolean writeCoalescing;
+    private int retentionIndex;
+    private long retentionPeriod;
+    private long retentionInterval;
+    private int retentionChunkSize;
+    private long retentionPause;
+    private String purgeQuery;
+    private RDBMSRetentionPurger retentionPurger;
+    private int keyFilterSize;
+    private volatile RDBMSKeyFilter keyFilter;
+    private RDBMSFunctionMapper functionMapper;
+    private RDBMSIndexAdvisor indexAdvisor;
+    private RDBMSIndexAdvisor.Mode indexAdvisorMode;
+    private String advisedIndexQuery;
+    private RDBMSPlanInspector.Mode planInspectionMode;
+    private long planInspectionRows;
+    private RDBMSPlanInspector planInspector;
+    private String explainQuery;
 
     @Override
     protected void init(TableDefinition tableDefinition, ConfigReader configReader) {
@@ -389,6 +1011,10 @@ public class RDBMSEventTable extends AbstractRecordTable {
                 tableDefinition.getAnnotations());
         RDBMSTableUtils.validateAnnotation(primaryKeys);
         RDBMSTableUtils.validateAnnotation(indices);
+        primaryKeyIndexes = (primaryKeys == null) ? new int[0] : primaryKeys.getElements().stream()
+                .mapToInt(element -> this.attributeIndex(element.getValue().trim()))
+                .filter(index -> index >= 0)
+                .toArray();
         jndiResourceName = storeAnnotation.getElement(ANNOTATION_ELEMENT_JNDI_RESOURCE);
         dataSourceName = storeAnnotation.getElement(ANNOTATION_ELEMENT_DATASOURCE);
         if (null != configReader) {
@@ -398,131 +1024,1025 @@ public class RDBMSEventTable extends AbstractRecordTable {
         }
         String tableName = storeAnnotation.getElement(ANNOTATION_ELEMENT_TABLE_NAME);
         this.tableName = RDBMSTableUtils.isEmpty(tableName) ? tableDefinition.getId() : tableName;
+        this.functionMapper = new RDBMSFunctionMapper(this.tableName);
+        this.initWriteMode(storeAnnotation);
+        this.initCache(storeAnnotation);
+        String connectionQuota = storeAnnotation.getElement(ANNOTATION_ELEMENT_CONNECTION_QUOTA);
+        this.connectionQuota = RDBMSTableUtils.isEmpty(connectionQuota) ? null : new Semaphore(
+                RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_CONNECTION_QUOTA, connectionQuota, 1), true);
+        String lookupBatching = storeAnnotation.getElement(ANNOTATION_ELEMENT_LOOKUP_BATCHING);
+        this.lookupBatchers = (!RDBMSTableUtils.isEmpty(lookupBatching) && Boolean.parseBoolean(lookupBatching.trim()))
+                ? new ConcurrentHashMap<>() : null;
+        this.initKeyFilter(storeAnnotation);
+        String writeCoalescing = storeAnnotation.getElement(ANNOTATION_ELEMENT_WRITE_COALESCING);
+        this.writeCoalescing = !RDBMSTableUtils.isEmpty(writeCoalescing) &&
+                Boolean.parseBoolean(writeCoalescing.trim());
+        this.initRetention(storeAnnotation);
+        String indexAdvisorMode = storeAnnotation.getElement(ANNOTATION_ELEMENT_INDEX_ADVISOR);
+        this.indexAdvisorMode = RDBMSTableUtils.isEmpty(indexAdvisorMode) ? RDBMSIndexAdvisor.Mode.LOG :
+                RDBMSIndexAdvisor.Mode.fromName(indexAdvisorMode);
+        this.indexAdvisor = new RDBMSIndexAdvisor(this.tableName);
+        String planInspectionMode = storeAnnotation.getElement(ANNOTATION_ELEMENT_PLAN_INSPECTION);
+        this.planInspectionMode = RDBMSTableUtils.isEmpty(planInspectionMode) ? RDBMSPlanInspector.Mode.OFF :
+                RDBMSPlanInspector.Mode.fromName(planInspectionMode);
+        String planInspectionRows = storeAnnotation.getElement(ANNOTATION_ELEMENT_PLAN_INSPECTION_ROWS);
+        if (RDBMSTableUtils.isEmpty(planInspectionRows)) {
+            this.planInspectionRows = DEFAULT_PLAN_INSPECTION_ROWS;
+        } else {
+            try {
+                this.planInspectionRows = Long.parseLong(planInspectionRows.trim());
+            } catch (NumberFormatException e) {
+                throw new RDBMSTableException("Value '" + planInspectionRows + "' given for '" +
+                        ANNOTATION_ELEMENT_PLAN_INSPECTION_ROWS + "' is not a valid number of rows.", e);
+            }
+            if (this.planInspectionRows < 0) {
+                throw new RDBMSTableException("Value given for '" + ANNOTATION_ELEMENT_PLAN_INSPECTION_ROWS +
+                        "' should not be negative, but found '" + planInspectionRows + "'.");
+            }
+        }
     }
 
-    @Override
-    protected void add(List<Object[]> records) {
-        String sql = this.composeInsertQuery();
-        try {
-            // Setting autocommit to true if the JDBC connection does not support transactions.
-            this.batchExecuteQueriesWithRecords(sql, records, !this.transactionSupported);
-        } catch (SQLException e) {
-            throw new RDBMSTableException("Error in adding events to '" + this.tableName + "' store: "
-                    + e.getMessage(), e);
+    /**
+     * Method for reading the retention configuration from the "@Store" annotation.
+     *
+     * @param storeAnnotation the "@Store" annotation which contains the retention parameters.
+     */
+    private void initRetention(Annotation storeAnnotation) {
+        String retentionAttribute = storeAnnotation.getElement(ANNOTATION_ELEMENT_RETENTION_ATTRIBUTE);
+        String retentionPeriod = storeAnnotation.getElement(ANNOTATION_ELEMENT_RETENTION_PERIOD);
+        this.retentionIndex = -1;
+        if (RDBMSTableUtils.isEmpty(retentionAttribute) && RDBMSTableUtils.isEmpty(retentionPeriod)) {
+            return;
         }
+        if (RDBMSTableUtils.isEmpty(retentionAttribute) || RDBMSTableUtils.isEmpty(retentionPeriod)) {
+            throw new RDBMSTableException("Both '" + ANNOTATION_ELEMENT_RETENTION_ATTRIBUTE + "' and '" +
+                    ANNOTATION_ELEMENT_RETENTION_PERIOD + "' need to be given for the records of table '" +
+                    this.tableName + "' to be purged.");
+        }
+        this.retentionIndex = this.attributeIndex(retentionAttribute.trim());
+        if (this.retentionIndex < 0 ||
+                this.attributes.get(this.retentionIndex).getType() != Attribute.Type.LONG) {
+            throw new RDBMSTableException("Value given for '" + ANNOTATION_ELEMENT_RETENTION_ATTRIBUTE + "' " +
+                    "should be an attribute of type 'long' of table '" + this.tableName + "', but found '" +
+                    retentionAttribute + "'.");
+        }
+        this.retentionPeriod = RDBMSTableUtils.parseTimeToMillis(ANNOTATION_ELEMENT_RETENTION_PERIOD, retentionPeriod);
+        String retentionInterval = storeAnnotation.getElement(ANNOTATION_ELEMENT_RETENTION_INTERVAL);
+        this.retentionInterval = RDBMSTableUtils.isEmpty(retentionInterval) ? DEFAULT_RETENTION_INTERVAL :
+                RDBMSTableUtils.parseTimeToMillis(ANNOTATION_ELEMENT_RETENTION_INTERVAL, retentionInterval);
+        if (this.retentionInterval < 1) {
+            throw new RDBMSTableException("Value given for '" + ANNOTATION_ELEMENT_RETENTION_INTERVAL + "' should " +
+                    "be at least 1 millisecond, but found '" + retentionInterval + "'.");
+        }
+        this.retentionChunkSize = RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_RETENTION_CHUNK_SIZE,
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_RETENTION_CHUNK_SIZE), DEFAULT_RETENTION_CHUNK_SIZE);
+        String retentionPause = storeAnnotation.getElement(ANNOTATION_ELEMENT_RETENTION_PAUSE);
+        this.retentionPause = RDBMSTableUtils.isEmpty(retentionPause) ? DEFAULT_RETENTION_PAUSE :
+                RDBMSTableUtils.parseTimeToMillis(ANNOTATION_ELEMENT_RETENTION_PAUSE, retentionPause);
     }
 
-    @Override
-    protected RecordIterator<Object[]> find(Map<String, Object> findConditionParameterMap,
-                                            CompiledCondition compiledCondition) {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
-        //Some databases does not support single condition on where clause.
-        //(atomic condition on where clause: SELECT * FROM TABLE WHERE true)
-        //If the compile condition is resolved for '?', atomicCondition boolean value
-        // will be used for ignore condition resolver.
-        boolean atomicCondition = false;
-        if (condition.equals(QUESTION_MARK)) {
-            atomicCondition = true;
+    /**
+     * Method for reading the key filter configuration from the "@Store" annotation. The key filter is not used if the
+     * table has no primary key, or if any of the primary key columns holds objects, which can not be compared by value.
+     *
+     * @param storeAnnotation the "@Store" annotation which contains the key filter parameters.
+     */
+    private void initKeyFilter(Annotation storeAnnotation) {
+        String keyFilter = storeAnnotation.getElement(ANNOTATION_ELEMENT_KEY_FILTER);
+        this.keyFilterSize = 0;
+        if (RDBMSTableUtils.isEmpty(keyFilter) || !Boolean.parseBoolean(keyFilter.trim())) {
+            return;
+        }
+        int keyFilterSize = RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_KEY_FILTER_SIZE,
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_KEY_FILTER_SIZE), DEFAULT_KEY_FILTER_SIZE);
+        if (this.primaryKeyIndexes.length == 0 || Arrays.stream(this.primaryKeyIndexes)
+                .anyMatch(keyIndex -> this.attributes.get(keyIndex).getType() == Attribute.Type.OBJECT)) {
             if (log.isDebugEnabled()) {
-                log.debug("Ignore the condition resolver in 'find()' method for compile " +
-                        "condition: '" + QUESTION_MARK + "'");
+                log.debug("The key filter is not used for table '" + this.tableName + "', since it has no primary " +
+                        "key which can be compared by value.");
             }
+            return;
         }
-        Connection conn = this.getConnection();
-        PreparedStatement stmt = null;
-        ResultSet rs;
-        try {
-            stmt = RDBMSTableUtils.isEmpty(condition) | atomicCondition ?
-                    conn.prepareStatement(selectQuery.replace(PLACEHOLDER_CONDITION, "")) :
-                    conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(selectQuery, condition));
-            if (!atomicCondition) {
-                RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
-                        findConditionParameterMap, 0);
+        this.keyFilterSize = keyFilterSize;
+    }
+
+    /**
+     * Method for resolving how the results of find() operations are fetched, from the database configuration and the
+     * "fetch.size" element of the "@Store" annotation.
+     *
+     * @param storeAnnotation the "@Store" annotation which may override the fetch size.
+     */
+    private void initFetchSize(Annotation storeAnnotation) {
+        String databaseName = this.queryConfigurationEntry.getDatabaseName();
+        String cursorMode = configReader.readConfig(databaseName + PROPERTY_SEPARATOR + CURSOR_MODE,
+                this.queryConfigurationEntry.getCursorMode());
+        cursorMode = RDBMSTableUtils.isEmpty(cursorMode) ? CURSOR_MODE_NONE : cursorMode.trim();
+        String fetchSizeElement = storeAnnotation.getElement(ANNOTATION_ELEMENT_FETCH_SIZE);
+        if (RDBMSTableUtils.isEmpty(fetchSizeElement)) {
+            this.fetchSize = Integer.parseInt(configReader.readConfig(databaseName + PROPERTY_SEPARATOR + FETCH_SIZE,
+                    String.valueOf(this.queryConfigurationEntry.getFetchSize())));
+        } else if (FETCH_SIZE_ADAPTIVE.equalsIgnoreCase(fetchSizeElement.trim())) {
+            long budget = Long.parseLong(configReader.readConfig(databaseName + PROPERTY_SEPARATOR +
+                    FETCH_MEMORY_BUDGET, String.valueOf(this.queryConfigurationEntry.getFetchMemoryBudget())));
+            long fetchRows = budget / this.estimateRecordSize(storeAnnotation);
+            this.fetchSize = (int) Math.max(MIN_ADAPTIVE_FETCH_SIZE, Math.min(MAX_ADAPTIVE_FETCH_SIZE, fetchRows));
+        } else {
+            try {
+                this.fetchSize = Integer.parseInt(fetchSizeElement.trim());
+            } catch (NumberFormatException e) {
+                throw new RDBMSTableException("Value '" + fetchSizeElement + "' given for '" +
+                        ANNOTATION_ELEMENT_FETCH_SIZE + "' is neither a valid integer nor '" + FETCH_SIZE_ADAPTIVE +
+                        "'.", e);
             }
-            rs = stmt.executeQuery();
-            //Passing all java.sql artifacts to the iterator to ensure everything gets cleaned up at once.
-            return new RDBMSIterator(conn, stmt, rs, this.attributes, this.tableName);
-        } catch (SQLException e) {
-            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
-            throw new RDBMSTableException("Error retrieving records from table '" + this.tableName + "': "
-                    + e.getMessage(), e);
+            if (this.fetchSize < 0) {
+                throw new RDBMSTableException("Value given for '" + ANNOTATION_ELEMENT_FETCH_SIZE + "' should not " +
+                        "be negative, but found '" + fetchSizeElement + "'.");
+            }
+        }
+        this.cursorTransaction = false;
+        switch (cursorMode.toLowerCase(Locale.ENGLISH)) {
+            case CURSOR_MODE_NONE:
+                break;
+            case CURSOR_MODE_TRANSACTION:
+                this.cursorTransaction = this.fetchSize > 0;
+                break;
+            case CURSOR_MODE_STREAMING:
+                // The MySQL driver streams results row by row only if the fetch size is Integer.MIN_VALUE.
+                if (RDBMSTableUtils.isEmpty(fetchSizeElement) || this.fetchSize > 0) {
+                    this.fetchSize = Integer.MIN_VALUE;
+                }
+                break;
+            default:
+                throw new RDBMSTableException("Unknown cursor mode '" + cursorMode + "' configured for database '" +
+                        databaseName + "'. Supported modes are '" + CURSOR_MODE_NONE + "', '" +
+                        CURSOR_MODE_TRANSACTION + "' and '" + CURSOR_MODE_STREAMING + "'.");
         }
     }
 
-    @Override
-    protected boolean contains(Map<String, Object> containsConditionParameterMap, CompiledCondition compiledCondition) {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
-        Connection conn = this.getConnection();
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
-        try {
-            stmt = RDBMSTableUtils.isEmpty(condition) ?
-                    conn.prepareStatement(containsQuery.replace(PLACEHOLDER_CONDITION, "")) :
-                    conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(containsQuery, condition));
-            RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
-                    containsConditionParameterMap, 0);
-            rs = stmt.executeQuery();
-            return rs.next();
-        } catch (SQLException e) {
-            throw new RDBMSTableException("Error performing a contains check on table '" + this.tableName
-                    + "': " + e.getMessage(), e);
-        } finally {
-            RDBMSTableUtils.cleanupConnection(rs, stmt, conn);
+    /**
+     * Method for estimating the in-memory size of a single record of the table (in bytes), for deriving an adaptive
+     * fetch size. String fields are assumed to be filled up to their declared length.
+     *
+     * @param storeAnnotation the "@Store" annotation which contains the field lengths.
+     * @return the estimated record size.
+     */
+    private long estimateRecordSize(Annotation storeAnnotation) {
+        Map<String, String> fieldLengths = RDBMSTableUtils.processFieldLengths(
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_FIELD_LENGTHS));
+        // Object array header plus a reference and a boxed value header per field.
+        long size = 16;
+        for (Attribute attribute : this.attributes) {
+            size += 24;
+            switch (attribute.getType()) {
+                case BOOL:
+                    size += 1;
+                    break;
+                case INT:
+                case FLOAT:
+                    size += 4;
+                    break;
+                case LONG:
+                case DOUBLE:
+                    size += 8;
+                    break;
+                case STRING:
+                    String length = fieldLengths.getOrDefault(attribute.getName(), stringSize);
+                    try {
+                        size += 24 + 2 * Long.parseLong(length.trim());
+                    } catch (NullPointerException | NumberFormatException e) {
+                        size += 24 + 2 * 254;
+                    }
+                    break;
+                default:
+                    size += 1024;
+            }
         }
+        return size;
     }
 
-    @Override
-    protected void delete(List<Map<String, Object>> deleteConditionParameterMaps, CompiledCondition compiledCondition) {
-        this.batchProcessDelete(deleteConditionParameterMaps, compiledCondition);
+    /**
+     * Method for preparing a statement which reads records from the table, applying the configured fetch size.
+     *
+     * @param conn  the connection to be used, which has auto-commit disabled if results are read through a
+     *              cursor transaction.
+     * @param query the SQL query.
+     * @return the prepared statement.
+     * @throws SQLException if the statement could not be prepared.
+     */
+    private PreparedStatement prepareReadStatement(Connection conn, String query) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(query);
+        if (this.fetchSize != 0) {
+            stmt.setFetchSize(this.fetchSize);
+        }
+        return stmt;
     }
 
-    private void batchProcessDelete(List<Map<String, Object>> deleteConditionParameterMaps,
-                                    CompiledCondition compiledCondition) {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
-        Connection conn = this.getConnection();
-        PreparedStatement stmt = null;
-        try {
-            stmt = RDBMSTableUtils.isEmpty(condition) ?
-                    conn.prepareStatement(deleteQuery.replace(PLACEHOLDER_CONDITION, "")) :
-                    conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(deleteQuery, condition));
-            int counter = 0;
-            for (Map<String, Object> deleteConditionParameterMap : deleteConditionParameterMaps) {
-                RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
-                        deleteConditionParameterMap, 0);
-                stmt.addBatch();
-                counter++;
-                if (counter == batchSize) {
-                    stmt.executeBatch();
-                    stmt.clearBatch();
-                    counter = 0;
-                }
-            }
-            if (counter > 0) {
-                stmt.executeBatch();
-            }
-        } catch (SQLException e) {
-            throw new RDBMSTableException("Error performing record deletion on table '" + this.tableName
-                    + "': " + e.getMessage(), e);
-        } finally {
-            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+    /**
+     * Method for reading the lookup cache configuration from the "@Store" annotation.
+     *
+     * @param storeAnnotation the "@Store" annotation which contains the cache parameters.
+     */
+    private void initCache(Annotation storeAnnotation) {
+        String cache = storeAnnotation.getElement(ANNOTATION_ELEMENT_CACHE);
+        if (RDBMSTableUtils.isEmpty(cache) || !Boolean.parseBoolean(cache.trim())) {
+            this.resultCache = null;
+            return;
+        }
+        int cacheSize = RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_CACHE_SIZE,
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_CACHE_SIZE), DEFAULT_CACHE_SIZE);
+        String cacheTtl = storeAnnotation.getElement(ANNOTATION_ELEMENT_CACHE_TTL);
+        long ttl = RDBMSTableUtils.isEmpty(cacheTtl) ? DEFAULT_CACHE_TTL :
+                RDBMSTableUtils.parseTimeToMillis(ANNOTATION_ELEMENT_CACHE_TTL, cacheTtl);
+        if (ttl < 1) {
+            throw new RDBMSTableException("Value given for '" + ANNOTATION_ELEMENT_CACHE_TTL + "' should be " +
+                    "at least 1 millisecond, but found '" + cacheTtl + "'.");
         }
+        this.resultCache = new RDBMSResultCache(cacheSize, ttl);
     }
 
-    @Override
-    protected void update(CompiledCondition compiledCondition, List<Map<String, Object>> updateConditionParameterMaps,
-                          Map<String, CompiledExpression> updateSetExpressions, List<Map<String, Object>> updateValues)
-            throws ConnectionUnavailableException {
-        String sql = this.composeUpdateQuery(compiledCondition, updateSetExpressions);
-        this.batchProcessSQLUpdates(sql, updateConditionParameterMaps, compiledCondition,
-                updateSetExpressions, updateValues);
+    /**
+     * Method for reading the write-behind buffer configuration from the "@Store" annotation.
+     *
+     * @param storeAnnotation the "@Store" annotation which contains the write mode parameters.
+     */
+    private void initWriteMode(Annotation storeAnnotation) {
+        String writeMode = storeAnnotation.getElement(ANNOTATION_ELEMENT_WRITE_MODE);
+        if (RDBMSTableUtils.isEmpty(writeMode) || WRITE_MODE_SYNC.equalsIgnoreCase(writeMode.trim())) {
+            this.asyncWriteEnabled = false;
+            return;
+        }
+        if (!WRITE_MODE_ASYNC.equalsIgnoreCase(writeMode.trim())) {
+            throw new RDBMSTableException("Write mode '" + writeMode + "' is not supported for table '" +
+                    this.tableName + "'. Supported modes are '" + WRITE_MODE_SYNC + "' and '" + WRITE_MODE_ASYNC
+                    + "'.");
+        }
+        this.asyncWriteEnabled = true;
+        String flushInterval = storeAnnotation.getElement(ANNOTATION_ELEMENT_FLUSH_INTERVAL);
+        this.flushInterval = RDBMSTableUtils.isEmpty(flushInterval) ? DEFAULT_FLUSH_INTERVAL :
+                RDBMSTableUtils.parseTimeToMillis(ANNOTATION_ELEMENT_FLUSH_INTERVAL, flushInterval);
+        if (this.flushInterval < 1) {
+            throw new RDBMSTableException("Value given for '" + ANNOTATION_ELEMENT_FLUSH_INTERVAL + "' should be " +
+                    "at least 1 millisecond, but found '" + flushInterval + "'.");
+        }
+        this.bufferSize = RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_BUFFER_SIZE,
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_BUFFER_SIZE), DEFAULT_BUFFER_SIZE);
+        this.flushThreads = RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_FLUSH_THREADS,
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_FLUSH_THREADS), DEFAULT_FLUSH_THREADS);
+        String bufferFullPolicy = storeAnnotation.getElement(ANNOTATION_ELEMENT_BUFFER_FULL_POLICY);
+        this.bufferFullPolicy = RDBMSTableUtils.isEmpty(bufferFullPolicy) ?
+                RDBMSWriteBehindBuffer.BufferFullPolicy.BLOCK :
+                RDBMSWriteBehindBuffer.BufferFullPolicy.fromName(bufferFullPolicy);
+        String writeFailurePolicy = storeAnnotation.getElement(ANNOTATION_ELEMENT_BUFFER_FAILURE_POLICY);
+        this.writeFailurePolicy = RDBMSTableUtils.isEmpty(writeFailurePolicy) ?
+                RDBMSWriteBehindBuffer.WriteFailurePolicy.RETRY :
+                RDBMSWriteBehindBuffer.WriteFailurePolicy.fromName(writeFailurePolicy);
+        this.bufferRetryCount = RDBMSTableUtils.parsePositiveInteger(ANNOTATION_ELEMENT_BUFFER_RETRY_COUNT,
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_BUFFER_RETRY_COUNT), DEFAULT_BUFFER_RETRY_COUNT);
     }
 
+    @Override
+    protected void add(List<Object[]> records) {
+        for (Object[] record : records) {
+            this.addKey(record);
+        }
+        RDBMSWriteBehindBuffer buffer = this.writeBehindBuffer;
+        if (buffer != null) {
+            buffer.offer(records);
+        } else {
+            this.insertRecords(records);
+        }
+    }
 
     /**
-     * Method for processing update operations in a batched manner. This assumes that all update operations will be
-     * accepted by the database.
+     * Method for writing a list of records to the table synchronously.
      *
-     * @param sql                          the SQL update operation as string.
+     * @param records the records to be inserted.
+     */
+    private void insertRecords(List<Object[]> records) {
+        try {
+            this.writeRecords(records);
+        } finally {
+            this.invalidateCache();
+        }
+    }
+
+    /**
+     * Method for writing records through the fastest insertion path available for the given number of records.
+     *
+     * @param records the records to be inserted.
+     */
+    private void writeRecords(List<Object[]> records) {
+        try {
+            // Setting autocommit to true if the JDBC connection does not support transactions.
+            if (this.bulkCopyQuery != null && records.size() >= this.bulkCopyThreshold &&
+                    this.bulkCopyRecords(records, !this.transactionSupported)) {
+                return;
+            }
+            if (this.multiRowInsert != null && records.size() > 1) {
+                this.batchExecuteMultiRowInsert(records, !this.transactionSupported);
+            } else {
+                this.batchExecuteQueriesWithRecords(this.insertStatement, records, !this.transactionSupported);
+            }
+        } catch (SQLException e) {
+            throw new RDBMSTableException("Error in adding events to '" + this.tableName + "' store: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected RecordIterator<Object[]> find(Map<String, Object> findConditionParameterMap,
+                                            CompiledCondition compiledCondition) {
+        RDBMSResultCache cache = this.resultCache;
+        RDBMSLookupBatcher batcher = this.lookupBatcher((RDBMSCompiledCondition) compiledCondition);
+        if (cache == null && batcher == null) {
+            return this.findRecords(findConditionParameterMap, compiledCondition);
+        }
+        List<Object> key = null;
+        long generation = 0;
+        if (cache != null) {
+            key = this.composeCacheKey(OPERATION_FIND, (RDBMSCompiledCondition) compiledCondition,
+                    findConditionParameterMap);
+            List<Object[]> records = (List<Object[]>) cache.get(key);
+            if (records != null) {
+                return new RDBMSCachedIterator(records);
+            }
+            generation = cache.generation();
+        }
+        List<Object[]> records;
+        if (batcher != null) {
+            records = batcher.find(findConditionParameterMap);
+        } else {
+            RDBMSIterator iterator = this.findRecords(findConditionParameterMap, compiledCondition);
+            records = this.readRecords(iterator, cache.getMaxWeight());
+            if (records.size() > cache.getMaxWeight()) {
+                // The result is larger than the cache can hold, hence the rest of it is streamed instead.
+                return new RDBMSPrefetchedIterator(records, iterator);
+            }
+        }
+        if (cache != null) {
+            cache.put(key, records, records.size(), generation);
+        }
+        return new RDBMSCachedIterator(records);
+    }
+
+    /**
+     * Returns the lookup batcher for the given condition, if lookup batching is enabled and applicable to it.
+     *
+     * @param compiledCondition the condition that was built during compile time.
+     * @return the lookup batcher, or null if lookups with this condition are not batched.
+     */
+    private RDBMSLookupBatcher lookupBatcher(RDBMSCompiledCondition compiledCondition) {
+        if (this.lookupBatchers == null || !this.isKeyListCondition(compiledCondition) ||
+                !this.isExactKeyCondition(compiledCondition)) {
+            return null;
+        }
+        return this.lookupBatchers.computeIfAbsent(compiledCondition, condition ->
+                new RDBMSLookupBatcher(parameterMaps -> {
+                    boolean scanPermit = this.admitStatement(condition, parameterMaps.get(0));
+                    try {
+                        return this.findRecordsByKeys(condition, parameterMaps);
+                    } finally {
+                        if (scanPermit) {
+                            this.planInspector.release();
+                        }
+                    }
+                }));
+    }
+
+    /**
+     * Checks whether the given condition can be evaluated for a number of keys at once through a key-list condition,
+     * i.e. whether it is an equality conjunction over table columns whose operands are of the types of the columns.
+     *
+     * @param compiledCondition the condition that was built during compile time.
+     * @return true if the condition can be replaced by a key-list condition.
+     */
+    private boolean isKeyListCondition(RDBMSCompiledCondition compiledCondition) {
+        if (compiledCondition.getEqualityOperands() == null) {
+            return false;
+        }
+        for (Map.Entry<String, Object> operand : compiledCondition.getEqualityOperands().entrySet()) {
+            int index = this.attributeIndex(operand.getKey());
+            Attribute.Type operandType = (operand.getValue() instanceof Constant) ?
+                    ((Constant) operand.getValue()).getType() : ((Attribute) operand.getValue()).getType();
+            // Rows are matched to keys by value, which requires the values to be of the same type.
+            if (index < 0 || this.attributes.get(index).getType() != operandType ||
+                    operandType == Attribute.Type.OBJECT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the columns which the given condition compares for equality are compared by the database in
+     * the same way as their values are compared in Java, which is required for assigning rows retrieved through a
+     * key-list condition back to their keys. This does not hold for strings, which are compared case-insensitively
+     * or ignoring trailing spaces under the default collations of some databases, nor for floating point values,
+     * e.g. 0.0 and -0.0 are equal in SQL.
+     *
+     * @param compiledCondition the condition that was built during compile time, which compares columns for
+     *                          equality.
+     * @return true if rows can be matched to keys by their values.
+     */
+    private boolean isExactKeyCondition(RDBMSCompiledCondition compiledCondition) {
+        for (String column : compiledCondition.getEqualityOperands().keySet()) {
+            Attribute.Type type = this.attributes.get(this.attributeIndex(column)).getType();
+            if (type == Attribute.Type.STRING || type == Attribute.Type.FLOAT || type == Attribute.Type.DOUBLE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of keys which can be matched by a single key-list condition, within the limit on the number
+     * of parameters of a statement of the database.
+     *
+     * @param columnCount the number of columns of a key.
+     * @return the number of keys per statement.
+     */
+    private int keysPerStatement(int columnCount) {
+        return (this.maxBindParameters > 0) ?
+                Math.max(1, Math.min(DEFAULT_KEY_LIST_SIZE, this.maxBindParameters / columnCount)) :
+                DEFAULT_KEY_LIST_SIZE;
+    }
+
+    /**
+     * Method for performing the lookups of a number of find() operations with an equality condition through key-list
+     * queries, and assigning the retrieved records back to each of the lookups.
+     *
+     * @param compiledCondition  the condition that was built during compile time.
+     * @param findParameterMaps  the runtime values of the condition, one map per lookup.
+     * @return the matching records of each lookup, in the order of the given parameter maps.
+     */
+    private List<List<Object[]>> findRecordsByKeys(RDBMSCompiledCondition compiledCondition,
+                                                   List<Map<String, Object>> findParameterMaps) {
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        List<String> columns = new ArrayList<>(equalityOperands.keySet());
+        int[] columnIndexes = columns.stream().mapToInt(this::attributeIndex).toArray();
+        Map<List<Object>, List<Object[]>> recordsByKey = new HashMap<>();
+        List<List<Object>> keys = new ArrayList<>();
+        List<List<Object[]>> results = new ArrayList<>(findParameterMaps.size());
+        for (Map<String, Object> findParameterMap : findParameterMaps) {
+            List<Object> key = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                key.add(this.resolveOperand(equalityOperands.get(column), findParameterMap));
+            }
+            List<Object[]> records;
+            if (key.contains(null)) {
+                // Null never compares equal in SQL.
+                records = new ArrayList<>();
+            } else {
+                records = recordsByKey.get(key);
+                if (records == null) {
+                    records = new ArrayList<>();
+                    recordsByKey.put(key, records);
+                    keys.add(key);
+                }
+            }
+            results.add(records);
+        }
+        int keysPerQuery = this.keysPerStatement(columns.size());
+        for (int start = 0; start < keys.size(); start += keysPerQuery) {
+            List<List<Object>> chunk = keys.subList(start, Math.min(start + keysPerQuery, keys.size()));
+            String sql = RDBMSTableUtils.formatQueryWithCondition(selectQuery,
+                    RDBMSTableUtils.composeKeyListCondition(this.tableName, columns, chunk.size()));
+            Connection conn = this.getConnection(!this.cursorTransaction);
+            PreparedStatement stmt = null;
+            RDBMSIterator iterator;
+            try {
+                stmt = this.prepareReadStatement(conn, sql);
+                int ordinal = 1;
+                for (List<Object> key : chunk) {
+                    for (int i = 0; i < columnIndexes.length; i++) {
+                        this.columnBinders[columnIndexes[i]].bind(stmt, ordinal, key.get(i));
+                        ordinal++;
+                    }
+                }
+                iterator = new RDBMSIterator(conn, stmt, stmt.executeQuery(), this.recordDecoder, selectQuery,
+                        this.tableName, this.cursorTransaction);
+            } catch (SQLException e) {
+                this.cleanupReadConnection(stmt, conn);
+                throw new RDBMSTableException("Error retrieving records from table '" + this.tableName + "': "
+                        + e.getMessage(), e);
+            }
+            for (Object[] record : this.readRecords(iterator)) {
+                List<Object> key = new ArrayList<>(columnIndexes.length);
+                for (int columnIndex : columnIndexes) {
+                    key.add(record[columnIndex]);
+                }
+                List<Object[]> records = recordsByKey.get(key);
+                if (records != null) {
+                    records.add(record);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Reads all records of the given iterator and closes it.
+     *
+     * @param iterator the iterator over the result set of a find() operation.
+     * @return the records.
+     */
+    private List<Object[]> readRecords(RDBMSIterator iterator) {
+        return this.readRecords(iterator, Long.MAX_VALUE);
+    }
+
+    /**
+     * Method for reading the records of an iterator into a list, up to one record more than the given limit. The
+     * iterator is closed unless the limit was exceeded, in which case the remaining records can still be read from it.
+     *
+     * @param iterator the iterator over the records.
+     * @param limit    the number of records up to which the iterator is read completely.
+     * @return the records which were read.
+     */
+    private List<Object[]> readRecords(RDBMSIterator iterator, long limit) {
+        List<Object[]> records = new ArrayList<>();
+        boolean exceeded = false;
+        try {
+            while (records.size() <= limit && iterator.hasNext()) {
+                records.add(iterator.next());
+            }
+            exceeded = records.size() > limit;
+        } finally {
+            if (!exceeded) {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error closing the result set of table '" + this.tableName + "': " +
+                                e.getMessage());
+                    }
+                }
+            }
+        }
+        return records;
+    }
+
+    private RDBMSIterator findRecords(Map<String, Object> findConditionParameterMap,
+                                      CompiledCondition compiledCondition) {
+        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
+        //Some databases does not support single condition on where clause.
+        //(atomic condition on where clause: SELECT * FROM TABLE WHERE true)
+        //If the compile condition is resolved for '?', atomicCondition boolean value
+        // will be used for ignore condition resolver.
+        boolean atomicCondition = condition.equals(QUESTION_MARK);
+        if (atomicCondition) {
+            if (log.isDebugEnabled()) {
+                log.debug("Ignore the condition resolver in 'find()' method for compile " +
+                        "condition: '" + QUESTION_MARK + "'");
+            }
+        }
+        String sql = ((RDBMSCompiledCondition) compiledCondition).getStatement(OPERATION_FIND,
+                shape -> this.composeConditionalQuery(selectQuery, (RDBMSCompiledCondition) compiledCondition,
+                        atomicCondition));
+        boolean scanPermit = this.admitStatement((RDBMSCompiledCondition) compiledCondition,
+                findConditionParameterMap);
+        Connection conn = this.getConnection(!this.cursorTransaction);
+        PreparedStatement stmt = null;
+        ResultSet rs;
+        try {
+            stmt = this.prepareReadStatement(conn, sql);
+            if (!atomicCondition) {
+                RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
+                        findConditionParameterMap, 0);
+            }
+            rs = stmt.executeQuery();
+            //Passing all java.sql artifacts to the iterator to ensure everything gets cleaned up at once.
+            //The scan permit is held until the results are read, since the scan proceeds as they are fetched.
+            RDBMSIterator iterator = new RDBMSIterator(conn, stmt, rs, this.recordDecoder, sql, this.tableName,
+                    this.cursorTransaction, scanPermit ? this.planInspector::release : null);
+            scanPermit = false;
+            return iterator;
+        } catch (SQLException e) {
+            this.cleanupReadConnection(stmt, conn);
+            throw new RDBMSTableException("Error retrieving records from table '" + this.tableName + "': "
+                    + e.getMessage(), e);
+        } finally {
+            if (scanPermit) {
+                this.planInspector.release();
+            }
+        }
+    }
+
+    /**
+     * Method for releasing the connection of a failed read, ending the cursor transaction if one was started.
+     *
+     * @param stmt the statement of the read, if it was prepared.
+     * @param conn the connection of the read.
+     */
+    private void cleanupReadConnection(PreparedStatement stmt, Connection conn) {
+        if (this.cursorTransaction) {
+            RDBMSTableUtils.rollbackConnection(conn);
+        }
+        RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+    }
+
+    @Override
+    protected boolean contains(Map<String, Object> containsConditionParameterMap, CompiledCondition compiledCondition) {
+        RDBMSResultCache cache = this.resultCache;
+        if (cache == null) {
+            return this.containsRecord(containsConditionParameterMap, compiledCondition);
+        }
+        List<Object> key = this.composeCacheKey(OPERATION_CONTAINS, (RDBMSCompiledCondition) compiledCondition,
+                containsConditionParameterMap);
+        Boolean result = (Boolean) cache.get(key);
+        if (result == null) {
+            long generation = cache.generation();
+            result = this.containsRecord(containsConditionParameterMap, compiledCondition);
+            cache.put(key, result, 1, generation);
+        }
+        return result;
+    }
+
+    private boolean containsRecord(Map<String, Object> containsConditionParameterMap,
+                                   CompiledCondition compiledCondition) {
+        String sql = ((RDBMSCompiledCondition) compiledCondition).getStatement(OPERATION_CONTAINS,
+                shape -> this.composeConditionalQuery(containsQuery, (RDBMSCompiledCondition) compiledCondition,
+                        false));
+        boolean scanPermit = this.admitStatement((RDBMSCompiledCondition) compiledCondition,
+                containsConditionParameterMap);
+        Connection conn = this.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.prepareStatement(sql);
+            RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
+                    containsConditionParameterMap, 0);
+            rs = stmt.executeQuery();
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RDBMSTableException("Error performing a contains check on table '" + this.tableName
+                    + "': " + e.getMessage(), e);
+        } finally {
+            RDBMSTableUtils.cleanupConnection(rs, stmt, conn);
+            if (scanPermit) {
+                this.planInspector.release();
+            }
+        }
+    }
+
+    @Override
+    protected void delete(List<Map<String, Object>> deleteConditionParameterMaps, CompiledCondition compiledCondition) {
+        try {
+            this.batchProcessDelete(this.coalesceDeletes((RDBMSCompiledCondition) compiledCondition,
+                    deleteConditionParameterMaps), compiledCondition);
+        } finally {
+            this.invalidateCache();
+        }
+    }
+
+    /**
+     * Method for composing the key of a lookup in the result cache, which consists of the operation, the compiled
+     * condition and the values of its parameters.
+     *
+     * @param operation             the lookup operation, i.e. find or contains.
+     * @param compiledCondition     the condition that was built during compile time.
+     * @param conditionParameterMap the runtime values of the condition.
+     * @return the cache key.
+     */
+    private List<Object> composeCacheKey(String operation, RDBMSCompiledCondition compiledCondition,
+                                         Map<String, Object> conditionParameterMap) {
+        int parameterCount = compiledCondition.getParameterCount();
+        List<Object> key = new ArrayList<>(parameterCount + 2);
+        key.add(operation);
+        key.add(compiledCondition.getCompiledQuery());
+        for (int i = 0; i < parameterCount; i++) {
+            key.add(compiledCondition.resolveParameter(i, conditionParameterMap));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the values of the parameters of a condition, which are equal for all records that the condition matches
+     * the same table records for.
+     */
+    private List<Object> composeConditionValues(RDBMSCompiledCondition compiledCondition,
+                                                Map<String, Object> conditionParameterMap) {
+        int parameterCount = compiledCondition.getParameterCount();
+        List<Object> values = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            values.add(compiledCondition.resolveParameter(i, conditionParameterMap));
+        }
+        return values;
+    }
+
+    /**
+     * Method for removing the repeated deletes of a single delete operation, if write coalescing is enabled.
+     *
+     * @param compiledCondition            the condition that was built during compile time.
+     * @param deleteConditionParameterMaps the runtime parameters of the condition.
+     * @return the parameters of the distinct deletes, in the order of their first occurrence.
+     */
+    private List<Map<String, Object>> coalesceDeletes(RDBMSCompiledCondition compiledCondition,
+                                                      List<Map<String, Object>> deleteConditionParameterMaps) {
+        if (!this.writeCoalescing || deleteConditionParameterMaps.size() < 2) {
+            return deleteConditionParameterMaps;
+        }
+        Map<List<Object>, Map<String, Object>> distinctDeletes = new LinkedHashMap<>();
+        for (Map<String, Object> deleteConditionParameterMap : deleteConditionParameterMaps) {
+            distinctDeletes.putIfAbsent(this.composeConditionValues(compiledCondition, deleteConditionParameterMap),
+                    deleteConditionParameterMap);
+        }
+        if (distinctDeletes.size() == deleteConditionParameterMaps.size()) {
+            return deleteConditionParameterMaps;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Coalesced " + deleteConditionParameterMaps.size() + " deletes on table '" + this.tableName +
+                    "' into " + distinctDeletes.size() + ".");
+        }
+        return new ArrayList<>(distinctDeletes.values());
+    }
+
+    /**
+     * Method for finding the updates of a single update operation which are not overridden by a later update of the
+     * same table records, if write coalescing is enabled. An update is only overridden by a later one if the
+     * condition is an equality conjunction, since the same condition values then match the same table records, and
+     * all attributes are set to plain values which the condition does not compare, so that neither update depends on
+     * the values the other one has written.
+     *
+     * @param compiledCondition            the condition that was built during compile time.
+     * @param updateConditionParameterMaps the runtime parameters of the condition.
+     * @param updateSetExpressions         the expressions that are used in the SET operation.
+     * @param updateSetParameterMaps       the runtime parameters of the SET operation.
+     * @return the indexes of the updates to be performed in ascending order, or null if all of them are.
+     */
+    private int[] coalesceUpdates(RDBMSCompiledCondition compiledCondition,
+                                  List<Map<String, Object>> updateConditionParameterMaps,
+                                  Map<String, CompiledExpression> updateSetExpressions,
+                                  List<Map<String, Object>> updateSetParameterMaps) {
+        if (!this.writeCoalescing || updateConditionParameterMaps.size() < 2 ||
+                updateConditionParameterMaps.size() != updateSetParameterMaps.size()) {
+            return null;
+        }
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        if (equalityOperands == null) {
+            return null;
+        }
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            if (equalityOperands.containsKey(entry.getKey()) ||
+                    !this.isPlainValue((RDBMSCompiledCondition) entry.getValue())) {
+                return null;
+            }
+        }
+        Map<List<Object>, Integer> lastUpdates = new HashMap<>();
+        for (int i = 0; i < updateConditionParameterMaps.size(); i++) {
+            lastUpdates.put(this.composeConditionValues(compiledCondition, updateConditionParameterMaps.get(i)), i);
+        }
+        if (lastUpdates.size() == updateConditionParameterMaps.size()) {
+            return null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Coalesced " + updateConditionParameterMaps.size() + " updates on table '" + this.tableName +
+                    "' into " + lastUpdates.size() + ".");
+        }
+        return lastUpdates.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /**
+     * Method for composing the records to be inserted by the coalesced updates of an update or insert operation.
+     * Performing the updates one after the other inserts the record of the first of them if no table record matches,
+     * which the later ones then update, hence the record of each coalesced update is that of the first update of the
+     * same table records, with the attributes set by all later ones. This requires each record to match the
+     * condition of its own update, since the later updates would otherwise not update the inserted record.
+     *
+     * @param coalescedIndexes the indexes of the updates to be performed, as found by
+     *                         {@link #coalesceUpdates(RDBMSCompiledCondition, List, Map, List)}.
+     * @return the records to be inserted for each of the coalesced updates, or null if the updates can not be
+     * coalesced.
+     */
+    private List<Object[]> coalesceRecords(RDBMSCompiledCondition compiledCondition,
+                                           List<Map<String, Object>> updateConditionParameterMaps,
+                                           Map<String, CompiledExpression> updateSetExpressions,
+                                           List<Map<String, Object>> updateSetParameterMaps,
+                                           List<Object[]> addingRecords, int[] coalescedIndexes) {
+        if (addingRecords.size() != updateConditionParameterMaps.size()) {
+            return null;
+        }
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        int[] conditionIndexes = new int[equalityOperands.size()];
+        Object[] conditionOperands = new Object[equalityOperands.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> entry : equalityOperands.entrySet()) {
+            conditionIndexes[i] = this.attributeIndex(entry.getKey());
+            conditionOperands[i] = entry.getValue();
+            i++;
+        }
+        int[] setIndexes = new int[updateSetExpressions.size()];
+        Object[] setOperands = new Object[updateSetExpressions.size()];
+        i = 0;
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            setIndexes[i] = this.attributeIndex(entry.getKey());
+            setOperands[i] = ((RDBMSCompiledCondition) entry.getValue()).getParameters().get(0);
+            i++;
+        }
+        Map<List<Object>, Object[]> groupRecords = new HashMap<>();
+        for (int recordIndex = 0; recordIndex < addingRecords.size(); recordIndex++) {
+            Object[] addingRecord = addingRecords.get(recordIndex);
+            Map<String, Object> conditionParameterMap = updateConditionParameterMaps.get(recordIndex);
+            for (int j = 0; j < conditionIndexes.length; j++) {
+                if (conditionIndexes[j] < 0 || !Objects.equals(addingRecord[conditionIndexes[j]],
+                        this.resolveOperand(conditionOperands[j], conditionParameterMap))) {
+                    return null;
+                }
+            }
+            List<Object> conditionValues = this.composeConditionValues(compiledCondition, conditionParameterMap);
+            Object[] groupRecord = groupRecords.get(conditionValues);
+            if (groupRecord == null) {
+                groupRecords.put(conditionValues, addingRecord.clone());
+            } else {
+                for (int j = 0; j < setIndexes.length; j++) {
+                    groupRecord[setIndexes[j]] = this.resolveOperand(setOperands[j],
+                            updateSetParameterMaps.get(recordIndex));
+                }
+            }
+        }
+        List<Object[]> coalescedRecords = new ArrayList<>(coalescedIndexes.length);
+        for (int coalescedIndex : coalescedIndexes) {
+            coalescedRecords.add(groupRecords.get(this.composeConditionValues(compiledCondition,
+                    updateConditionParameterMaps.get(coalescedIndex))));
+        }
+        return coalescedRecords;
+    }
+
+    /**
+     * Discards the cached lookup results after the table has been modified.
+     */
+    private void invalidateCache() {
+        if (this.resultCache != null) {
+            this.resultCache.invalidate();
+        }
+    }
+
+    private void batchProcessDelete(List<Map<String, Object>> deleteConditionParameterMaps,
+                                    CompiledCondition compiledCondition) {
+        if (deleteConditionParameterMaps.size() > 1 &&
+                this.isKeyListCondition((RDBMSCompiledCondition) compiledCondition)) {
+            boolean scanPermit = this.admitStatement((RDBMSCompiledCondition) compiledCondition,
+                    deleteConditionParameterMaps.get(0));
+            try {
+                this.deleteRecordsByKeys((RDBMSCompiledCondition) compiledCondition, deleteConditionParameterMaps);
+            } finally {
+                if (scanPermit) {
+                    this.planInspector.release();
+                }
+            }
+            return;
+        }
+        String sql = ((RDBMSCompiledCondition) compiledCondition).getStatement(OPERATION_DELETE,
+                shape -> this.composeConditionalQuery(deleteQuery, (RDBMSCompiledCondition) compiledCondition,
+                        false));
+        boolean scanPermit = !deleteConditionParameterMaps.isEmpty() && this.admitStatement(
+                (RDBMSCompiledCondition) compiledCondition, deleteConditionParameterMaps.get(0));
+        Connection conn = this.getConnection();
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement(sql);
+            int counter = 0;
+            for (Map<String, Object> deleteConditionParameterMap : deleteConditionParameterMaps) {
+                RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
+                        deleteConditionParameterMap, 0);
+                stmt.addBatch();
+                counter++;
+                if (counter == batchSize) {
+                    stmt.executeBatch();
+                    stmt.clearBatch();
+                    counter = 0;
+                }
+            }
+            if (counter > 0) {
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new RDBMSTableException("Error performing record deletion on table '" + this.tableName
+                    + "': " + e.getMessage(), e);
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+            if (scanPermit) {
+                this.planInspector.release();
+            }
+        }
+    }
+
+    /**
+     * Method for performing a number of delete operations with an equality condition through key-list deletes, each
+     * of which deletes the records of as many distinct keys as the database accepts parameters for. Keys with null
+     * values are left out, since they do not match any record.
+     *
+     * @param compiledCondition            the condition that was built during compile time.
+     * @param deleteConditionParameterMaps the runtime values of the condition, one map per delete.
+     */
+    private void deleteRecordsByKeys(RDBMSCompiledCondition compiledCondition,
+                                     List<Map<String, Object>> deleteConditionParameterMaps) {
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        List<String> columns = new ArrayList<>(equalityOperands.keySet());
+        int[] columnIndexes = columns.stream().mapToInt(this::attributeIndex).toArray();
+        Set<List<Object>> distinctKeys = new LinkedHashSet<>();
+        for (Map<String, Object> deleteConditionParameterMap : deleteConditionParameterMaps) {
+            List<Object> key = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                key.add(this.resolveOperand(equalityOperands.get(column), deleteConditionParameterMap));
+            }
+            if (!key.contains(null)) {
+                distinctKeys.add(key);
+            }
+        }
+        List<List<Object>> keys = new ArrayList<>(distinctKeys);
+        int keysPerStatement = this.keysPerStatement(columns.size());
+        Connection conn = this.getConnection();
+        PreparedStatement stmt = null;
+        int preparedKeyCount = 0;
+        try {
+            for (int start = 0; start < keys.size(); start += keysPerStatement) {
+                List<List<Object>> chunk = keys.subList(start, Math.min(start + keysPerStatement, keys.size()));
+                if (chunk.size() != preparedKeyCount) {
+                    RDBMSTableUtils.cleanupConnection(null, stmt, null);
+                    stmt = conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(deleteQuery,
+                            RDBMSTableUtils.composeKeyListCondition(this.tableName, columns, chunk.size())));
+                    preparedKeyCount = chunk.size();
+                }
+                int ordinal = 1;
+                for (List<Object> key : chunk) {
+                    for (int i = 0; i < columnIndexes.length; i++) {
+                        this.columnBinders[columnIndexes[i]].bind(stmt, ordinal, key.get(i));
+                        ordinal++;
+                    }
+                }
+                stmt.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new RDBMSTableException("Error performing record deletion on table '" + this.tableName
+                    + "': " + e.getMessage(), e);
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Deleted the records of " + keys.size() + " keys from table '" + this.tableName + "' through " +
+                    ((keys.size() + keysPerStatement - 1) / keysPerStatement) + " statements.");
+        }
+    }
+
+    /**
+     * Method for deleting a chunk of the records which have expired at the given time, on behalf of the
+     * {@link RDBMSRetentionPurger}.
+     *
+     * @param expiryTime the time before which the records have expired.
+     * @return the number of deleted records.
+     */
+    private int purgeRecords(long expiryTime) {
+        Connection conn = this.getConnection();
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement(this.purgeQuery);
+            this.columnBinders[this.retentionIndex].bind(stmt, 1, expiryTime);
+            int deletedRecordCount = stmt.executeUpdate();
+            if (deletedRecordCount > 0) {
+                this.invalidateCache();
+            }
+            return deletedRecordCount;
+        } catch (SQLException e) {
+            throw new RDBMSTableException("Error purging expired records from table '" + this.tableName + "': "
+                    + e.getMessage(), e);
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+        }
+    }
+
+    @Override
+    protected void update(CompiledCondition compiledCondition, List<Map<String, Object>> updateConditionParameterMaps,
+                          Map<String, CompiledExpression> updateSetExpressions, List<Map<String, Object>> updateValues)
+            throws ConnectionUnavailableException {
+        String sql = this.composeUpdateQuery(compiledCondition, updateSetExpressions);
+        int[] coalescedIndexes = this.coalesceUpdates((RDBMSCompiledCondition) compiledCondition,
+                updateConditionParameterMaps, updateSetExpressions, updateValues);
+        if (coalescedIndexes != null) {
+            updateConditionParameterMaps = RDBMSTableUtils.select(updateConditionParameterMaps, coalescedIndexes);
+            updateValues = RDBMSTableUtils.select(updateValues, coalescedIndexes);
+        }
+        this.addUpdatedKeys(updateSetExpressions, updateValues);
+        boolean scanPermit = false;
+        try {
+            scanPermit = !updateConditionParameterMaps.isEmpty() && this.admitStatement(
+                    (RDBMSCompiledCondition) compiledCondition, updateConditionParameterMaps.get(0));
+            this.batchProcessSQLUpdates(sql, updateConditionParameterMaps, compiledCondition,
+                    updateSetExpressions, updateValues);
+        } finally {
+            if (scanPermit) {
+                this.planInspector.release();
+            }
+            this.invalidateCache();
+        }
+    }
+
+
+    /**
+     * Method for processing update operations in a batched manner. This assumes that all update operations will be
+     * accepted by the database.
+     *
+     * @param sql                          the SQL update operation as string.
      * @param updateConditionParameterMaps the runtime parameters that should be populated to the condition.
      * @param compiledCondition            the condition that was built during compile time.
      * @param updateSetExpressions         the expressions that are used in the SET operation
@@ -563,156 +2083,889 @@ public class RDBMSEventTable extends AbstractRecordTable {
         } finally {
             RDBMSTableUtils.cleanupConnection(null, stmt, conn);
         }
-    }
-
-    @Override
-    protected void updateOrAdd(CompiledCondition compiledCondition,
-                               List<Map<String, Object>> updateConditionParameterMaps,
-                               Map<String, CompiledExpression> updateSetExpressions,
-                               List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords)
-            throws ConnectionUnavailableException {
-        List<Integer> recordInsertIndexList;
-        if (batchEnable) {
-            recordInsertIndexList = batchProcessUpdate(updateConditionParameterMaps, compiledCondition,
-                    updateSetExpressions, updateSetParameterMaps);
-        } else {
-            recordInsertIndexList = sequentialProcessUpdate(updateConditionParameterMaps, compiledCondition,
-                    updateSetExpressions, updateSetParameterMaps);
+    }
+
+    @Override
+    protected void updateOrAdd(CompiledCondition compiledCondition,
+                               List<Map<String, Object>> updateConditionParameterMaps,
+                               Map<String, CompiledExpression> updateSetExpressions,
+                               List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords)
+            throws ConnectionUnavailableException {
+        int[] coalescedIndexes = this.coalesceUpdates((RDBMSCompiledCondition) compiledCondition,
+                updateConditionParameterMaps, updateSetExpressions, updateSetParameterMaps);
+        if (coalescedIndexes != null) {
+            List<Object[]> coalescedRecords = this.coalesceRecords((RDBMSCompiledCondition) compiledCondition,
+                    updateConditionParameterMaps, updateSetExpressions, updateSetParameterMaps, addingRecords,
+                    coalescedIndexes);
+            if (coalescedRecords != null) {
+                updateConditionParameterMaps = RDBMSTableUtils.select(updateConditionParameterMaps,
+                        coalescedIndexes);
+                updateSetParameterMaps = RDBMSTableUtils.select(updateSetParameterMaps, coalescedIndexes);
+                addingRecords = coalescedRecords;
+            }
+        }
+        try {
+            this.updateOrAddRecords(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateSetParameterMaps, addingRecords);
+        } finally {
+            this.invalidateCache();
+        }
+    }
+
+    private void updateOrAddRecords(CompiledCondition compiledCondition,
+                                    List<Map<String, Object>> updateConditionParameterMaps,
+                                    Map<String, CompiledExpression> updateSetExpressions,
+                                    List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords) {
+        this.addUpdatedKeys(updateSetExpressions, updateSetParameterMaps);
+        if (this.isStagedUpsertEquivalent((RDBMSCompiledCondition) compiledCondition, updateConditionParameterMaps,
+                updateSetExpressions, updateSetParameterMaps, addingRecords)) {
+            addingRecords.forEach(this::addKey);
+            this.stagedUpsertRecords(((RDBMSCompiledCondition) compiledCondition).getStatement(
+                    statementShape(OPERATION_STAGED_UPSERT, updateSetExpressions),
+                    shape -> this.composeStagedUpsertQuery(updateSetExpressions)), addingRecords);
+            return;
+        }
+        String upsertQuery = ((RDBMSCompiledCondition) compiledCondition).getStatement(
+                statementShape(OPERATION_UPSERT, updateSetExpressions), shape -> Objects.toString(
+                        this.composeUpsertQuery((RDBMSCompiledCondition) compiledCondition, updateSetExpressions),
+                        ""));
+        if (!upsertQuery.isEmpty() && this.isUpsertEquivalent((RDBMSCompiledCondition) compiledCondition,
+                updateConditionParameterMaps, updateSetExpressions, updateSetParameterMaps, addingRecords)) {
+            addingRecords.forEach(this::addKey);
+            this.batchProcessUpsert(upsertQuery, updateSetExpressions, updateSetParameterMaps, addingRecords);
+            return;
+        }
+        this.processUpdateOrInsert((RDBMSCompiledCondition) compiledCondition, updateConditionParameterMaps,
+                updateSetExpressions, updateSetParameterMaps, addingRecords);
+    }
+
+    /**
+     * Method for composing the single-statement upsert query for the given condition and set expressions. The upsert
+     * query can only be used if the condition is an equality conjunction over exactly the primary key columns, and
+     * the primary key columns are, if at all, set to plain values (which the upsert leaves out of the update).
+     *
+     * @param compiledCondition    the condition that was built during compile time.
+     * @param updateSetExpressions the expressions that are used in the SET operation.
+     * @return the composed upsert query, or null if the operation cannot be performed as an upsert.
+     */
+    private String composeUpsertQuery(RDBMSCompiledCondition compiledCondition,
+                                      Map<String, CompiledExpression> updateSetExpressions) {
+        if (this.recordUpsertQuery == null || !this.isPrimaryKeyEquality(compiledCondition)) {
+            return null;
+        }
+        boolean replacesRow = !this.recordUpsertQuery.contains(PLACEHOLDER_COLUMNS_VALUES);
+        StringBuilder setClause = new StringBuilder();
+        int valueColumnCount = 0;
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            RDBMSCompiledCondition expression = (RDBMSCompiledCondition) entry.getValue();
+            boolean isKey = this.isPrimaryKey(entry.getKey());
+            if ((isKey || replacesRow) && !this.isPlainValue(expression)) {
+                return null;
+            }
+            if (isKey) {
+                continue;
+            }
+            if (setClause.length() > 0) {
+                setClause.append(SEPARATOR);
+            }
+            setClause.append(entry.getKey()).append(" = ").append(expression.getCompiledQuery());
+            valueColumnCount++;
+        }
+        if (replacesRow) {
+            return (valueColumnCount == this.attributes.size() - this.primaryKeyIndexes.length) ?
+                    this.recordUpsertQuery : null;
+        }
+        return (valueColumnCount > 0) ?
+                this.recordUpsertQuery.replace(PLACEHOLDER_COLUMNS_VALUES, setClause.toString()) : null;
+    }
+
+    /**
+     * Checks whether the condition is an equality conjunction over exactly the primary key columns.
+     */
+    private boolean isPrimaryKeyEquality(RDBMSCompiledCondition compiledCondition) {
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        if (equalityOperands == null || equalityOperands.size() != this.primaryKeyIndexes.length) {
+            return false;
+        }
+        for (int keyIndex : this.primaryKeyIndexes) {
+            if (!equalityOperands.containsKey(this.attributes.get(keyIndex).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given records can be applied through the staging table, i.e. whether there are enough of
+     * them, they are matched on their primary keys, all attributes being set are set to the values of the records
+     * and no two records have the same key. Batches with repeated keys are left to the other strategies, since a
+     * set-based statement cannot apply more than one change to the same row.
+     *
+     * @return true if the operation can be performed through the staging table.
+     */
+    private boolean isStagedUpsertEquivalent(RDBMSCompiledCondition compiledCondition,
+                                             List<Map<String, Object>> updateConditionParameterMaps,
+                                             Map<String, CompiledExpression> updateSetExpressions,
+                                             List<Map<String, Object>> updateSetParameterMaps,
+                                             List<Object[]> addingRecords) {
+        if (this.stagingUpsertQuery == null || addingRecords.size() < this.stagingUpsertThreshold ||
+                updateConditionParameterMaps.size() != addingRecords.size() ||
+                updateSetParameterMaps.size() != addingRecords.size() ||
+                !this.isPrimaryKeyEquality(compiledCondition)) {
+            return false;
+        }
+        int[] setIndexes = new int[updateSetExpressions.size()];
+        Object[] setOperands = new Object[updateSetExpressions.size()];
+        int valueColumnCount = 0;
+        int i = 0;
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            RDBMSCompiledCondition expression = (RDBMSCompiledCondition) entry.getValue();
+            if (!this.isPlainValue(expression)) {
+                return false;
+            }
+            if (!this.isPrimaryKey(entry.getKey())) {
+                valueColumnCount++;
+            }
+            setIndexes[i] = this.attributeIndex(entry.getKey());
+            setOperands[i] = expression.getParameters().get(0);
+            i++;
+        }
+        boolean replacesRow = !this.stagingUpsertQuery.contains(PLACEHOLDER_COLUMNS_VALUES);
+        if (valueColumnCount == 0 ||
+                (replacesRow && valueColumnCount != this.attributes.size() - this.primaryKeyIndexes.length)) {
+            return false;
+        }
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        Set<List<Object>> keys = new HashSet<>();
+        for (int recordIndex = 0; recordIndex < addingRecords.size(); recordIndex++) {
+            Object[] record = addingRecords.get(recordIndex);
+            List<Object> key = new ArrayList<>(this.primaryKeyIndexes.length);
+            for (int keyIndex : this.primaryKeyIndexes) {
+                Object value = record[keyIndex];
+                Object operand = equalityOperands.get(this.attributes.get(keyIndex).getName());
+                if (value == null ||
+                        !value.equals(this.resolveOperand(operand, updateConditionParameterMaps.get(recordIndex)))) {
+                    return false;
+                }
+                key.add(value);
+            }
+            if (!keys.add(key)) {
+                return false;
+            }
+            for (int j = 0; j < setIndexes.length; j++) {
+                if (!Objects.equals(record[setIndexes[j]],
+                        this.resolveOperand(setOperands[j], updateSetParameterMaps.get(recordIndex)))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method for composing the set-based upsert statement for the given set expressions, which sets the non-key
+     * columns to the values of the corresponding columns of the staging table.
+     */
+    private String composeStagedUpsertQuery(Map<String, CompiledExpression> updateSetExpressions) {
+        String setClause = updateSetExpressions.keySet().stream()
+                .filter(column -> !this.isPrimaryKey(column))
+                .map(column -> column + " = " + this.stagingSourceAlias + "." + column)
+                .collect(Collectors.joining(SEPARATOR));
+        return this.stagingUpsertQuery.replace(PLACEHOLDER_COLUMNS_VALUES, setClause);
+    }
+
+    /**
+     * Method for performing update or insert operations through the staging table on a single connection. The
+     * records are loaded into the staging table through batched inserts, after which they are applied to the table
+     * through a single set-based statement, and the staging table is cleared again. If the table is configured to
+     * commit per batch, this is done and committed once per chunk of the configured batch size, so that large batches
+     * do not run as a single transaction. Otherwise all records are loaded, applied and committed at once.
+     *
+     * @param upsertQuery   the set-based upsert statement composed for the set expressions.
+     * @param addingRecords the records to be updated or inserted.
+     */
+    private void stagedUpsertRecords(String upsertQuery, List<Object[]> addingRecords) {
+        boolean autocommit = !this.transactionSupported;
+        boolean committed = autocommit;
+        int chunkSize = (this.commitPerBatch && this.batchSize > 0) ? this.batchSize : addingRecords.size();
+        int executedRecordCount = 0;
+        int committedRecordCount = 0;
+        int affectedRecordCount = 0;
+        Connection conn = this.getConnection(autocommit);
+        Statement stmt = null;
+        PreparedStatement insertStmt = null;
+        try {
+            stmt = conn.createStatement();
+            //The staging table lives as long as the session, hence it may exist and hold rows of a failed attempt.
+            stmt.execute(this.stagingTableCreateQuery);
+            stmt.executeUpdate(this.stagingTableClearQuery);
+            insertStmt = conn.prepareStatement(this.stagingInsertQuery);
+            while (executedRecordCount < addingRecords.size()) {
+                int chunkEnd = Math.min(executedRecordCount + chunkSize, addingRecords.size());
+                int batchRecordCount = 0;
+                for (Object[] record : addingRecords.subList(executedRecordCount, chunkEnd)) {
+                    this.populateStatement(record, insertStmt);
+                    insertStmt.addBatch();
+                    batchRecordCount++;
+                    if (batchRecordCount == this.batchSize) {
+                        insertStmt.executeBatch();
+                        insertStmt.clearBatch();
+                        batchRecordCount = 0;
+                    }
+                }
+                if (batchRecordCount > 0) {
+                    insertStmt.executeBatch();
+                    insertStmt.clearBatch();
+                }
+                affectedRecordCount += stmt.executeUpdate(upsertQuery);
+                stmt.executeUpdate(this.stagingTableClearQuery);
+                executedRecordCount = chunkEnd;
+                committedRecordCount = this.commitChunk(conn, autocommit, executedRecordCount,
+                        committedRecordCount, addingRecords.size());
+            }
+            if (!autocommit && committedRecordCount < executedRecordCount) {
+                conn.commit();
+            }
+            committed = true;
+            if (log.isDebugEnabled()) {
+                log.debug("Applied " + addingRecords.size() + " records to table '" + this.tableName +
+                        "' through the staging table (" + affectedRecordCount + " rows affected).");
+            }
+        } catch (SQLException e) {
+            if (committedRecordCount > 0) {
+                throw new RDBMSBatchExecutionException("Error performing update/insert operation (staged upsert) " +
+                        "on table '" + this.tableName + "' after " + committedRecordCount + " of " +
+                        addingRecords.size() + " records were committed: " + e.getMessage(), e, committedRecordCount);
+            }
+            throw new RDBMSTableException("Error performing update/insert operation (staged upsert) on table '"
+                    + this.tableName + "': " + e.getMessage(), e);
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, stmt, null);
+            RDBMSTableUtils.cleanupConnection(null, insertStmt, conn);
+        }
+    }
+
+    /**
+     * Checks whether upserting the given records is equivalent to the update-then-insert semantics of the operation,
+     * i.e. whether the key values compared by the condition and the key values being set are those of the records
+     * being inserted. For upsert queries which replace the whole row, the values being set also need to be those of
+     * the records being inserted.
+     *
+     * @return true if the operation can be performed as an upsert.
+     */
+    private boolean isUpsertEquivalent(RDBMSCompiledCondition compiledCondition,
+                                       List<Map<String, Object>> updateConditionParameterMaps,
+                                       Map<String, CompiledExpression> updateSetExpressions,
+                                       List<Map<String, Object>> updateSetParameterMaps,
+                                       List<Object[]> addingRecords) {
+        if (updateConditionParameterMaps.size() != addingRecords.size() ||
+                updateSetParameterMaps.size() != addingRecords.size()) {
+            return false;
+        }
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        boolean replacesRow = !this.recordUpsertQuery.contains(PLACEHOLDER_COLUMNS_VALUES);
+        for (int i = 0; i < addingRecords.size(); i++) {
+            Object[] record = addingRecords.get(i);
+            for (int keyIndex : this.primaryKeyIndexes) {
+                Object key = record[keyIndex];
+                Object operand = equalityOperands.get(this.attributes.get(keyIndex).getName());
+                if (key == null || !key.equals(this.resolveOperand(operand, updateConditionParameterMaps.get(i)))) {
+                    return false;
+                }
+            }
+            for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+                if (replacesRow || this.isPrimaryKey(entry.getKey())) {
+                    Object value = ((RDBMSCompiledCondition) entry.getValue()).resolveParameter(0,
+                            updateSetParameterMaps.get(i));
+                    if (!Objects.equals(record[this.attributeIndex(entry.getKey())], value)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method for performing update or insert operations through the single-statement upsert query, in a batched
+     * manner on a single connection. Chunks of the configured batch size are committed in the same manner as in
+     * {@link #batchExecuteQueriesWithRecords(String, List, boolean)}.
+     *
+     * @param upsertQuery            the upsert query composed for the set expressions.
+     * @param updateSetExpressions   the expressions that are used in the SET operation.
+     * @param updateSetParameterMaps the runtime parameters that should be populated to the SET operation.
+     * @param addingRecords          the records to be inserted if no matching record exists.
+     */
+    private void batchProcessUpsert(String upsertQuery, Map<String, CompiledExpression> updateSetExpressions,
+                                    List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords) {
+        boolean autocommit = !this.transactionSupported;
+        boolean committed = autocommit;
+        boolean replacesRow = !this.recordUpsertQuery.contains(PLACEHOLDER_COLUMNS_VALUES);
+        int chunkRecordCount = 0;
+        int executedRecordCount = 0;
+        int committedRecordCount = 0;
+        Connection conn = this.getConnection(autocommit);
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement(upsertQuery);
+            for (int i = 0; i < addingRecords.size(); i++) {
+                this.populateStatement(addingRecords.get(i), stmt);
+                if (!replacesRow) {
+                    this.populateUpsertSetEntries(updateSetExpressions, stmt, updateSetParameterMaps.get(i),
+                            this.attributes.size());
+                }
+                stmt.addBatch();
+                chunkRecordCount++;
+                if (chunkRecordCount == this.batchSize) {
+                    stmt.executeBatch();
+                    stmt.clearBatch();
+                    executedRecordCount += chunkRecordCount;
+                    chunkRecordCount = 0;
+                    committedRecordCount = this.commitChunk(conn, autocommit, executedRecordCount,
+                            committedRecordCount, addingRecords.size());
+                }
+            }
+            if (chunkRecordCount > 0) {
+                stmt.executeBatch();
+                executedRecordCount += chunkRecordCount;
+            }
+            if (!autocommit && committedRecordCount < executedRecordCount) {
+                conn.commit();
+            }
+            committed = true;
+        } catch (SQLException e) {
+            if (!autocommit) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            if (committedRecordCount > 0) {
+                throw new RDBMSBatchExecutionException("Error performing update/insert operation (upsert) on " +
+                        "table '" + this.tableName + "' after " + committedRecordCount + " of " +
+                        addingRecords.size() + " records were committed: " + e.getMessage(), e, committedRecordCount);
+            }
+            throw new RDBMSTableException("Error performing update/insert operation (upsert) on table '"
+                    + this.tableName + "': " + e.getMessage(), e);
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+        }
+    }
+
+    /**
+     * Method for populating the parameters of the SET clause of the upsert query, which leaves out the primary key
+     * columns.
+     *
+     * @param updateSetExpressions the expressions that are used in the SET operation.
+     * @param stmt                 the statement to which the values should be set.
+     * @param updateSetMap         the runtime values of the SET operation.
+     * @param seed                 the number of parameters in the statement which precede the SET clause.
+     * @throws SQLException if the values cannot be set to the statement.
+     */
+    private void populateUpsertSetEntries(Map<String, CompiledExpression> updateSetExpressions,
+                                          PreparedStatement stmt, Map<String, Object> updateSetMap, int seed)
+            throws SQLException {
+        int ordinal = seed;
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            if (!this.isPrimaryKey(entry.getKey())) {
+                ordinal += ((RDBMSCompiledCondition) entry.getValue()).bindParameters(stmt, updateSetMap, ordinal);
+            }
+        }
+    }
+
+    /**
+     * Resolves the runtime value of a compiled condition parameter.
+     *
+     * @param operand       a {@link Constant} or a stream variable {@link Attribute}.
+     * @param parameterMap  the runtime values of the stream variables.
+     * @return the value of the operand.
+     */
+    private Object resolveOperand(Object operand, Map<String, Object> parameterMap) {
+        if (operand instanceof Constant) {
+            return ((Constant) operand).getValue();
+        }
+        return parameterMap.get(((Attribute) operand).getName());
+    }
+
+    /**
+     * Checks whether a compiled set expression is a plain constant or stream variable.
+     */
+    private boolean isPlainValue(RDBMSCompiledCondition expression) {
+        return QUESTION_MARK.equals(expression.getCompiledQuery()) && expression.getParameterCount() == 1;
+    }
+
+    private boolean isPrimaryKey(String attributeName) {
+        for (int keyIndex : this.primaryKeyIndexes) {
+            if (this.attributes.get(keyIndex).getName().equals(attributeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int attributeIndex(String attributeName) {
+        for (int i = 0; i < this.attributes.size(); i++) {
+            if (this.attributes.get(i).getName().equals(attributeName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method for performing update or insert operations on a single connection, in chunks of the configured batch
+     * size. The records of each chunk are first updated, after which those which did not match any existing record
+     * are inserted, and chunks are committed in the same manner as in
+     * {@link #batchExecuteQueriesWithRecords(String, List, boolean)}. A chunk which fails while it is the only
+     * uncommitted one is rolled back and executed once more, since failures such as a matching record being inserted
+     * concurrently between the update and the insert of the chunk are resolved by repeating it.
+     * <p>
+     * The updates of a chunk are batched if the driver reports the number of records matched by each statement of a
+     * batch, which is detected when the table connects. Otherwise the records are updated one at a time, each within
+     * a savepoint if the database supports them, so that a failing record is rolled back on its own and the others
+     * are still committed, after which the failures are reported.
+     * <p>
+     * If the key filter is enabled and the condition matches records on their primary keys, records whose keys are
+     * definitely absent from the table are inserted without attempting to update them first.
+     *
+     * @param compiledCondition            the condition that was built during compile time.
+     * @param updateConditionParameterMaps the runtime parameters of the condition.
+     * @param updateSetExpressions         the expressions that are used in the SET operation.
+     * @param updateSetParameterMaps       the runtime parameters that should be populated to the SET operation.
+     * @param addingRecords                the records to be inserted if no matching record exists.
+     */
+    private void processUpdateOrInsert(RDBMSCompiledCondition compiledCondition,
+                                       List<Map<String, Object>> updateConditionParameterMaps,
+                                       Map<String, CompiledExpression> updateSetExpressions,
+                                       List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords) {
+        boolean autocommit = !this.transactionSupported;
+        boolean committed = autocommit;
+        boolean retried = false;
+        int recordCount = Math.min(updateConditionParameterMaps.size(), updateSetParameterMaps.size());
+        int executedRecordCount = 0;
+        int committedRecordCount = 0;
+        List<SQLException> recordFailures = new ArrayList<>();
+        RDBMSKeyFilter routingFilter = this.isPrimaryKeyEquality(compiledCondition) ? this.keyFilter : null;
+        Connection conn = this.getConnection(autocommit);
+        PreparedStatement updateStmt = null;
+        PreparedStatement insertStmt = null;
+        try {
+            updateStmt = conn.prepareStatement(this.composeUpdateQuery(compiledCondition, updateSetExpressions));
+            insertStmt = conn.prepareStatement(this.insertStatement);
+            while (executedRecordCount < recordCount) {
+                int chunkEnd = Math.min(executedRecordCount + this.batchSize, recordCount);
+                int chunkFailureCount = recordFailures.size();
+                try {
+                    if (this.batchUpdateCountsSupported) {
+                        this.updateOrInsertChunk(updateStmt, insertStmt, compiledCondition,
+                                updateConditionParameterMaps, updateSetExpressions, updateSetParameterMaps,
+                                addingRecords, executedRecordCount, chunkEnd, routingFilter);
+                    } else {
+                        this.updateOrInsertRecords(conn, autocommit, updateStmt, insertStmt, compiledCondition,
+                                updateConditionParameterMaps, updateSetExpressions, updateSetParameterMaps,
+                                addingRecords, executedRecordCount, chunkEnd, routingFilter, recordFailures);
+                    }
+                } catch (SQLException e) {
+                    if (autocommit || retried || committedRecordCount < executedRecordCount) {
+                        throw e;
+                    }
+                    if (log.isDebugEnabled()) {
+                        log.debug("Retrying the update/insert of records " + executedRecordCount + " to " +
+                                chunkEnd + " on table '" + this.tableName + "' which failed: " + e.getMessage());
+                    }
+                    RDBMSTableUtils.rollbackConnection(conn);
+                    updateStmt.clearBatch();
+                    insertStmt.clearBatch();
+                    recordFailures.subList(chunkFailureCount, recordFailures.size()).clear();
+                    retried = true;
+                    continue;
+                }
+                retried = false;
+                executedRecordCount = chunkEnd;
+                committedRecordCount = this.commitChunk(conn, autocommit, executedRecordCount,
+                        committedRecordCount, recordCount);
+            }
+            if (!autocommit && committedRecordCount < executedRecordCount) {
+                conn.commit();
+            }
+            committed = true;
+        } catch (SQLException e) {
+            if (!autocommit) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            if (committedRecordCount > 0) {
+                throw new RDBMSBatchExecutionException("Error performing update/insert operation on table '" +
+                        this.tableName + "' after " + committedRecordCount + " of " + recordCount +
+                        " records were committed: " + e.getMessage(), e, committedRecordCount);
+            }
+            throw new RDBMSTableException("Error performing update/insert operation on table '"
+                    + this.tableName + "': " + e.getMessage(), e);
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, updateStmt, null);
+            RDBMSTableUtils.cleanupConnection(null, insertStmt, conn);
+        }
+        if (!recordFailures.isEmpty()) {
+            throw new RDBMSTableException("Error performing update/insert operation on " + recordFailures.size() +
+                    " of " + recordCount + " records on table '" + this.tableName + "', the other records were " +
+                    "processed: " + recordFailures.get(0).getMessage(), recordFailures.get(0));
+        }
+    }
+
+    /**
+     * Updates the records of the given range as a batch, and inserts those of them which did not match any existing
+     * record as another batch. Records whose keys are definitely absent from the given filter are inserted as a batch
+     * of their own before the others are updated, so that later records of the range with the same keys update them.
+     *
+     * @param start         the index of the first record of the chunk.
+     * @param end           the index after the last record of the chunk.
+     * @param routingFilter the key filter through which absent keys are detected, or null if it is not applicable.
+     * @throws SQLException if the update or insert fails.
+     */
+    private void updateOrInsertChunk(PreparedStatement updateStmt, PreparedStatement insertStmt,
+                                     RDBMSCompiledCondition compiledCondition,
+                                     List<Map<String, Object>> updateConditionParameterMaps,
+                                     Map<String, CompiledExpression> updateSetExpressions,
+                                     List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords,
+                                     int start, int end, RDBMSKeyFilter routingFilter) throws SQLException {
+        int[] updatedIndexes = new int[end - start];
+        int updatedCount = 0;
+        boolean inserting = false;
+        for (int i = start; i < end; i++) {
+            if (this.isKeyAbsent(routingFilter, compiledCondition, updateConditionParameterMaps.get(i))) {
+                this.addKey(addingRecords.get(i));
+                this.populateStatement(addingRecords.get(i), insertStmt);
+                insertStmt.addBatch();
+                inserting = true;
+            } else {
+                this.populateUpdateStatement(updateStmt, compiledCondition, updateSetExpressions,
+                        updateSetParameterMaps.get(i), updateConditionParameterMaps.get(i));
+                updateStmt.addBatch();
+                updatedIndexes[updatedCount++] = i;
+            }
+        }
+        if (inserting) {
+            insertStmt.executeBatch();
+            inserting = false;
+        }
+        if (updatedCount == 0) {
+            return;
+        }
+        int[] updateCounts = updateStmt.executeBatch();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] < 1) {
+                Object[] record = addingRecords.get(updatedIndexes[i]);
+                this.addKey(record);
+                this.populateStatement(record, insertStmt);
+                insertStmt.addBatch();
+                inserting = true;
+            }
+        }
+        if (inserting) {
+            insertStmt.executeBatch();
+        }
+    }
+
+    /**
+     * Updates the records of the given range one at a time, inserting each of them right away if it did not match any
+     * existing record. Within a transaction, each record is processed within a savepoint if the database supports
+     * them, so that a failing record is rolled back on its own and added to the given failures.
+     *
+     * @param start          the index of the first record of the chunk.
+     * @param end            the index after the last record of the chunk.
+     * @param routingFilter  the key filter through which absent keys are detected, or null if it is not applicable.
+     * @param recordFailures the list to which the failures of individual records are added.
+     * @throws SQLException if the update or insert fails outside of a savepoint.
+     */
+    private void updateOrInsertRecords(Connection conn, boolean autocommit, PreparedStatement updateStmt,
+                                       PreparedStatement insertStmt, RDBMSCompiledCondition compiledCondition,
+                                       List<Map<String, Object>> updateConditionParameterMaps,
+                                       Map<String, CompiledExpression> updateSetExpressions,
+                                       List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords,
+                                       int start, int end, RDBMSKeyFilter routingFilter,
+                                       List<SQLException> recordFailures) throws SQLException {
+        for (int i = start; i < end; i++) {
+            Savepoint savepoint = (!autocommit && this.savepointsSupported) ? conn.setSavepoint() : null;
+            try {
+                boolean inserting = this.isKeyAbsent(routingFilter, compiledCondition,
+                        updateConditionParameterMaps.get(i));
+                if (!inserting) {
+                    this.populateUpdateStatement(updateStmt, compiledCondition, updateSetExpressions,
+                            updateSetParameterMaps.get(i), updateConditionParameterMaps.get(i));
+                    inserting = updateStmt.executeUpdate() < 1;
+                }
+                if (inserting) {
+                    this.addKey(addingRecords.get(i));
+                    this.populateStatement(addingRecords.get(i), insertStmt);
+                    insertStmt.executeUpdate();
+                }
+            } catch (SQLException e) {
+                if (savepoint == null) {
+                    throw e;
+                }
+                conn.rollback(savepoint);
+                recordFailures.add(e);
+                if (log.isDebugEnabled()) {
+                    log.debug("Rolled back the update/insert of record " + i + " on table '" + this.tableName +
+                            "' which failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void populateUpdateStatement(PreparedStatement updateStmt, RDBMSCompiledCondition compiledCondition,
+                                         Map<String, CompiledExpression> updateSetExpressions,
+                                         Map<String, Object> updateSetMap, Map<String, Object> conditionParameters)
+            throws SQLException {
+        int ordinal = RDBMSTableUtils.enumerateUpdateSetEntries(updateSetExpressions, updateStmt, updateSetMap);
+        //Incrementing the ordinals of the conditions in the statement with the # of variables to be updated
+        RDBMSTableUtils.resolveCondition(updateStmt, compiledCondition, conditionParameters, ordinal - 1);
+    }
+
+    /**
+     * Adds the primary key of a record which is about to be written to the key filter, if it is enabled. Keys are
+     * added before the records are written, so that concurrent operations never miss a key which was written.
+     */
+    private void addKey(Object[] record) {
+        RDBMSKeyFilter filter = this.keyFilter;
+        if (filter != null) {
+            Object[] key = new Object[this.primaryKeyIndexes.length];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = record[this.primaryKeyIndexes[i]];
+            }
+            filter.add(key);
+        }
+    }
+
+    /**
+     * Adds the primary keys which update operations set on the records to the key filter, if it is enabled. If the
+     * new keys can not be told from the set expressions, i.e. if only a part of the key columns is set or they are
+     * set to computed values, the key filter is disabled until the table reconnects.
+     *
+     * @param updateSetExpressions   the expressions that are used in the SET operation.
+     * @param updateSetParameterMaps the runtime parameters of the SET operation.
+     */
+    private void addUpdatedKeys(Map<String, CompiledExpression> updateSetExpressions,
+                                List<Map<String, Object>> updateSetParameterMaps) {
+        RDBMSKeyFilter filter = this.keyFilter;
+        if (filter == null || updateSetExpressions.keySet().stream().noneMatch(this::isPrimaryKey)) {
+            return;
+        }
+        Object[] operands = new Object[this.primaryKeyIndexes.length];
+        for (int i = 0; i < operands.length; i++) {
+            RDBMSCompiledCondition expression = (RDBMSCompiledCondition) updateSetExpressions.get(
+                    this.attributes.get(this.primaryKeyIndexes[i]).getName());
+            if (expression == null || !this.isPlainValue(expression)) {
+                this.keyFilter = null;
+                if (log.isDebugEnabled()) {
+                    log.debug("Disabled the key filter of table '" + this.tableName + "', since its primary keys " +
+                            "are updated to values which can not be tracked.");
+                }
+                return;
+            }
+            operands[i] = expression.getParameters().get(0);
+        }
+        for (Map<String, Object> updateSetParameterMap : updateSetParameterMaps) {
+            Object[] key = new Object[operands.length];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = this.resolveOperand(operands[i], updateSetParameterMap);
+            }
+            filter.add(key);
+        }
+    }
+
+    /**
+     * Checks whether the key which a primary key equality condition matches is definitely absent from the table. Keys
+     * compared to values of a type other than that of the key column are never considered absent, since the database
+     * may convert them before comparing.
+     *
+     * @param routingFilter         the key filter, or null if it is not applicable to the condition.
+     * @param compiledCondition     the condition that was built during compile time.
+     * @param conditionParameterMap the runtime values of the condition.
+     * @return true if no record with the key exists.
+     */
+    private boolean isKeyAbsent(RDBMSKeyFilter routingFilter, RDBMSCompiledCondition compiledCondition,
+                                Map<String, Object> conditionParameterMap) {
+        if (routingFilter == null) {
+            return false;
+        }
+        Map<String, Object> equalityOperands = compiledCondition.getEqualityOperands();
+        Object[] key = new Object[this.primaryKeyIndexes.length];
+        for (int i = 0; i < key.length; i++) {
+            Attribute attribute = this.attributes.get(this.primaryKeyIndexes[i]);
+            key[i] = this.resolveOperand(equalityOperands.get(attribute.getName()), conditionParameterMap);
+            if (key[i] != null && RDBMSValueReader.forType(attribute.getType()) !=
+                    RDBMSValueReader.forValue(key[i])) {
+                return false;
+            }
         }
-        batchProcessInsert(addingRecords, recordInsertIndexList);
+        return !routingFilter.mightContain(key);
     }
 
-    private List<Integer> batchProcessUpdate(List<Map<String, Object>> updateConditionParameterMaps,
-                                             CompiledCondition compiledCondition,
-                                             Map<String, CompiledExpression> updateSetExpressions,
-                                             List<Map<String, Object>> updateSetParameterMaps) {
-        int counter = 0;
-        Connection conn = this.getConnection();
-        PreparedStatement updateStmt = null;
-        List<Integer> recordInsertIndexList = new ArrayList<>();
+    /**
+     * Method for loading the primary keys of all records of the table into a new key filter.
+     *
+     * @return the key filter.
+     */
+    private RDBMSKeyFilter loadKeyFilter() {
+        RDBMSKeyFilter filter = new RDBMSKeyFilter(this.keyFilterSize);
+        RDBMSValueReader[] readers = new RDBMSValueReader[this.primaryKeyIndexes.length];
+        String[] columns = new String[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            Attribute attribute = this.attributes.get(this.primaryKeyIndexes[i]);
+            readers[i] = RDBMSValueReader.forType(attribute.getType());
+            columns[i] = attribute.getName();
+        }
+        String sql = "SELECT " + String.join(SEPARATOR, columns) + " FROM " + this.tableName;
+        Connection conn = this.getConnection(!this.cursorTransaction);
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        long keyCount = 0;
         try {
-            updateStmt = conn.prepareStatement(this.composeUpdateQuery(compiledCondition,
-                    updateSetExpressions));
-            Iterator<Map<String, Object>> conditionParamIterator = updateConditionParameterMaps.iterator();
-            Iterator<Map<String, Object>> updateSetMapIterator = updateSetParameterMaps.iterator();
-            while (conditionParamIterator.hasNext() && updateSetMapIterator.hasNext()) {
-                Map<String, Object> conditionParameters = conditionParamIterator.next();
-                Map<String, Object> updateSetMap = updateSetMapIterator.next();
-                int ordinal = RDBMSTableUtils.enumerateUpdateSetEntries(updateSetExpressions, updateStmt, updateSetMap);
-                //Incrementing the ordinals of the conditions in the statement with the # of variables to be updated
-                RDBMSTableUtils.resolveCondition(updateStmt, (RDBMSCompiledCondition) compiledCondition,
-                        conditionParameters, ordinal - 1);
-                updateStmt.addBatch();
-                if (counter % batchSize == batchSize - 1) {
-                    recordInsertIndexList.addAll(this.filterRequiredInsertIndex(updateStmt.executeBatch(),
-                            ((counter / batchSize) * batchSize)));
-                    updateStmt.clearBatch();
+            stmt = this.prepareReadStatement(conn, sql);
+            rs = stmt.executeQuery();
+            while (rs.next()) {
+                Object[] key = new Object[readers.length];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = readers[i].read(rs, i + 1);
                 }
-                counter++;
-            }
-            if (counter % batchSize > 0) {
-                recordInsertIndexList.addAll(this.filterRequiredInsertIndex(updateStmt.executeBatch(),
-                        (counter - (counter % batchSize))));
+                filter.add(key);
+                keyCount++;
             }
         } catch (SQLException e) {
-            throw new RDBMSTableException("Error performing update/insert operation (update) on table '"
-                    + this.tableName + "': " + e.getMessage(), e);
+            throw new RDBMSTableException("Error loading the primary keys of table '" + this.tableName +
+                    "' into the key filter: " + e.getMessage(), e);
         } finally {
-            RDBMSTableUtils.cleanupConnection(null, updateStmt, conn);
+            if (this.cursorTransaction) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(rs, stmt, conn);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + keyCount + " primary keys of table '" + this.tableName + "' into the key filter.");
         }
-        return recordInsertIndexList;
+        return filter;
     }
 
-    private List<Integer> sequentialProcessUpdate(List<Map<String, Object>> updateConditionParameterMaps,
-                                                  CompiledCondition compiledCondition,
-                                                  Map<String, CompiledExpression> updateSetExpressions,
-                                                  List<Map<String, Object>> updateSetParameterMaps) {
-        int counter = 0;
-        Connection conn = this.getConnection(false);
-        PreparedStatement updateStmt = null;
-        List<Integer> updateResultList = new ArrayList<>();
+    /**
+     * Checks the capabilities of the driver on which the update-or-insert operation depends. Unless the records are
+     * configured to be processed one at a time, whether the driver reports the number of records matched by each
+     * statement of a batch is checked by executing a batch of updates which cannot match any record, since drivers
+     * which only report {@link Statement#SUCCESS_NO_INFO} do not tell which records of a batch need to be inserted.
+     * If the driver reports them, the records are updated or inserted in batches even if batches are disabled for
+     * the table, which is otherwise only used if the check fails. The updates filter
+     * on a primary key column if there is one, and their condition is false regardless of the column, so that the
+     * database neither locks nor scans any rows.
+     */
+    private void probeUpdateCapabilities() {
+        int columnIndex = (this.primaryKeyIndexes.length > 0) ? this.primaryKeyIndexes[0] : 0;
+        String column = this.attributes.get(columnIndex).getName();
+        String sql = RDBMSTableUtils.formatQueryWithCondition(recordUpdateQuery.replace(PLACEHOLDER_COLUMNS_VALUES,
+                column + " = " + column), column + " = ? AND 1 = 0");
+        Connection conn = this.getConnection(!this.transactionSupported);
+        PreparedStatement stmt = null;
         try {
-            updateStmt = conn.prepareStatement(this.composeUpdateQuery(compiledCondition,
-                    updateSetExpressions));
-            while (counter < updateSetParameterMaps.size()) {
-                Map<String, Object> conditionParameters = updateConditionParameterMaps.get(counter);
-                Map<String, Object> updateSetParameterMap = updateSetParameterMaps.get(counter);
-                int ordinal = RDBMSTableUtils.enumerateUpdateSetEntries(
-                        updateSetExpressions, updateStmt, updateSetParameterMap);
-                //Incrementing the ordinals of the conditions in the statement with the # of variables to be updated
-                RDBMSTableUtils.resolveCondition(updateStmt, (RDBMSCompiledCondition) compiledCondition,
-                        conditionParameters, ordinal - 1);
-                int isUpdate = updateStmt.executeUpdate();
-                conn.commit();
-                if (isUpdate < 1) {
-                    updateResultList.add(counter);
+            this.savepointsSupported = conn.getMetaData().supportsSavepoints();
+            this.batchUpdateCountsSupported = false;
+            if (!this.rowWiseUpdateOrInsert) {
+                stmt = conn.prepareStatement(sql);
+                for (int i = 0; i < 2; i++) {
+                    this.columnBinders[columnIndex].bind(stmt, 1, null);
+                    stmt.addBatch();
                 }
-                counter++;
+                int[] updateCounts = stmt.executeBatch();
+                this.batchUpdateCountsSupported = updateCounts.length == 2 && updateCounts[0] >= 0 &&
+                        updateCounts[1] >= 0;
             }
         } catch (SQLException e) {
-            throw new RDBMSTableException("Error performing update/insert operation (update) on table '"
-                    + this.tableName
-                    + "': " + e.getMessage(), e);
+            this.batchUpdateCountsSupported = this.batchEnable;
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to check the batch update counts of table '" + this.tableName + "', falling " +
+                        "back to the configured batch mode: " + e.getMessage());
+            }
         } finally {
-            RDBMSTableUtils.cleanupConnection(null, updateStmt, conn);
+            if (this.transactionSupported) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Update/insert operations on table '" + this.tableName + "' are performed " +
+                    (this.batchUpdateCountsSupported ? "in batches." : "one record at a time."));
         }
-        return updateResultList;
     }
 
-    private void batchProcessInsert(List<Object[]> addingRecords, List<Integer> recordInsertIndexList) {
-        int counter = 0;
-        Connection conn = this.getConnection(false);
-        PreparedStatement insertStmt = null;
-        try {
-            insertStmt = conn.prepareStatement(this.composeInsertQuery());
-            while (counter < recordInsertIndexList.size()) {
-                if (recordInsertIndexList.get(counter) == counter) {
-                    Object[] record = addingRecords.get(counter);
-                    this.populateStatement(record, insertStmt);
-                    try {
-                        insertStmt.addBatch();
-                        if (counter % batchSize == (batchSize - 1)) {
-                            insertStmt.executeBatch();
-                            conn.commit();
-                            insertStmt.clearBatch();
-                        }
-                    } catch (SQLException e2) {
-                        RDBMSTableUtils.rollbackConnection(conn);
-                        throw new RDBMSTableException("Error performing update/insert operation (insert) on table '"
-                                + this.tableName + "': " + e2.getMessage(), e2);
-                    }
-                }
-                counter++;
+    /**
+     * Reads the SQL expressions of the namespaced Siddhi functions for the database of the table, which are those of
+     * the function mappings of the database unless they are overridden through the deployment configuration, e.g.
+     * "h2.functionMapping.str:contains".
+     *
+     * @return the SQL expressions, keyed by the namespaced name of the function.
+     */
+    private Map<String, String> readFunctionMappings() {
+        Map<String, String> expressions = new HashMap<>();
+        RDBMSFunctionMapping[] functionMappings = this.queryConfigurationEntry.getFunctionMappings();
+        if (functionMappings != null) {
+            for (RDBMSFunctionMapping functionMapping : functionMappings) {
+                expressions.put(functionMapping.getFunction(), functionMapping.getExpression().trim());
             }
-            if (counter % batchSize > 0) {
-                insertStmt.executeBatch();
-                conn.commit();
+        }
+        Set<String> functions = new HashSet<>(expressions.keySet());
+        functions.addAll(this.functionMapper.getUsedFunctions());
+        for (String function : functions) {
+            String expression = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
+                    PROPERTY_SEPARATOR + FUNCTION_MAPPING + PROPERTY_SEPARATOR + function, expressions.get(function));
+            if (!RDBMSTableUtils.isEmpty(expression)) {
+                expressions.put(function, expression.trim());
             }
-        } catch (SQLException e) {
-            throw new RDBMSTableException("Error performing update/insert operation (update) on table '"
-                    + this.tableName
-                    + "': " + e.getMessage(), e);
-        } finally {
-            RDBMSTableUtils.cleanupConnection(null, insertStmt, conn);
         }
+        return expressions;
     }
 
-    private List<Integer> filterRequiredInsertIndex(int[] updateResultIndex, int lastUpdatedRecordIndex) {
-        List<Integer> insertIndexList = new ArrayList<>();
-        for (int i = 0; i < updateResultIndex.length; i++) {
-            //Filter update result index and adding to list.
-            if (updateResultIndex[i] < 1) {
-                insertIndexList.add(lastUpdatedRecordIndex + i);
-            }
+    /**
+     * Creates the plan inspector of the table if plan inspection is enabled, reading the EXPLAIN template and the
+     * patterns which the plans are inspected with from the configuration of the database. Plan inspection is disabled
+     * with a warning if the database has no EXPLAIN template, since it cannot report plans through a single query.
+     */
+    private void initPlanInspector() {
+        if (this.planInspectionMode == RDBMSPlanInspector.Mode.OFF) {
+            return;
+        }
+        String databaseName = this.queryConfigurationEntry.getDatabaseName();
+        explainQuery = configReader.readConfig(databaseName + PROPERTY_SEPARATOR + EXPLAIN_QUERY,
+                this.queryConfigurationEntry.getExplainQuery());
+        String fullScanPattern = configReader.readConfig(databaseName + PROPERTY_SEPARATOR + FULL_SCAN_PATTERN,
+                this.queryConfigurationEntry.getFullScanPattern());
+        String costPattern = configReader.readConfig(databaseName + PROPERTY_SEPARATOR + COST_PATTERN,
+                this.queryConfigurationEntry.getCostPattern());
+        if (RDBMSTableUtils.isEmpty(explainQuery) || RDBMSTableUtils.isEmpty(fullScanPattern)) {
+            log.warn("Plan inspection is disabled for table '" + this.tableName + "', since no EXPLAIN query or " +
+                    "full scan pattern is configured for database '" + databaseName + "'.");
+            return;
+        }
+        try {
+            this.planInspector = new RDBMSPlanInspector(this.tableName, this.planInspectionMode,
+                    this.planInspectionRows, Pattern.compile(fullScanPattern.trim()),
+                    RDBMSTableUtils.isEmpty(costPattern) ? null : Pattern.compile(costPattern.trim()));
+        } catch (PatternSyntaxException e) {
+            throw new RDBMSTableException("Invalid plan pattern configured for database '" + databaseName + "': " +
+                    e.getMessage(), e);
         }
-        return insertIndexList;
     }
 
     @Override
     protected CompiledCondition compileCondition(ExpressionBuilder expressionBuilder) {
         RDBMSConditionVisitor visitor = new RDBMSConditionVisitor(this.tableName);
         expressionBuilder.build(visitor);
-        return new RDBMSCompiledCondition(visitor.returnCondition(), visitor.getParameters());
+        this.functionMapper.register(visitor.getFunctionCalls());
+        this.indexAdvisor.record(visitor.getFilteredColumns());
+        return new RDBMSCompiledCondition(visitor.returnCondition(), visitor.getParameters(),
+                visitor.getEqualityOperands(), visitor.getFunctionCalls(), this.functionMapper);
     }
 
 
@@ -766,16 +3019,101 @@ public class RDBMSEventTable extends AbstractRecordTable {
                     deleteQuery = this.resolveTableName(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_DELETE_QUERY,
                             this.queryConfigurationEntry.getRecordDeleteQuery()));
+                    if (this.retentionIndex >= 0) {
+                        String purgeTemplate = configReader.readConfig(
+                                this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                        RECORD_PURGE_QUERY, this.queryConfigurationEntry.getRecordPurgeQuery());
+                        if (RDBMSTableUtils.isEmpty(purgeTemplate)) {
+                            throw new RDBMSTableException("Purging expired records is not supported for database '" +
+                                    this.queryConfigurationEntry.getDatabaseName() + "', since no '" +
+                                    RECORD_PURGE_QUERY + "' is configured.");
+                        }
+                        purgeQuery = this.resolveTableName(purgeTemplate)
+                                .replace(PLACEHOLDER_RETENTION_COLUMN,
+                                        this.attributes.get(this.retentionIndex).getName())
+                                .replace(PLACEHOLDER_LIMIT, String.valueOf(this.retentionChunkSize));
+                    }
                     batchSize = Integer.parseInt(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + BATCH_SIZE,
                             String.valueOf(this.queryConfigurationEntry.getBatchSize())));
                     insertQuery = this.resolveTableName(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_INSERT_QUERY,
                             this.queryConfigurationEntry.getRecordInsertQuery()));
-                    insertQuery = this.insertColumnNames();
+                    insertQuery = this.insertColumnNames(insertQuery);
+                    insertStatement = this.composeInsertQuery();
+                    columnBinders = this.attributes.stream()
+                            .map(attribute -> RDBMSValueBinder.forType(attribute.getType()))
+                            .toArray(RDBMSValueBinder[]::new);
+                    recordDecoder = new RDBMSRecordDecoder(this.attributes);
+                    boolean multiRowInsertEnable = Boolean.parseBoolean(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    MULTI_ROW_INSERT_ENABLE,
+                            String.valueOf(this.queryConfigurationEntry.isMultiRowInsertEnable())));
+                    maxBindParameters = Integer.parseInt(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    MAX_BIND_PARAMETERS,
+                            String.valueOf(this.queryConfigurationEntry.getMaxBindParameters())));
+                    if (multiRowInsertEnable) {
+                        multiRowInsert = RDBMSMultiRowInsert.build(insertQuery, this.attributes.size(),
+                                maxBindParameters);
+                    }
+                    bulkCopyThreshold = Integer.parseInt(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + BULK_COPY_THRESHOLD,
+                            String.valueOf(this.queryConfigurationEntry.getBulkCopyThreshold())));
+                    String bulkCopyTemplate = configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + BULK_COPY_QUERY,
+                            this.queryConfigurationEntry.getBulkCopyQuery());
+                    if (bulkCopyThreshold > 0 && !RDBMSTableUtils.isEmpty(bulkCopyTemplate) &&
+                            RDBMSCopyTextEncoder.isEncodable(this.attributes)) {
+                        bulkCopyQuery = this.insertColumnNames(this.resolveTableName(bulkCopyTemplate));
+                    }
                     recordUpdateQuery = this.resolveTableName(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_UPDATE_QUERY,
                             this.queryConfigurationEntry.getRecordUpdateQuery()));
+                    String upsertTemplate = configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_UPSERT_QUERY,
+                            this.queryConfigurationEntry.getRecordUpsertQuery());
+                    if (!RDBMSTableUtils.isEmpty(upsertTemplate) && primaryKeyIndexes.length > 0) {
+                        recordUpsertQuery = this.resolveUpsertPlaceholders(
+                                this.insertColumnNames(this.resolveTableName(upsertTemplate)));
+                    }
+                    stagingUpsertThreshold = Integer.parseInt(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    STAGING_UPSERT_THRESHOLD,
+                            String.valueOf(this.queryConfigurationEntry.getStagingUpsertThreshold())));
+                    String stagingTableName = this.resolveTableName(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + STAGING_TABLE_NAME,
+                            this.queryConfigurationEntry.getStagingTableName()));
+                    String stagingCreateTemplate = configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    STAGING_TABLE_CREATE_QUERY,
+                            this.queryConfigurationEntry.getStagingTableCreateQuery());
+                    String stagingUpsertTemplate = configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + STAGING_UPSERT_QUERY,
+                            this.queryConfigurationEntry.getStagingUpsertQuery());
+                    if (stagingUpsertThreshold > 0 && primaryKeyIndexes.length > 0 &&
+                            !RDBMSTableUtils.isEmpty(stagingTableName) &&
+                            !RDBMSTableUtils.isEmpty(stagingCreateTemplate) &&
+                            !RDBMSTableUtils.isEmpty(stagingUpsertTemplate)) {
+                        stagingTableCreateQuery = this.resolveTableName(stagingCreateTemplate)
+                                .replace(PLACEHOLDER_STAGING_TABLE_NAME, stagingTableName);
+                        stagingTableClearQuery = configReader.readConfig(
+                                this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                        RECORD_DELETE_QUERY, this.queryConfigurationEntry.getRecordDeleteQuery())
+                                .replace(PLACEHOLDER_TABLE_NAME, stagingTableName)
+                                .replace(PLACEHOLDER_CONDITION, "");
+                        stagingInsertQuery = this.insertColumnNames(configReader.readConfig(
+                                this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                        RECORD_INSERT_QUERY, this.queryConfigurationEntry.getRecordInsertQuery())
+                                .replace(PLACEHOLDER_TABLE_NAME, stagingTableName))
+                                .replace(PLACEHOLDER_Q, this.composeParameterList());
+                        stagingUpsertQuery = this.resolveUpsertPlaceholders(
+                                this.insertColumnNames(this.resolveTableName(stagingUpsertTemplate)))
+                                .replace(PLACEHOLDER_STAGING_TABLE_NAME, stagingTableName);
+                        stagingSourceAlias = configReader.readConfig(
+                                this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                        STAGING_SOURCE_ALIAS, this.queryConfigurationEntry.getStagingSourceAlias());
+                    }
                     tableCheckQuery = this.resolveTableName(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + TABLE_CHECK_QUERY,
                             this.queryConfigurationEntry.getTableCheckQuery()));
@@ -785,9 +3123,19 @@ public class RDBMSEventTable extends AbstractRecordTable {
                     indexQuery = this.resolveTableName(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + INDEX_CREATE_QUERY,
                             this.queryConfigurationEntry.getIndexCreateQuery()));
+                    advisedIndexQuery = this.resolveTableName(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    ADVISED_INDEX_CREATE_QUERY,
+                            this.queryConfigurationEntry.getAdvisedIndexCreateQuery()));
                     batchEnable = Boolean.parseBoolean(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
                                     BATCH_ENABLE, String.valueOf(this.queryConfigurationEntry.getBatchEnable())));
+                    rowWiseUpdateOrInsert = Boolean.parseBoolean(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    ROW_WISE_UPDATE_OR_INSERT, "false"));
+                    commitPerBatch = Boolean.parseBoolean(configReader.readConfig(
+                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
+                                    COMMIT_PER_BATCH, String.valueOf(this.queryConfigurationEntry.isCommitPerBatch())));
                     transactionSupported = Boolean.parseBoolean(configReader.readConfig(
                             this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
                                     TRANSACTION_SUPPORTED, String.valueOf(
@@ -817,6 +3165,9 @@ public class RDBMSEventTable extends AbstractRecordTable {
                     stringSize = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
                                     PROPERTY_SEPARATOR + STRING_SIZE,
                             this.queryConfigurationEntry.getStringSize());
+                    this.initFetchSize(storeAnnotation);
+                    this.functionMapper.configure(this.readFunctionMappings());
+                    this.initPlanInspector();
                 }
             }
             if (!this.tableExists()) {
@@ -825,6 +3176,22 @@ public class RDBMSEventTable extends AbstractRecordTable {
                     log.debug("A table: " + this.tableName + " is created with the provided information.");
                 }
             }
+            this.probeUpdateCapabilities();
+            if (this.indexAdvisorMode != RDBMSIndexAdvisor.Mode.OFF && !RDBMSTableUtils.isEmpty(advisedIndexQuery)) {
+                this.adviseIndexes();
+            }
+            this.keyFilter = (this.keyFilterSize > 0) ? this.loadKeyFilter() : null;
+            if (this.asyncWriteEnabled && this.writeBehindBuffer == null) {
+                this.writeBehindBuffer = new RDBMSWriteBehindBuffer(this.tableName, this.bufferSize, this.batchSize,
+                        this.flushInterval, this.flushThreads, this.bufferFullPolicy, this.writeFailurePolicy,
+                        this.bufferRetryCount, this::insertRecords);
+                this.writeBehindBuffer.start();
+            }
+            if (this.purgeQuery != null && this.retentionPurger == null) {
+                this.retentionPurger = new RDBMSRetentionPurger(this.tableName, this.retentionPeriod,
+                        this.retentionInterval, this.retentionChunkSize, this.retentionPause, this::purgeRecords);
+                this.retentionPurger.start();
+            }
         } catch (CannotLoadConfigurationException | NamingException | PoolInitializationException |
                 RDBMSTableException e) {
             this.destroy();
@@ -835,11 +3202,19 @@ public class RDBMSEventTable extends AbstractRecordTable {
 
     @Override
     public void disconnect() {
+        if (retentionPurger != null) {
+            retentionPurger.shutdown();
+            retentionPurger = null;
+        }
+        if (writeBehindBuffer != null) {
+            // Flushing the buffered records while the datasource is still available.
+            writeBehindBuffer.shutdown();
+            writeBehindBuffer = null;
+        }
+        this.invalidateCache();
         if (dataSource != null && isLocalDatasource) {
-            dataSource.close();
-            if (log.isDebugEnabled()) {
-                log.debug("Closing the pool name: " + dataSource.getPoolName());
-            }
+            RDBMSDataSourceRegistry.release(dataSource);
+            dataSource = null;
         }
     }
 
@@ -872,6 +3247,31 @@ public class RDBMSEventTable extends AbstractRecordTable {
      * @return the composed SQL query in string form.
      */
     private String composeInsertQuery() {
+        return insertQuery.replace(PLACEHOLDER_Q, this.composeParameterList());
+    }
+
+    /**
+     * Method for composing a query from a template with a condition placeholder, e.g. for find, contains and delete
+     * operations.
+     *
+     * @param query             the query template with the table name resolved.
+     * @param compiledCondition the condition that was built during compile time.
+     * @param atomicCondition   whether the condition is a plain value, which is left out of the query.
+     * @return the composed SQL query, without a Where clause if the condition is empty or left out.
+     */
+    private String composeConditionalQuery(String query, RDBMSCompiledCondition compiledCondition,
+                                           boolean atomicCondition) {
+        String condition = compiledCondition.getCompiledQuery();
+        return (RDBMSTableUtils.isEmpty(condition) || atomicCondition) ? query.replace(PLACEHOLDER_CONDITION, "") :
+                RDBMSTableUtils.formatQueryWithCondition(query, condition);
+    }
+
+    /**
+     * Method for composing the list of "?" parameters for a single row of the table.
+     *
+     * @return the comma-separated parameters.
+     */
+    private String composeParameterList() {
         StringBuilder params = new StringBuilder();
         int fieldsLeft = this.attributes.size();
         while (fieldsLeft > 0) {
@@ -881,35 +3281,94 @@ public class RDBMSEventTable extends AbstractRecordTable {
             }
             fieldsLeft = fieldsLeft - 1;
         }
-        return insertQuery.replace(PLACEHOLDER_Q, params.toString());
+        return params.toString();
+    }
+
+    /**
+     * Method for resolving the row and key placeholders of the upsert query template.
+     *
+     * @param upsertQuery the upsert query with the table name and columns already resolved.
+     * @return the upsert query, with only the "{{COLUMNS_AND_VALUES}}" placeholder remaining, if present.
+     */
+    private String resolveUpsertPlaceholders(String upsertQuery) {
+        StringBuilder primaryKeyNames = new StringBuilder();
+        StringBuilder keyCondition = new StringBuilder();
+        for (int keyIndex : this.primaryKeyIndexes) {
+            String keyName = this.attributes.get(keyIndex).getName();
+            if (primaryKeyNames.length() > 0) {
+                primaryKeyNames.append(SEPARATOR);
+                keyCondition.append(WHITESPACE).append(SQL_AND).append(WHITESPACE);
+            }
+            primaryKeyNames.append(keyName);
+            keyCondition.append(this.tableName).append(".").append(keyName).append(" = ")
+                    .append(UPSERT_SOURCE_ALIAS).append(".").append(keyName);
+        }
+        StringBuilder sourceValues = new StringBuilder();
+        StringBuilder sourceColumns = new StringBuilder();
+        for (Attribute attribute : this.attributes) {
+            if (sourceValues.length() > 0) {
+                sourceValues.append(SEPARATOR);
+                sourceColumns.append(SEPARATOR);
+            }
+            sourceValues.append(QUESTION_MARK).append(WHITESPACE).append(SQL_AS).append(WHITESPACE)
+                    .append(attribute.getName());
+            sourceColumns.append(UPSERT_SOURCE_ALIAS).append(".").append(attribute.getName());
+        }
+        return upsertQuery.replace(PLACEHOLDER_Q, this.composeParameterList())
+                .replace(PLACEHOLDER_PRIMARY_KEYS, primaryKeyNames.toString())
+                .replace(PLACEHOLDER_KEY_CONDITION, keyCondition.toString())
+                .replace(PLACEHOLDER_SOURCE_VALUES, sourceValues.toString())
+                .replace(PLACEHOLDER_SOURCE_COLUMNS, sourceColumns.toString());
     }
 
-    private String insertColumnNames() {
+    private String insertColumnNames(String query) {
         StringBuilder columnNames = new StringBuilder();
         for (int i = 0; i < attributes.size(); i++) {
             columnNames.append(attributes.get(i).getName()).append(WHITESPACE).append(SEPARATOR);
         }
         //Deleting the last two characters to remove the WHITESPACE and SEPARATOR
         columnNames.delete(columnNames.length() - 2, columnNames.length() - 1);
-        return insertQuery.replace(PLACEHOLDER_COLUMNS, columnNames.toString());
+        return query.replace(PLACEHOLDER_COLUMNS, columnNames.toString());
     }
 
     /**
-     * Method for composing the SQL query for UPDATE operations with proper placeholders.
+     * Method for composing the SQL query for UPDATE operations with proper placeholders. The query is composed once
+     * per combination of condition and set expressions, and kept along with the compiled condition.
      *
      * @return the composed SQL query in string form.
      */
     private String composeUpdateQuery(CompiledCondition compiledCondition,
                                       Map<String, CompiledExpression> updateSetExpressions) {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
-        String result = updateSetExpressions.entrySet().stream().map(e -> e.getKey()
-                + " = " + ((RDBMSCompiledCondition) e.getValue()).getCompiledQuery())
-                .collect(Collectors.joining(", "));
-        recordUpdateQuery = recordUpdateQuery.replace(PLACEHOLDER_COLUMNS_VALUES, result);
+        return ((RDBMSCompiledCondition) compiledCondition).getStatement(
+                statementShape(OPERATION_UPDATE, updateSetExpressions), shape -> {
+                    String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
+                    String result = updateSetExpressions.entrySet().stream().map(e -> e.getKey()
+                            + " = " + ((RDBMSCompiledCondition) e.getValue()).getCompiledQuery())
+                            .collect(Collectors.joining(", "));
+                    String query = recordUpdateQuery.replace(PLACEHOLDER_COLUMNS_VALUES, result);
+                    return RDBMSTableUtils.isEmpty(condition) ? query.replace(PLACEHOLDER_CONDITION, "") :
+                            RDBMSTableUtils.formatQueryWithCondition(query, condition);
+                });
+    }
 
-        recordUpdateQuery = RDBMSTableUtils.isEmpty(condition) ? recordUpdateQuery.replace(PLACEHOLDER_CONDITION, "") :
-                RDBMSTableUtils.formatQueryWithCondition(recordUpdateQuery, condition);
-        return recordUpdateQuery;
+    /**
+     * Returns the key identifying the statement of an operation with the given set expressions, by the columns which
+     * are set and the SQL expressions which they are set to. The key is equal across the calls of the operation, hence
+     * the statements kept along with a compiled condition are bounded by the distinct statements of the query.
+     *
+     * @param operation            the operation.
+     * @param updateSetExpressions the expressions that are used in the SET operation.
+     * @return the key of the statement.
+     */
+    private static List<Object> statementShape(String operation,
+                                               Map<String, CompiledExpression> updateSetExpressions) {
+        List<Object> shape = new ArrayList<>(1 + 2 * updateSetExpressions.size());
+        shape.add(operation);
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            shape.add(entry.getKey());
+            shape.add(((RDBMSCompiledCondition) entry.getValue()).getCompiledQuery());
+        }
+        return shape;
     }
 
     /**
@@ -946,12 +3405,11 @@ public class RDBMSEventTable extends AbstractRecordTable {
             List<String[]> poolProps = RDBMSTableUtils.processKeyValuePairs(poolPropertyString);
             poolProps.forEach(pair -> connectionProperties.setProperty(pair[0], pair[1]));
         }
-        HikariConfig config = new HikariConfig(connectionProperties);
-        this.dataSource = new HikariDataSource(config);
+        this.dataSource = RDBMSDataSourceRegistry.acquire(connectionProperties);
         this.isLocalDatasource = true;
         if (log.isDebugEnabled()) {
             log.debug("Database connection for '" + this.tableName + "' created through connection" +
-                    " parameters specified in the query.");
+                    " parameters specified in the query, using the pool '" + this.dataSource.getPoolName() + "'.");
         }
     }
 
@@ -971,14 +3429,40 @@ public class RDBMSEventTable extends AbstractRecordTable {
      * @return a new {@link Connection} instance from the datasource.
      */
     private Connection getConnection(boolean autoCommit) {
+        Semaphore quota = this.connectionQuota;
+        if (quota != null) {
+            this.acquireConnectionPermit(quota);
+        }
         Connection conn;
         try {
             conn = this.dataSource.getConnection();
             conn.setAutoCommit(autoCommit);
-        } catch (SQLException e) {
+        } catch (SQLException | RuntimeException e) {
+            if (quota != null) {
+                quota.release();
+            }
             throw new RDBMSTableException("Error initializing connection: " + e.getMessage(), e);
         }
-        return conn;
+        return (quota == null) ? conn : new RDBMSQuotaConnection(conn, quota);
+    }
+
+    /**
+     * Waits for a connection to become available within the connection quota of the table.
+     *
+     * @param quota the semaphore holding the permits of the table.
+     */
+    private void acquireConnectionPermit(Semaphore quota) {
+        long timeout = this.dataSource.getConnectionTimeout();
+        try {
+            if (!quota.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new RDBMSTableException("Error initializing connection: all connections within the quota of " +
+                        "table '" + this.tableName + "' have been in use for " + timeout + " ms.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RDBMSTableException("Interrupted while waiting for a connection for table '" +
+                    this.tableName + "'.", e);
+        }
     }
 
     /**
@@ -1068,6 +3552,109 @@ public class RDBMSEventTable extends AbstractRecordTable {
         }
     }
 
+    /**
+     * Method for looking for the indexes which the conditions on the table would benefit from but the table is
+     * missing, and either logging the statements which would create them or creating them, depending on the index
+     * advisor mode. Failures are logged rather than thrown, since the table is usable without the indexes.
+     */
+    private void adviseIndexes() {
+        List<List<String>> missingIndexes;
+        Connection conn = this.getConnection();
+        try {
+            missingIndexes = this.indexAdvisor.findMissingIndexes(conn);
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to read the indexes of table '" + this.tableName + "', hence no indexes are " +
+                        "advised: " + e.getMessage());
+            }
+            return;
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
+        }
+        for (List<String> columns : missingIndexes) {
+            String query = advisedIndexQuery.replace(PLACEHOLDER_INDEX_NAME, this.indexAdvisor.indexName(columns))
+                    .replace(PLACEHOLDER_INDEX, String.join(SEPARATOR, columns));
+            if (this.indexAdvisorMode == RDBMSIndexAdvisor.Mode.CREATE) {
+                try {
+                    this.executeDDQueries(Collections.singletonList(query), !this.transactionSupported);
+                    log.info("Created index on columns " + columns + " of table '" + this.tableName + "', which " +
+                            "conditions on the table filter on: " + query);
+                } catch (SQLException e) {
+                    log.error("Unable to create the index advised for table '" + this.tableName + "' through '" +
+                            query + "': " + e.getMessage(), e);
+                }
+            } else {
+                log.warn("Conditions on table '" + this.tableName + "' filter on columns " + columns + ", which no " +
+                        "index of the table covers. Consider creating the index: " + query);
+            }
+        }
+    }
+
+    /**
+     * Method for admitting an operation with the given condition through the plan inspector, inspecting the plan of
+     * the condition first if it has not been inspected yet. The plan inspected is that of the select statement with
+     * the condition, which accesses the table in the same way as the other operations with the condition.
+     *
+     * @param compiledCondition     the condition that was built during compile time.
+     * @param conditionParameterMap the runtime values of the condition, with which the plan is inspected.
+     * @return true if the operation holds the scan permit of the table, which needs to be released through the plan
+     * inspector once the operation completes.
+     */
+    private boolean admitStatement(RDBMSCompiledCondition compiledCondition,
+                                   Map<String, Object> conditionParameterMap) {
+        RDBMSPlanInspector inspector = this.planInspector;
+        if (inspector == null) {
+            return false;
+        }
+        boolean atomicCondition = compiledCondition.getCompiledQuery().equals(QUESTION_MARK);
+        String sql = compiledCondition.getStatement(OPERATION_EXPLAIN,
+                shape -> this.composeConditionalQuery(selectQuery, compiledCondition, atomicCondition));
+        return inspector.admit(sql, () -> this.explainStatement(sql, compiledCondition, conditionParameterMap,
+                atomicCondition));
+    }
+
+    /**
+     * Method for obtaining the plan of a statement through the EXPLAIN query of the database. The rows of the plan
+     * are rendered as lines of "column=value" pairs, so that plans reported as tables can be matched as text.
+     *
+     * @param sql                   the statement.
+     * @param compiledCondition     the condition of the statement.
+     * @param conditionParameterMap the runtime values of the condition.
+     * @param atomicCondition       whether the condition is left out of the statement.
+     * @return the plan, or null if it could not be obtained.
+     */
+    private String explainStatement(String sql, RDBMSCompiledCondition compiledCondition,
+                                    Map<String, Object> conditionParameterMap, boolean atomicCondition) {
+        Connection conn = this.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.prepareStatement(explainQuery.replace(PLACEHOLDER_QUERY, sql));
+            if (!atomicCondition) {
+                RDBMSTableUtils.resolveCondition(stmt, compiledCondition, conditionParameterMap, 0);
+            }
+            rs = stmt.executeQuery();
+            ResultSetMetaData metaData = rs.getMetaData();
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                    plan.append(metaData.getColumnLabel(column)).append('=').append(rs.getString(column))
+                            .append(WHITESPACE);
+                }
+                plan.append('\n');
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to obtain the plan of statement '" + sql + "' on table '" + this.tableName +
+                        "', hence it is not inspected: " + e.getMessage());
+            }
+            return null;
+        } finally {
+            RDBMSTableUtils.cleanupConnection(rs, stmt, conn);
+        }
+    }
+
     /**
      * Method used to validate the field length specifications and ensure that the table definition contains them.
      *
@@ -1119,29 +3706,49 @@ public class RDBMSEventTable extends AbstractRecordTable {
     }
 
     /**
-     * Given a set of records and a query, this method performs that query per each record.
+     * Given a set of records and a query, this method performs that query per each record. The records are sent to
+     * the database in chunks of the configured batch size, and are committed either once per chunk or once for the
+     * complete list, depending on the "commitPerBatch" configuration.
      *
      * @param query      the query to be executed.
      * @param records    the records to use.
      * @param autocommit whether or not the transactions should automatically be committed.
-     * @throws SQLException if the query execution fails.
+     * @throws SQLException                  if the query execution fails before any of the records were committed.
+     * @throws RDBMSBatchExecutionException if the query execution fails after some of the chunks were committed.
      */
     private void batchExecuteQueriesWithRecords(String query, List<Object[]> records, boolean autocommit)
             throws SQLException {
         PreparedStatement stmt = null;
         boolean committed = autocommit;
+        int chunkRecordCount = 0;
+        int executedRecordCount = 0;
+        int committedRecordCount = 0;
         Connection conn = this.getConnection(autocommit);
         try {
             stmt = conn.prepareStatement(query);
             for (Object[] record : records) {
                 this.populateStatement(record, stmt);
                 stmt.addBatch();
+                chunkRecordCount++;
+                if (chunkRecordCount == this.batchSize) {
+                    stmt.executeBatch();
+                    stmt.clearBatch();
+                    executedRecordCount += chunkRecordCount;
+                    chunkRecordCount = 0;
+                    committedRecordCount = this.commitChunk(conn, autocommit, executedRecordCount,
+                            committedRecordCount, records.size());
+                }
             }
-            stmt.executeBatch();
-            if (!autocommit) {
+            if (chunkRecordCount > 0) {
+                stmt.executeBatch();
+                executedRecordCount += chunkRecordCount;
+                committedRecordCount = this.commitChunk(conn, autocommit, executedRecordCount,
+                        committedRecordCount, records.size());
+            }
+            if (!autocommit && committedRecordCount < executedRecordCount) {
                 conn.commit();
-                committed = true;
             }
+            committed = true;
         } catch (SQLException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Attempted execution of query [" + query + "] produced an exception: " + e.getMessage());
@@ -1149,6 +3756,11 @@ public class RDBMSEventTable extends AbstractRecordTable {
             if (!autocommit) {
                 RDBMSTableUtils.rollbackConnection(conn);
             }
+            if (committedRecordCount > 0) {
+                throw new RDBMSBatchExecutionException("Error in batch execution on table '" + this.tableName +
+                        "' after " + committedRecordCount + " of " + records.size() + " records were committed: " +
+                        e.getMessage(), e, committedRecordCount);
+            }
             throw e;
         } finally {
             if (!committed) {
@@ -1158,6 +3770,154 @@ public class RDBMSEventTable extends AbstractRecordTable {
         }
     }
 
+    /**
+     * Inserts the given records through the precompiled multi-row insert statements. Each chunk of the configured
+     * batch size is split into groups which match the available statement shapes, largest first, so that the records
+     * are inserted in their original order with as few statement executions as possible. Chunks are committed in the
+     * same manner as in {@link #batchExecuteQueriesWithRecords(String, List, boolean)}.
+     *
+     * @param records    the records to be inserted.
+     * @param autocommit whether or not the transactions should automatically be committed.
+     * @throws SQLException                  if the insertion fails before any of the records were committed.
+     * @throws RDBMSBatchExecutionException if the insertion fails after some of the chunks were committed.
+     */
+    private void batchExecuteMultiRowInsert(List<Object[]> records, boolean autocommit) throws SQLException {
+        int[] shapes = this.multiRowInsert.getShapes();
+        PreparedStatement[] stmts = new PreparedStatement[shapes.length];
+        boolean committed = autocommit;
+        int executedRecordCount = 0;
+        int committedRecordCount = 0;
+        int chunkSize = this.batchSize > 0 ? this.batchSize : records.size();
+        Connection conn = this.getConnection(autocommit);
+        try {
+            while (executedRecordCount < records.size()) {
+                int chunkEnd = Math.min(executedRecordCount + chunkSize, records.size());
+                int position = executedRecordCount;
+                for (int i = 0; i < shapes.length; i++) {
+                    boolean batched = false;
+                    while (chunkEnd - position >= shapes[i]) {
+                        if (stmts[i] == null) {
+                            stmts[i] = conn.prepareStatement(this.multiRowInsert.getQuery(i));
+                        }
+                        for (int row = 0; row < shapes[i]; row++) {
+                            this.populateStatement(records.get(position + row), stmts[i],
+                                    this.multiRowInsert.getOrdinalOffset(row));
+                        }
+                        stmts[i].addBatch();
+                        position += shapes[i];
+                        batched = true;
+                    }
+                    if (batched) {
+                        stmts[i].executeBatch();
+                        stmts[i].clearBatch();
+                    }
+                }
+                executedRecordCount = chunkEnd;
+                committedRecordCount = this.commitChunk(conn, autocommit, executedRecordCount,
+                        committedRecordCount, records.size());
+            }
+            if (!autocommit && committedRecordCount < executedRecordCount) {
+                conn.commit();
+            }
+            committed = true;
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attempted multi-row insertion to table '" + this.tableName + "' produced an exception: "
+                        + e.getMessage());
+            }
+            if (!autocommit) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            if (committedRecordCount > 0) {
+                throw new RDBMSBatchExecutionException("Error in batch execution on table '" + this.tableName +
+                        "' after " + committedRecordCount + " of " + records.size() + " records were committed: " +
+                        e.getMessage(), e, committedRecordCount);
+            }
+            throw e;
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            for (PreparedStatement stmt : stmts) {
+                RDBMSTableUtils.cleanupConnection(null, stmt, null);
+            }
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
+        }
+    }
+
+    /**
+     * Streams the given records to the table through the bulk copy API of the JDBC driver, one copy operation per
+     * chunk of the configured batch size. Chunks are committed in the same manner as in
+     * {@link #batchExecuteQueriesWithRecords(String, List, boolean)}.
+     * <p>
+     * If the connections of the datasource do not expose the API, bulk copy is disabled for the table and false is
+     * returned, so that the records can be written through the regular insert path.
+     *
+     * @param records    the records to be inserted.
+     * @param autocommit whether or not the transactions should automatically be committed.
+     * @return true if the records were written, false if bulk copy is not available.
+     * @throws SQLException                  if the copy fails before any of the records were committed.
+     * @throws RDBMSBatchExecutionException if the copy fails after some of the chunks were committed.
+     */
+    private boolean bulkCopyRecords(List<Object[]> records, boolean autocommit) throws SQLException {
+        RDBMSBulkCopier copier = new RDBMSBulkCopier(this.tableName, PG_CONNECTION_CLASS, this.bulkCopyQuery,
+                this.attributes, this.batchSize > 0 ? this.batchSize : records.size());
+        boolean committed = autocommit;
+        Connection conn = this.getConnection(autocommit);
+        try {
+            boolean copied = copier.copyRecords(conn, records, (copiedRecordCount, committedRecordCount) -> {
+                committedRecordCount = this.commitChunk(conn, autocommit, copiedRecordCount, committedRecordCount,
+                        records.size());
+                if (copiedRecordCount == records.size() && committedRecordCount < copiedRecordCount) {
+                    conn.commit();
+                    committedRecordCount = copiedRecordCount;
+                }
+                return committedRecordCount;
+            });
+            if (!copied) {
+                this.bulkCopyQuery = null;
+            }
+            committed = true;
+            return copied;
+        } catch (SQLException e) {
+            if (!autocommit) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            throw e;
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
+        }
+    }
+
+    /**
+     * Commits the records executed so far if the table is configured to commit per chunk of records.
+     *
+     * @param conn                 the connection on which the chunk was executed.
+     * @param autocommit           whether or not the connection commits automatically.
+     * @param executedRecordCount  the number of records which have been executed so far.
+     * @param committedRecordCount the number of records which have been committed so far.
+     * @param totalRecordCount     the total number of records in the batch, used for progress reporting.
+     * @return the number of records which have been committed after this chunk.
+     * @throws SQLException if the commit fails.
+     */
+    private int commitChunk(Connection conn, boolean autocommit, int executedRecordCount, int committedRecordCount,
+                            int totalRecordCount) throws SQLException {
+        if (autocommit) {
+            committedRecordCount = executedRecordCount;
+        } else if (this.commitPerBatch) {
+            conn.commit();
+            committedRecordCount = executedRecordCount;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Executed " + executedRecordCount + " of " + totalRecordCount + " records on table '" +
+                    this.tableName + "' (" + committedRecordCount + " committed).");
+        }
+        return committedRecordCount;
+    }
+
     /**
      * Method for checking whether or not the given table (which reflects the current event table instance) exists.
      *
@@ -1189,21 +3949,25 @@ public class RDBMSEventTable extends AbstractRecordTable {
      * @param stmt   the statement to which the values should be set.
      */
     private void populateStatement(Object[] record, PreparedStatement stmt) {
-        Attribute attribute = null;
+        this.populateStatement(record, stmt, 0);
+    }
+
+    /**
+     * Method for populating values to a pre-created SQL prepared statement, starting after the given ordinal.
+     *
+     * @param record the record whose values should be populated.
+     * @param stmt   the statement to which the values should be set.
+     * @param seed   the number of parameters in the statement which precede the values of this record.
+     */
+    private void populateStatement(Object[] record, PreparedStatement stmt, int seed) {
+        int i = 0;
         try {
-            for (int i = 0; i < this.attributes.size(); i++) {
-                attribute = this.attributes.get(i);
-                Object value = record[i];
-                if (value != null || attribute.getType() == Attribute.Type.STRING) {
-                    RDBMSTableUtils.populateStatementWithSingleElement(stmt, i + 1, attribute.getType(), value);
-                } else {
-                    throw new RDBMSTableException("Cannot Execute Insert/Update: null value detected for " +
-                            "attribute '" + attribute.getName() + "'");
-                }
+            for (; i < this.columnBinders.length; i++) {
+                this.columnBinders[i].bind(stmt, seed + i + 1, record[i]);
             }
         } catch (SQLException e) {
-            throw new RDBMSTableException("Dropping event since value for attribute name " + attribute.getName() +
-                    "cannot be set: " + e.getMessage(), e);
+            throw new RDBMSTableException("Dropping event since value for attribute name " +
+                    this.attributes.get(i).getName() + " cannot be set: " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,90 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A call of a namespaced Siddhi function within a compiled condition, which is translated into a SQL expression once
+ * the database of the table is known. The condition refers to the call through a placeholder, and the SQL of each
+ * argument is kept along with the positions of the condition parameters which it contains, so that the parameters can
+ * be reordered when the SQL expression uses the arguments in a different order than the function.
+ */
+public class RDBMSFunctionCall {
+
+    private final String function;
+    private final List<String> arguments = new ArrayList<>();
+    private final List<Integer> argumentParameterStarts = new ArrayList<>();
+    private int parameterEnd;
+
+    /**
+     * Creates a function call.
+     *
+     * @param function the namespaced name of the function, e.g. "str:contains".
+     */
+    public RDBMSFunctionCall(String function) {
+        this.function = function;
+    }
+
+    public String getFunction() {
+        return function;
+    }
+
+    public int getArgumentCount() {
+        return arguments.size();
+    }
+
+    /**
+     * Returns the SQL of an argument, which may contain "?" parameters and placeholders of nested function calls.
+     *
+     * @param index the position of the argument, starting from 0.
+     * @return the SQL of the argument.
+     */
+    public String getArgument(int index) {
+        return arguments.get(index);
+    }
+
+    /**
+     * Returns the position of the first condition parameter which belongs to an argument.
+     *
+     * @param index the position of the argument, starting from 0.
+     * @return the position of the parameter in the condition.
+     */
+    public int getArgumentParameterStart(int index) {
+        return argumentParameterStarts.get(index);
+    }
+
+    /**
+     * Returns the position following the last condition parameter which belongs to the call.
+     *
+     * @return the position of the parameter in the condition.
+     */
+    public int getParameterEnd() {
+        return parameterEnd;
+    }
+
+    void addArgument(String argument, int parameterStart) {
+        this.arguments.add(argument);
+        this.argumentParameterStarts.add(parameterStart);
+    }
+
+    void setParameterEnd(int parameterEnd) {
+        this.parameterEnd = parameterEnd;
+    }
+}
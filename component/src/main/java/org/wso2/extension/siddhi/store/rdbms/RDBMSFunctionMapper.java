@@ -0,0 +1,181 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates the namespaced Siddhi functions of the compiled conditions of an RDBMS Event Table into the SQL
+ * expressions configured for the database of the table. Conditions are compiled before the table connects, and hence
+ * before its database is known, so the functions are kept as placeholders in the conditions and resolved on first use.
+ * The functions which the conditions use are validated once the expressions are configured, so that an unsupported
+ * function fails the connection of the table rather than the first event.
+ */
+public class RDBMSFunctionMapper {
+
+    private static final String PLACEHOLDER_PREFIX = "{{FUNCTION:";
+    private static final String PLACEHOLDER_SUFFIX = "}}";
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile("\\{\\{(\\d+)}}");
+
+    private final String tableName;
+    private final Map<String, Set<Integer>> usedFunctions = new ConcurrentHashMap<>();
+    private volatile Map<String, String> expressions;
+
+    public RDBMSFunctionMapper(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * Returns the placeholder through which a compiled condition refers to one of its function calls.
+     *
+     * @param index the position of the call in the function calls of the condition.
+     * @return the placeholder.
+     */
+    public static String placeholder(int index) {
+        return PLACEHOLDER_PREFIX + index + PLACEHOLDER_SUFFIX;
+    }
+
+    /**
+     * Returns the namespaced functions used by the conditions compiled so far.
+     *
+     * @return the names of the functions, e.g. "str:contains".
+     */
+    public Set<String> getUsedFunctions() {
+        return Collections.unmodifiableSet(usedFunctions.keySet());
+    }
+
+    /**
+     * Records the function calls of a compiled condition, validating them right away if the SQL expressions are
+     * already configured.
+     *
+     * @param calls the function calls of the condition.
+     */
+    public void register(List<RDBMSFunctionCall> calls) {
+        for (RDBMSFunctionCall call : calls) {
+            this.usedFunctions.computeIfAbsent(call.getFunction(), function -> ConcurrentHashMap.newKeySet())
+                    .add(call.getArgumentCount());
+            if (this.expressions != null) {
+                this.validate(this.expressions, call.getFunction(), call.getArgumentCount());
+            }
+        }
+    }
+
+    /**
+     * Sets the SQL expressions of the functions for the database of the table, and validates the functions used by
+     * the conditions compiled so far against them.
+     *
+     * @param expressions the SQL expressions, keyed by the namespaced name of the function.
+     */
+    public void configure(Map<String, String> expressions) {
+        for (Map.Entry<String, String> entry : expressions.entrySet()) {
+            if (entry.getValue().contains(RDBMSTableConstants.QUESTION_MARK)) {
+                throw new RDBMSTableException("The SQL expression of function '" + entry.getKey() + "' of table '" +
+                        this.tableName + "' must not contain '?' parameters: " + entry.getValue());
+            }
+        }
+        for (Map.Entry<String, Set<Integer>> entry : this.usedFunctions.entrySet()) {
+            for (int argumentCount : entry.getValue()) {
+                this.validate(expressions, entry.getKey(), argumentCount);
+            }
+        }
+        this.expressions = expressions;
+    }
+
+    /**
+     * Translates the function placeholders of a compiled condition into SQL expressions.
+     *
+     * @param condition      the compiled condition, with "?" parameters and function placeholders.
+     * @param calls          the function calls of the condition.
+     * @param parameterOrder the list to which the positions of the condition parameters are added, in the order of
+     *                       the "?" parameters of the resolved condition.
+     * @return the resolved condition.
+     */
+    public String resolve(String condition, List<RDBMSFunctionCall> calls, List<Integer> parameterOrder) {
+        Map<String, String> expressions = this.expressions;
+        if (expressions == null) {
+            throw new RDBMSTableException("The functions of the conditions on table '" + this.tableName + "' " +
+                    "cannot be resolved before the table is connected.");
+        }
+        StringBuilder sql = new StringBuilder();
+        this.resolveFragment(condition, 0, calls, expressions, sql, parameterOrder);
+        return sql.toString();
+    }
+
+    private void resolveFragment(String fragment, int parameterStart, List<RDBMSFunctionCall> calls,
+                                 Map<String, String> expressions, StringBuilder sql, List<Integer> parameterOrder) {
+        int parameter = parameterStart;
+        int position = 0;
+        while (position < fragment.length()) {
+            if (fragment.charAt(position) == '?') {
+                sql.append('?');
+                parameterOrder.add(parameter++);
+                position++;
+            } else if (fragment.startsWith(PLACEHOLDER_PREFIX, position)) {
+                int end = fragment.indexOf(PLACEHOLDER_SUFFIX, position);
+                RDBMSFunctionCall call = calls.get(Integer.parseInt(
+                        fragment.substring(position + PLACEHOLDER_PREFIX.length(), end)));
+                String expression = expressions.get(call.getFunction());
+                Matcher matcher = ARGUMENT_PATTERN.matcher(expression);
+                int expressionPosition = 0;
+                while (matcher.find()) {
+                    int argument = Integer.parseInt(matcher.group(1));
+                    sql.append(expression, expressionPosition, matcher.start());
+                    this.resolveFragment(call.getArgument(argument), call.getArgumentParameterStart(argument), calls,
+                            expressions, sql, parameterOrder);
+                    expressionPosition = matcher.end();
+                }
+                sql.append(expression, expressionPosition, expression.length());
+                parameter = call.getParameterEnd();
+                position = end + PLACEHOLDER_SUFFIX.length();
+            } else {
+                sql.append(fragment.charAt(position));
+                position++;
+            }
+        }
+    }
+
+    private void validate(Map<String, String> expressions, String function, int argumentCount) {
+        String expression = expressions.get(function);
+        if (expression == null) {
+            throw new RDBMSTableException("Function '" + function + "' used in a condition on table '" +
+                    this.tableName + "' is not supported by the database of the table. Please add a SQL expression " +
+                    "for it to the function mappings of the database.");
+        }
+        BitSet arguments = new BitSet();
+        Matcher matcher = ARGUMENT_PATTERN.matcher(expression);
+        while (matcher.find()) {
+            arguments.set(Integer.parseInt(matcher.group(1)));
+        }
+        // Arguments which the expression leaves out would be silently ignored, hence all of them must be used.
+        if (arguments.cardinality() != argumentCount || arguments.length() != argumentCount) {
+            throw new RDBMSTableException("The SQL expression of function '" + function + "' of table '" +
+                    this.tableName + "' does not use each of the " + argumentCount + " argument(s) which the " +
+                    "function is called with in a condition on the table: " + expression);
+        }
+    }
+}
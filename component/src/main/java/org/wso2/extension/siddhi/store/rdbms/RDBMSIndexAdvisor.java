@@ -0,0 +1,202 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableUtils;
+import org.wso2.siddhi.query.api.expression.condition.Compare;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recommends indexes for an RDBMS Event Table from the columns which its compiled conditions filter on. For each
+ * condition, the recommended index consists of the columns compared for equality, followed by one of the columns
+ * compared by range, which is the order in which a B-tree index serves the condition. A recommendation is considered to
+ * be covered by an existing index if the leading columns of the index are the equality columns, in any order,
+ * followed by the range column.
+ */
+public class RDBMSIndexAdvisor {
+
+    private static final int MAX_INDEX_NAME_LENGTH = 30;
+
+    private final String tableName;
+    // The columns of each recommended index, mapped to the number of leading columns which are compared for equality.
+    private final Map<List<String>, Integer> recommendations = new ConcurrentHashMap<>();
+
+    public RDBMSIndexAdvisor(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * Records the index recommended for a compiled condition.
+     *
+     * @param filteredColumns the columns which the condition filters on, along with their comparison operators.
+     */
+    public void record(Map<String, Compare.Operator> filteredColumns) {
+        List<String> columns = new ArrayList<>();
+        String rangeColumn = null;
+        for (Map.Entry<String, Compare.Operator> entry : filteredColumns.entrySet()) {
+            if (entry.getValue() == Compare.Operator.EQUAL) {
+                columns.add(entry.getKey());
+            } else if (rangeColumn == null) {
+                rangeColumn = entry.getKey();
+            }
+        }
+        if (rangeColumn != null) {
+            columns.add(rangeColumn);
+        }
+        if (!columns.isEmpty()) {
+            // The equality columns are sorted, so that conditions listing them in different orders are advised once.
+            int equalityColumnCount = (rangeColumn == null) ? columns.size() : columns.size() - 1;
+            columns.subList(0, equalityColumnCount).sort(String.CASE_INSENSITIVE_ORDER);
+            this.recommendations.merge(columns, equalityColumnCount, Math::max);
+        }
+    }
+
+    /**
+     * Returns the recommended indexes which are not covered by the existing indexes of the table, leaving out those
+     * which are covered by other missing indexes.
+     *
+     * @param conn a connection to the database of the table.
+     * @return the columns of the missing indexes, in index order.
+     * @throws SQLException if the indexes of the table can not be read.
+     */
+    public List<List<String>> findMissingIndexes(Connection conn) throws SQLException {
+        List<List<String>> indexes = this.readIndexes(conn);
+        List<List<String>> candidates = new ArrayList<>(this.recommendations.keySet());
+        // Longer indexes are considered first, since they may cover the shorter ones.
+        candidates.sort((first, second) -> Integer.compare(second.size(), first.size()));
+        List<List<String>> missingIndexes = new ArrayList<>();
+        for (List<String> candidate : candidates) {
+            List<String> normalizedCandidate = normalize(candidate);
+            int equalityColumnCount = this.recommendations.get(candidate);
+            if (indexes.stream().noneMatch(index -> covers(index, normalizedCandidate, equalityColumnCount))) {
+                missingIndexes.add(candidate);
+                indexes.add(normalizedCandidate);
+            }
+        }
+        return missingIndexes;
+    }
+
+    /**
+     * Returns the name under which a recommended index is created, which is derived from the table name and the
+     * columns of the index, and is short enough for all supported databases.
+     *
+     * @param columns the columns of the index.
+     * @return the index name.
+     */
+    public String indexName(List<String> columns) {
+        String hash = String.format("%08X", (this.tableName + columns).toUpperCase(Locale.ENGLISH).hashCode());
+        String name = this.tableName + "_IDX_" + hash;
+        return (name.length() <= MAX_INDEX_NAME_LENGTH) ? name : "IDX_" + hash;
+    }
+
+    private List<List<String>> readIndexes(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        // Databases differ in the case in which they store unquoted table names.
+        for (String name : new LinkedHashSet<>(Arrays.asList(this.tableName, this.tableName.toUpperCase(Locale.ENGLISH),
+                this.tableName.toLowerCase(Locale.ENGLISH)))) {
+            Map<String, TreeMap<Short, String>> indexColumns = new LinkedHashMap<>();
+            ResultSet rs = null;
+            try {
+                rs = metaData.getIndexInfo(conn.getCatalog(), null, name, false, true);
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (rs.getShort("TYPE") != DatabaseMetaData.tableIndexStatistic && indexName != null &&
+                            columnName != null) {
+                        indexColumns.computeIfAbsent(indexName, index -> new TreeMap<>())
+                                .put(rs.getShort("ORDINAL_POSITION"), columnName);
+                    }
+                }
+            } finally {
+                RDBMSTableUtils.cleanupConnection(rs, null, null);
+            }
+            if (!indexColumns.isEmpty()) {
+                List<List<String>> indexes = new ArrayList<>();
+                indexColumns.values().forEach(columns -> indexes.add(normalize(new ArrayList<>(columns.values()))));
+                return indexes;
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    private static boolean covers(List<String> index, List<String> recommendation, int equalityColumnCount) {
+        if (index.size() < recommendation.size()) {
+            return false;
+        }
+        if (!new HashSet<>(index.subList(0, equalityColumnCount)).equals(
+                new HashSet<>(recommendation.subList(0, equalityColumnCount)))) {
+            return false;
+        }
+        return index.subList(equalityColumnCount, recommendation.size())
+                .equals(recommendation.subList(equalityColumnCount, recommendation.size()));
+    }
+
+    private static List<String> normalize(List<String> columns) {
+        List<String> normalized = new ArrayList<>(columns.size());
+        columns.forEach(column -> normalized.add(column.toUpperCase(Locale.ENGLISH)));
+        return normalized;
+    }
+
+    /**
+     * What is done about the recommended indexes which the table is missing when it connects.
+     */
+    public enum Mode {
+        /**
+         * Does not look for missing indexes.
+         */
+        OFF,
+        /**
+         * Logs the statements which would create the missing indexes.
+         */
+        LOG,
+        /**
+         * Creates the missing indexes.
+         */
+        CREATE;
+
+        /**
+         * Resolves a mode from its name as given in the "@Store" annotation.
+         *
+         * @param name the name of the mode (case-insensitive).
+         * @return the matching mode.
+         */
+        public static Mode fromName(String name) {
+            try {
+                return Mode.valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new RDBMSTableException("Index advisor mode '" + name + "' is not supported. Supported " +
+                        "modes are 'off', 'log' and 'create'.", e);
+            }
+        }
+    }
+}
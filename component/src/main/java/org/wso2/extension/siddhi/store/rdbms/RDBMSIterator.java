@@ -17,6 +17,8 @@
 */
 package org.wso2.extension.siddhi.store.rdbms;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
 import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableUtils;
 import org.wso2.siddhi.core.table.record.RecordIterator;
@@ -27,7 +29,6 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -36,22 +37,86 @@ import java.util.List;
  */
 public class RDBMSIterator implements RecordIterator<Object[]> {
 
+    private static final Log log = LogFactory.getLog(RDBMSIterator.class);
+
     private Connection conn;
     private PreparedStatement stmt = null;
     private ResultSet rs = null;
 
     private boolean preFetched;
     private Object[] nextValue;
-    private List<Attribute> attributes;
+    private RDBMSRecordDecoder decoder;
+    private Object shape;
+    private int[] ordinals;
     private String tableName;
+    private boolean cursorTransaction;
+    private Runnable closeHandler;
 
     public RDBMSIterator(Connection conn, PreparedStatement stmt, ResultSet rs, List<Attribute> attributes,
                          String tableName) {
+        this(conn, stmt, rs, attributes, tableName, false);
+    }
+
+    /**
+     * Creates an iterator over the given result set.
+     *
+     * @param conn              the connection on which the query was executed.
+     * @param stmt              the statement which was executed.
+     * @param rs                the result set to be iterated.
+     * @param attributes        the attributes of the table.
+     * @param tableName         the name of the table.
+     * @param cursorTransaction whether the query was run within a transaction so that the driver fetches the results
+     *                          through a cursor, in which case the transaction is ended and auto-commit restored when
+     *                          the iterator is closed.
+     */
+    public RDBMSIterator(Connection conn, PreparedStatement stmt, ResultSet rs, List<Attribute> attributes,
+                         String tableName, boolean cursorTransaction) {
+        this(conn, stmt, rs, new RDBMSRecordDecoder(attributes), null, tableName, cursorTransaction);
+    }
+
+    /**
+     * Creates an iterator over the given result set, which decodes the records through the given decoder.
+     *
+     * @param conn              the connection on which the query was executed.
+     * @param stmt              the statement which was executed.
+     * @param rs                the result set to be iterated.
+     * @param decoder           the record decoder of the table.
+     * @param shape             the key identifying the statement, through which the decoder caches the ordinals of
+     *                          its columns, or null if the columns are in the order of the table attributes.
+     * @param tableName         the name of the table.
+     * @param cursorTransaction whether the query was run within a transaction so that the driver fetches the results
+     *                          through a cursor.
+     */
+    public RDBMSIterator(Connection conn, PreparedStatement stmt, ResultSet rs, RDBMSRecordDecoder decoder,
+                         Object shape, String tableName, boolean cursorTransaction) {
+        this(conn, stmt, rs, decoder, shape, tableName, cursorTransaction, null);
+    }
+
+    /**
+     * Creates an iterator over the given result set, which runs the given handler once the results are exhausted or
+     * the iterator is closed, e.g. to release resources which are held for as long as the results are read.
+     *
+     * @param conn              the connection on which the query was executed.
+     * @param stmt              the statement which was executed.
+     * @param rs                the result set to be iterated.
+     * @param decoder           the record decoder of the table.
+     * @param shape             the key identifying the statement, or null if the columns are in the order of the
+     *                          table attributes.
+     * @param tableName         the name of the table.
+     * @param cursorTransaction whether the query was run within a transaction so that the driver fetches the results
+     *                          through a cursor.
+     * @param closeHandler      the handler which is run once when the iterator is cleaned up, or null.
+     */
+    public RDBMSIterator(Connection conn, PreparedStatement stmt, ResultSet rs, RDBMSRecordDecoder decoder,
+                         Object shape, String tableName, boolean cursorTransaction, Runnable closeHandler) {
+        this.closeHandler = closeHandler;
         this.conn = conn;
         this.stmt = stmt;
         this.rs = rs;
-        this.attributes = attributes;
+        this.decoder = decoder;
+        this.shape = shape;
         this.tableName = tableName;
+        this.cursorTransaction = cursorTransaction;
     }
 
     @Override
@@ -76,14 +141,11 @@ public class RDBMSIterator implements RecordIterator<Object[]> {
                 return this.extractRecord(this.rs);
             } else {
                 // end of the result set, cleaning up.
-                RDBMSTableUtils.cleanupConnection(this.rs, this.stmt, this.conn);
-                this.rs = null;
-                this.stmt = null;
-                this.conn = null;
+                this.cleanup();
                 return null;
             }
         } catch (Exception e) {
-            RDBMSTableUtils.cleanupConnection(this.rs, this.stmt, this.conn);
+            this.cleanup();
             throw new RDBMSTableException("Error retrieving records from table '" + this.tableName + "': "
                     + e.getMessage(), e);
         }
@@ -99,35 +161,10 @@ public class RDBMSIterator implements RecordIterator<Object[]> {
      *                      to the table definition
      */
     private Object[] extractRecord(ResultSet rs) throws SQLException {
-        int ordinal = 1;
-        List<Object> result = new ArrayList<>();
-        for (Attribute attribute : this.attributes) {
-            switch (attribute.getType()) {
-                case BOOL:
-                    result.add(rs.getBoolean(ordinal));
-                    break;
-                case DOUBLE:
-                    result.add(rs.getDouble(ordinal));
-                    break;
-                case FLOAT:
-                    result.add(rs.getFloat(ordinal));
-                    break;
-                case INT:
-                    result.add(rs.getInt(ordinal));
-                    break;
-                case LONG:
-                    result.add(rs.getLong(ordinal));
-                    break;
-                case OBJECT:
-                    result.add(rs.getObject(ordinal));
-                    break;
-                case STRING:
-                    result.add(rs.getString(ordinal));
-                    break;
-            }
-            ordinal++;
+        if (this.ordinals == null) {
+            this.ordinals = this.decoder.resolveOrdinals(this.shape, rs);
         }
-        return result.toArray();
+        return this.decoder.decode(rs, this.ordinals);
     }
 
     @Override
@@ -137,17 +174,52 @@ public class RDBMSIterator implements RecordIterator<Object[]> {
 
     @Override
     public void close() throws IOException {
-        RDBMSTableUtils.cleanupConnection(this.rs, this.stmt, this.conn);
-        this.rs = null;
-        this.stmt = null;
-        this.conn = null;
+        this.cleanup();
     }
 
     @Override
     protected void finalize() throws Throwable {
         //In the unlikely case this iterator does not go to the end, we have to make sure the connection is cleaned up.
-        RDBMSTableUtils.cleanupConnection(this.rs, this.stmt, this.conn);
+        this.cleanup();
         super.finalize();
     }
 
+    private void cleanup() {
+        try {
+            this.releaseResources();
+        } finally {
+            Runnable handler = this.closeHandler;
+            this.closeHandler = null;
+            if (handler != null) {
+                handler.run();
+            }
+        }
+    }
+
+    private void releaseResources() {
+        if (this.cursorTransaction && this.conn != null) {
+            //The transaction only held the cursor open, hence it is rolled back rather than committed.
+            RDBMSTableUtils.cleanupConnection(this.rs, this.stmt, null);
+            this.rs = null;
+            this.stmt = null;
+            try {
+                this.conn.rollback();
+                this.conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error ending the read transaction on table '" + this.tableName + "': " +
+                            e.getMessage(), e);
+                }
+            } finally {
+                RDBMSTableUtils.cleanupConnection(null, null, this.conn);
+                this.conn = null;
+            }
+            return;
+        }
+        RDBMSTableUtils.cleanupConnection(this.rs, this.stmt, this.conn);
+        this.rs = null;
+        this.stmt = null;
+        this.conn = null;
+    }
+
 }
@@ -0,0 +1,127 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over the primary key values of an RDBMS Event Table, through which update or insert operations can
+ * tell that a record with a given key definitely does not exist, and insert it without attempting to update it
+ * first. The filter may report keys which do not exist, but never misses a key which was added to it.
+ * <p>
+ * Keys can not be removed, hence deleted keys keep being reported until the table is reconnected. String values are
+ * compared ignoring case and trailing spaces, and floating point zeros ignoring their sign, so that keys which the
+ * database may consider equal are never told apart. The filter is safe for concurrent use.
+ */
+public class RDBMSKeyFilter {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Creates a key filter.
+     *
+     * @param expectedKeys the number of keys for which the false positive probability stays at about one percent.
+     */
+    public RDBMSKeyFilter(long expectedKeys) {
+        long bitCount = (long) Math.ceil(-Math.max(expectedKeys, 1) * Math.log(FALSE_POSITIVE_PROBABILITY) /
+                (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (bitCount + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / Math.max(expectedKeys, 1) *
+                Math.log(2)));
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key the values of the primary key columns, in the order of the table definition.
+     */
+    public void add(Object[] key) {
+        long hash = hash(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= this.hashCount; i++) {
+            long bit = this.bitIndex(hash1 + i * hash2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = this.bits.get(word);
+            while ((current & mask) == 0 && !this.bits.compareAndSet(word, current, current | mask)) {
+                current = this.bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a key may have been added to the filter.
+     *
+     * @param key the values of the primary key columns, in the order of the table definition.
+     * @return false if the key was definitely not added, true otherwise.
+     */
+    public boolean mightContain(Object[] key) {
+        long hash = hash(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= this.hashCount; i++) {
+            long bit = this.bitIndex(hash1 + i * hash2);
+            if ((this.bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(int combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % this.bitCount;
+    }
+
+    private static long hash(Object[] key) {
+        long hash = 1;
+        for (Object value : key) {
+            hash = 31 * hash + valueHash(value);
+        }
+        // Finalization step of MurmurHash3, spreading the combined hash over both halves.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static int valueHash(Object value) {
+        if (value instanceof String) {
+            String string = (String) value;
+            int end = string.length();
+            while (end > 0 && string.charAt(end - 1) == ' ') {
+                end--;
+            }
+            return string.substring(0, end).toLowerCase(Locale.ENGLISH).hashCode();
+        } else if (value instanceof Double) {
+            return Double.hashCode((Double) value + 0.0d);
+        } else if (value instanceof Float) {
+            return Float.hashCode((Float) value + 0.0f);
+        }
+        return value == null ? 0 : value.hashCode();
+    }
+}
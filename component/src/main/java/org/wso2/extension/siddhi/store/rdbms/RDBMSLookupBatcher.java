@@ -0,0 +1,120 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent find() operations with the same condition into batched lookups. The first caller executes its
+ * lookup right away. Callers which arrive while a lookup is in progress are queued, and once the lookup completes, one
+ * of them executes the lookups of all queued callers at once, e.g. through a single "key IN (...)" query.
+ */
+public class RDBMSLookupBatcher {
+
+    private final Function<List<Map<String, Object>>, List<List<Object[]>>> executor;
+    private final Object lock = new Object();
+    private List<Request> pending = new ArrayList<>();
+    private boolean running;
+
+    /**
+     * Creates a lookup batcher.
+     *
+     * @param executor the function which performs the lookups for a list of condition parameter maps, returning the
+     *                 matching records for each of them, in the same order.
+     */
+    public RDBMSLookupBatcher(Function<List<Map<String, Object>>, List<List<Object[]>>> executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Performs a lookup, possibly together with the lookups of other threads.
+     *
+     * @param conditionParameterMap the runtime values of the condition.
+     * @return the matching records.
+     */
+    public List<Object[]> find(Map<String, Object> conditionParameterMap) {
+        Request request = new Request(conditionParameterMap);
+        synchronized (this.lock) {
+            this.pending.add(request);
+            while (this.running && !request.done) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.pending.remove(request);
+                    throw new RDBMSTableException("Interrupted while waiting for a batched lookup.", e);
+                }
+            }
+            if (request.done) {
+                return request.result();
+            }
+            this.running = true;
+        }
+        List<Request> batch;
+        synchronized (this.lock) {
+            batch = this.pending;
+            this.pending = new ArrayList<>();
+        }
+        try {
+            List<Map<String, Object>> parameterMaps = new ArrayList<>(batch.size());
+            for (Request queued : batch) {
+                parameterMaps.add(queued.conditionParameterMap);
+            }
+            List<List<Object[]>> results = this.executor.apply(parameterMaps);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).records = results.get(i);
+            }
+        } catch (RuntimeException e) {
+            for (Request queued : batch) {
+                queued.error = e;
+            }
+        } finally {
+            synchronized (this.lock) {
+                for (Request queued : batch) {
+                    queued.done = true;
+                }
+                this.running = false;
+                this.lock.notifyAll();
+            }
+        }
+        return request.result();
+    }
+
+    private static class Request {
+        private final Map<String, Object> conditionParameterMap;
+        private List<Object[]> records;
+        private RuntimeException error;
+        private boolean done;
+
+        private Request(Map<String, Object> conditionParameterMap) {
+            this.conditionParameterMap = conditionParameterMap;
+        }
+
+        private List<Object[]> result() {
+            if (this.error != null) {
+                throw this.error;
+            }
+            return this.records;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.CLOSE_PARENTHESIS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.OPEN_PARENTHESIS;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_Q;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.QUESTION_MARK;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SEPARATOR;
+
+/**
+ * Holds the precompiled multi-row insert statements of an RDBMS Event Table, i.e. statements of the form
+ * "INSERT INTO table (columns) VALUES (?, ?), (?, ?), ...", for a fixed set of row counts ("shapes"). The shapes which
+ * would exceed the bind parameter limit of the database are left out.
+ */
+public class RDBMSMultiRowInsert {
+
+    private static final int[] CANDIDATE_SHAPES = {256, 64, 16, 1};
+
+    private final int columnCount;
+    private final int[] shapes;
+    private final String[] queries;
+
+    private RDBMSMultiRowInsert(int columnCount, int[] shapes, String[] queries) {
+        this.columnCount = columnCount;
+        this.shapes = shapes;
+        this.queries = queries;
+    }
+
+    /**
+     * Builds the multi-row insert statements from the insert query template of the table.
+     *
+     * @param insertQuery       the insert query with the table name and columns resolved, and the "{{Q}}" placeholder
+     *                          for the values of a single row still present.
+     * @param columnCount       the number of columns in a row.
+     * @param maxBindParameters the maximum number of bind parameters allowed in a statement, or zero if unlimited.
+     * @return the multi-row insert statements, or null if the template does not allow multi-row inserts.
+     */
+    public static RDBMSMultiRowInsert build(String insertQuery, int columnCount, int maxBindParameters) {
+        String rowPlaceholder = OPEN_PARENTHESIS + PLACEHOLDER_Q + CLOSE_PARENTHESIS;
+        if (insertQuery == null || !insertQuery.contains(rowPlaceholder) || columnCount == 0) {
+            return null;
+        }
+        StringBuilder rowBuilder = new StringBuilder(OPEN_PARENTHESIS);
+        for (int i = 0; i < columnCount; i++) {
+            if (i > 0) {
+                rowBuilder.append(SEPARATOR);
+            }
+            rowBuilder.append(QUESTION_MARK);
+        }
+        String row = rowBuilder.append(CLOSE_PARENTHESIS).toString();
+        List<Integer> shapes = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        for (int shape : CANDIDATE_SHAPES) {
+            if (maxBindParameters > 0 && shape * columnCount > maxBindParameters && shape > 1) {
+                continue;
+            }
+            StringBuilder values = new StringBuilder(shape * (row.length() + SEPARATOR.length()));
+            for (int i = 0; i < shape; i++) {
+                if (i > 0) {
+                    values.append(SEPARATOR);
+                }
+                values.append(row);
+            }
+            shapes.add(shape);
+            queries.add(insertQuery.replace(rowPlaceholder, values.toString()));
+        }
+        return new RDBMSMultiRowInsert(columnCount, shapes.stream().mapToInt(Integer::intValue).toArray(),
+                queries.toArray(new String[queries.size()]));
+    }
+
+    /**
+     * Returns the available row counts, in descending order. The last shape always has a single row.
+     *
+     * @return the row counts of the precompiled statements.
+     */
+    public int[] getShapes() {
+        return shapes;
+    }
+
+    /**
+     * Returns the statement for the shape at the given index of {@link #getShapes()}.
+     *
+     * @param shapeIndex the index of the shape.
+     * @return the SQL statement inserting as many rows as the shape.
+     */
+    public String getQuery(int shapeIndex) {
+        return queries[shapeIndex];
+    }
+
+    /**
+     * Returns the ordinal offset at which the values of the given row start in a multi-row statement.
+     *
+     * @param row the zero-based position of the row in the statement.
+     * @return the number of bind parameters preceding the row.
+     */
+    public int getOrdinalOffset(int row) {
+        return row * columnCount;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inspects the execution plans of the statements of an RDBMS Event Table, as reported by the EXPLAIN statement of the
+ * database, and guards the table against statements which scan the whole table. The plan of each distinct statement
+ * is inspected once, the first time the statement is used, and the statement is flagged if the plan contains a full
+ * table scan whose row estimate exceeds the configured limit, or which has no row estimate at all.
+ * <p>
+ * Depending on the mode, flagged statements are only logged, executed one at a time across the table, or refused.
+ * The results of the inspection are reported through the logs.
+ */
+public class RDBMSPlanInspector {
+
+    private static final Log log = LogFactory.getLog(RDBMSPlanInspector.class);
+    private static final String GROUP_ROWS = "rows";
+    private static final String GROUP_COST = "cost";
+
+    private final String tableName;
+    private final Mode mode;
+    private final long rowLimit;
+    private final Pattern fullScanPattern;
+    private final Pattern costPattern;
+    private final Map<String, FutureTask<Boolean>> inspections = new ConcurrentHashMap<>();
+    private final Semaphore scanPermit = new Semaphore(1, true);
+
+    /**
+     * Creates a plan inspector.
+     *
+     * @param tableName       the name of the table which the inspector belongs to, used for logging.
+     * @param mode            what is done about flagged statements, which must not be {@link Mode#OFF}.
+     * @param rowLimit        the number of rows above which a full table scan is flagged.
+     * @param fullScanPattern the pattern which matches the full table scans in a plan, optionally with a group named
+     *                        "rows" which captures the estimated number of rows of the scan.
+     * @param costPattern     the pattern whose group named "cost" captures the estimated cost in a plan, or null.
+     */
+    public RDBMSPlanInspector(String tableName, Mode mode, long rowLimit, Pattern fullScanPattern,
+                              Pattern costPattern) {
+        this.tableName = tableName;
+        this.mode = mode;
+        this.rowLimit = rowLimit;
+        this.fullScanPattern = fullScanPattern;
+        this.costPattern = costPattern;
+    }
+
+    /**
+     * Admits a statement for execution, refusing it or waiting for the other flagged statements of the table to
+     * complete if it is flagged, depending on the mode. The plan of the statement is inspected the first time the
+     * statement is admitted, exactly once, with concurrent first uses waiting for the inspection to complete.
+     *
+     * @param statement    the SQL statement.
+     * @param planSupplier the supplier of the plan of the statement, as text, which returns null if the plan can not
+     *                     be obtained, in which case the statement is not flagged.
+     * @return true if the statement holds the scan permit, which needs to be released through {@link #release()} once
+     * the statement completes.
+     */
+    public boolean admit(String statement, Supplier<String> planSupplier) {
+        if (!this.isFlagged(statement, planSupplier)) {
+            return false;
+        }
+        switch (this.mode) {
+            case REJECT:
+                throw new RDBMSTableException("Statement '" + statement + "' on table '" + this.tableName + "' is " +
+                        "rejected since it performs a full table scan of more than " + this.rowLimit + " rows.");
+            case THROTTLE:
+                if (!this.scanPermit.tryAcquire()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Statement '" + statement + "' on table '" + this.tableName + "' waits for " +
+                                "another full table scan to complete.");
+                    }
+                    try {
+                        this.scanPermit.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RDBMSTableException("Interrupted while waiting to execute statement '" +
+                                statement + "' on table '" + this.tableName + "'.", e);
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isFlagged(String statement, Supplier<String> planSupplier) {
+        FutureTask<Boolean> inspection = this.inspections.get(statement);
+        if (inspection == null) {
+            FutureTask<Boolean> newInspection = new FutureTask<>(() -> this.inspect(statement, planSupplier.get()));
+            inspection = this.inspections.putIfAbsent(statement, newInspection);
+            if (inspection == null) {
+                inspection = newInspection;
+                inspection.run();
+            }
+        }
+        try {
+            return inspection.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RDBMSTableException("Interrupted while inspecting the plan of statement '" + statement +
+                    "' on table '" + this.tableName + "'.", e);
+        } catch (ExecutionException e) {
+            // Inspected again by the next use of the statement.
+            this.inspections.remove(statement, inspection);
+            throw new RDBMSTableException("Error inspecting the plan of statement '" + statement + "' on table '" +
+                    this.tableName + "': " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Inspects the plan of a statement.
+     *
+     * @param statement the SQL statement.
+     * @param plan      the plan reported by the database, as text, or null if the plan could not be obtained.
+     * @return true if the statement is flagged.
+     */
+    private boolean inspect(String statement, String plan) {
+        boolean fullScan = false;
+        long estimatedRows = -1;
+        if (plan != null) {
+            Matcher matcher = this.fullScanPattern.matcher(plan);
+            while (matcher.find()) {
+                fullScan = true;
+                String rows = group(matcher, GROUP_ROWS);
+                if (rows != null) {
+                    estimatedRows = Math.max(estimatedRows, (long) Double.parseDouble(rows));
+                }
+            }
+        }
+        String cost = null;
+        if (plan != null && this.costPattern != null) {
+            Matcher matcher = this.costPattern.matcher(plan);
+            cost = matcher.find() ? group(matcher, GROUP_COST) : null;
+        }
+        boolean flagged = fullScan && (estimatedRows < 0 || estimatedRows > this.rowLimit);
+        if (flagged) {
+            log.warn("Statement '" + statement + "' on table '" + this.tableName + "' performs a full table scan " +
+                    "of " + (estimatedRows < 0 ? "an unknown number of" : "an estimated " + estimatedRows) +
+                    " rows" + (cost == null ? "" : " at an estimated cost of " + cost) + ", hence it is " +
+                    (this.mode == Mode.REJECT ? "rejected" : this.mode == Mode.THROTTLE ?
+                            "executed one at a time" : "executed as is") + ". Consider indexing the columns " +
+                    "which its condition filters on.");
+        } else if (log.isDebugEnabled()) {
+            log.debug("Inspected statement '" + statement + "' on table '" + this.tableName + "': " +
+                    (plan == null ? "no plan available" : "full table scan: " + fullScan + ", estimated rows: " +
+                            estimatedRows + ", estimated cost: " + cost) + ".");
+        }
+        return flagged;
+    }
+
+    /**
+     * Releases the scan permit held by a statement admitted through {@link #admit(String, Supplier)}.
+     */
+    public void release() {
+        this.scanPermit.release();
+    }
+
+    private static String group(Matcher matcher, String name) {
+        try {
+            return matcher.group(name);
+        } catch (IllegalArgumentException e) {
+            // The pattern has no such group.
+            return null;
+        }
+    }
+
+    /**
+     * What is done about the statements which are flagged by the plan inspection.
+     */
+    public enum Mode {
+        /**
+         * Does not inspect the plans of statements.
+         */
+        OFF,
+        /**
+         * Logs the flagged statements, and executes them as is.
+         */
+        LOG,
+        /**
+         * Logs the flagged statements, and executes at most one of them at a time across the table.
+         */
+        THROTTLE,
+        /**
+         * Logs the flagged statements, and refuses to execute them.
+         */
+        REJECT;
+
+        /**
+         * Resolves a mode from its name as given in the "@Store" annotation.
+         *
+         * @param name the name of the mode (case-insensitive).
+         * @return the matching mode.
+         */
+        public static Mode fromName(String name) {
+            try {
+                return Mode.valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new RDBMSTableException("Plan inspection mode '" + name + "' is not supported. Supported " +
+                        "modes are 'off', 'log', 'throttle' and 'reject'.", e);
+            }
+        }
+    }
+}
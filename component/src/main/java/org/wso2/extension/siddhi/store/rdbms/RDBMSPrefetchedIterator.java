@@ -0,0 +1,64 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.wso2.siddhi.core.table.record.RecordIterator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A RecordIterator over the records of a find() operation whose first records were read ahead of time, e.g. to tell
+ * whether the result fits into the {@link RDBMSResultCache}, and whose remaining records are streamed from the
+ * underlying {@link RDBMSIterator}.
+ */
+public class RDBMSPrefetchedIterator implements RecordIterator<Object[]> {
+
+    private final List<Object[]> prefetchedRecords;
+    private final RDBMSIterator remainingRecords;
+    private int position;
+
+    public RDBMSPrefetchedIterator(List<Object[]> prefetchedRecords, RDBMSIterator remainingRecords) {
+        this.prefetchedRecords = prefetchedRecords;
+        this.remainingRecords = remainingRecords;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.position < this.prefetchedRecords.size() || this.remainingRecords.hasNext();
+    }
+
+    @Override
+    public Object[] next() {
+        if (this.position < this.prefetchedRecords.size()) {
+            return this.prefetchedRecords.get(this.position++);
+        }
+        return this.remainingRecords.next();
+    }
+
+    @Override
+    public void remove() {
+        //Do nothing. This is a read-only iterator.
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.position = this.prefetchedRecords.size();
+        this.remainingRecords.close();
+    }
+}
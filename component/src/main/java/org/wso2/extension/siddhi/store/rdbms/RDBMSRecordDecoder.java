@@ -0,0 +1,101 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.wso2.extension.siddhi.store.rdbms.util.RDBMSValueReader;
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes the rows of result sets into records of an RDBMS Event Table, using a reader specialized for the type of each
+ * attribute. The ordinals of the columns of each statement shape are resolved by name from the result set metadata
+ * once and reused afterwards, so that records are decoded correctly regardless of the order in which the database
+ * returns the columns.
+ */
+public class RDBMSRecordDecoder {
+
+    private final List<Attribute> attributes;
+    private final RDBMSValueReader[] readers;
+    private final int[] positionalOrdinals;
+    private final Map<Object, int[]> ordinals = new ConcurrentHashMap<>();
+
+    public RDBMSRecordDecoder(List<Attribute> attributes) {
+        this.attributes = attributes;
+        this.readers = new RDBMSValueReader[attributes.size()];
+        this.positionalOrdinals = new int[attributes.size()];
+        for (int i = 0; i < this.readers.length; i++) {
+            this.readers[i] = RDBMSValueReader.forType(attributes.get(i).getType());
+            this.positionalOrdinals[i] = i + 1;
+        }
+    }
+
+    /**
+     * Returns the ordinals of the columns of the table attributes in the results of the given statement shape,
+     * resolving them from the metadata of the result set if the shape has not been seen before. Columns which cannot
+     * be matched by name are assumed to be in the order of the table definition.
+     *
+     * @param shape the key identifying the statement, or null if the columns are known to be in the attribute order.
+     * @param rs    a result set of the statement.
+     * @return the column ordinals, indexed by attribute position.
+     * @throws SQLException if the metadata of the result set cannot be read.
+     */
+    public int[] resolveOrdinals(Object shape, ResultSet rs) throws SQLException {
+        if (shape == null) {
+            return this.positionalOrdinals;
+        }
+        int[] resolved = this.ordinals.get(shape);
+        if (resolved == null) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            Map<String, Integer> columns = new HashMap<>();
+            for (int column = metaData.getColumnCount(); column > 0; column--) {
+                columns.put(metaData.getColumnLabel(column).toUpperCase(Locale.ENGLISH), column);
+            }
+            resolved = new int[this.attributes.size()];
+            for (int i = 0; i < resolved.length; i++) {
+                Integer column = columns.get(this.attributes.get(i).getName().toUpperCase(Locale.ENGLISH));
+                resolved[i] = (column == null) ? this.positionalOrdinals[i] : column;
+            }
+            this.ordinals.put(shape, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Decodes the current row of the result set.
+     *
+     * @param rs       the result set, positioned on a row.
+     * @param ordinals the column ordinals obtained through {@link #resolveOrdinals(Object, ResultSet)}.
+     * @return the record, in the order of the table attributes.
+     * @throws SQLException if a value cannot be read.
+     */
+    public Object[] decode(ResultSet rs, int[] ordinals) throws SQLException {
+        Object[] record = new Object[this.readers.length];
+        for (int i = 0; i < record.length; i++) {
+            record[i] = this.readers[i].read(rs, ordinals[i]);
+        }
+        return record;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A read-through cache of the results of RDBMS Event Table find() and contains() operations, keyed on the query and
+ * the values of its parameters. Entries are evicted in least-recently-used order once the total number of cached
+ * records exceeds the configured size, and expire after the configured time-to-live. Empty results are cached as
+ * well.
+ * <p>
+ * The cache is invalidated as a whole whenever the table is modified. Since a query may be running against the
+ * database while the table is being modified, each lookup hands out a {@link #generation()} token, and a result is
+ * only stored if no invalidation happened since the token was obtained.
+ */
+public class RDBMSResultCache {
+
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final LinkedHashMap<List<Object>, Entry> entries;
+    private long weight;
+    private long generation;
+
+    /**
+     * Creates a result cache.
+     *
+     * @param maxWeight the maximum number of records to be held in the cache, where an empty result counts as one.
+     * @param ttl       the time (in milliseconds) after which a cached result expires.
+     */
+    public RDBMSResultCache(long maxWeight, long ttl) {
+        this.maxWeight = maxWeight;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the maximum number of records held in the cache, beyond which a result can not be cached.
+     *
+     * @return the maximum number of records.
+     */
+    public long getMaxWeight() {
+        return this.maxWeight;
+    }
+
+    /**
+     * Returns the cached result for the given key, if present and not expired.
+     *
+     * @param key the query and its parameter values.
+     * @return the cached result, or null if there is none.
+     */
+    public synchronized Object get(List<Object> key) {
+        Entry entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.creationTime >= this.ttlNanos) {
+            this.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the current generation of the cache, which needs to be passed to {@link #put(List, Object, int, long)}
+     * when storing a result which was read after this call.
+     *
+     * @return the generation token.
+     */
+    public synchronized long generation() {
+        return this.generation;
+    }
+
+    /**
+     * Stores a result, unless the cache was invalidated after the given generation was obtained, or the result is
+     * larger than the cache itself.
+     *
+     * @param key         the query and its parameter values.
+     * @param value       the result.
+     * @param recordCount the number of records in the result.
+     * @param generation  the generation obtained before the result was read.
+     */
+    public synchronized void put(List<Object> key, Object value, int recordCount, long generation) {
+        long entryWeight = Math.max(1, recordCount);
+        if (generation != this.generation || entryWeight > this.maxWeight) {
+            return;
+        }
+        Entry previous = this.entries.put(key, new Entry(value, entryWeight, System.nanoTime()));
+        if (previous != null) {
+            this.weight -= previous.weight;
+        }
+        this.weight += entryWeight;
+        Iterator<Map.Entry<List<Object>, Entry>> iterator = this.entries.entrySet().iterator();
+        while (this.weight > this.maxWeight && iterator.hasNext()) {
+            this.weight -= iterator.next().getValue().weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Discards all cached results, including the ones being read at the moment.
+     */
+    public synchronized void invalidate() {
+        this.generation++;
+        if (!this.entries.isEmpty()) {
+            this.entries.clear();
+            this.weight = 0;
+        }
+    }
+
+    private void remove(List<Object> key, Entry entry) {
+        this.entries.remove(key);
+        this.weight -= entry.weight;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long weight;
+        private final long creationTime;
+
+        private Entry(Object value, long weight, long creationTime) {
+            this.value = value;
+            this.weight = weight;
+            this.creationTime = creationTime;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongToIntFunction;
+
+/**
+ * A background service which deletes the records of an RDBMS Event Table once they are older than the retention
+ * period. Each purge deletes the expired records in chunks of a bounded number of records, each of which is committed
+ * on its own, and pauses between chunks, so that a purge never holds locks on a large part of the table and leaves
+ * room for the other operations on it.
+ */
+public class RDBMSRetentionPurger {
+
+    private static final Log log = LogFactory.getLog(RDBMSRetentionPurger.class);
+    private static final long SHUTDOWN_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final String tableName;
+    private final long retentionPeriod;
+    private final long purgeInterval;
+    private final int chunkSize;
+    private final long chunkPause;
+    private final LongToIntFunction chunkDeleter;
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    /**
+     * Creates a retention purger. The purger does not delete any records until {@link #start()} is called.
+     *
+     * @param tableName       the name of the table which the purger belongs to, used for logging and thread names.
+     * @param retentionPeriod the time (in milliseconds) for which records are retained.
+     * @param purgeInterval   the time (in milliseconds) between the end of a purge and the start of the next one.
+     * @param chunkSize       the maximum number of records deleted by a single chunk.
+     * @param chunkPause      the time (in milliseconds) to pause between chunks.
+     * @param chunkDeleter    the function which deletes up to the chunk size of the records whose retention
+     *                        attribute is less than the given timestamp, and returns the number of deleted records.
+     */
+    public RDBMSRetentionPurger(String tableName, long retentionPeriod, long purgeInterval, int chunkSize,
+                                long chunkPause, LongToIntFunction chunkDeleter) {
+        this.tableName = tableName;
+        this.retentionPeriod = retentionPeriod;
+        this.purgeInterval = purgeInterval;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.chunkDeleter = chunkDeleter;
+    }
+
+    /**
+     * Starts purging the expired records, right away and then periodically.
+     */
+    public void start() {
+        this.running = true;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "siddhi-rdbms-purger-" + this.tableName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::purge, 0, this.purgeInterval, TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Started purging the records of table '" + this.tableName + "' which are older than " +
+                    this.retentionPeriod + " ms, every " + this.purgeInterval + " ms.");
+        }
+    }
+
+    /**
+     * Stops purging, interrupting a purge which is pausing between chunks, and waits for a chunk which is being
+     * deleted to complete.
+     */
+    public void shutdown() {
+        this.running = false;
+        if (this.executor == null) {
+            return;
+        }
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(SHUTDOWN_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Stopped purging the records of table '" + this.tableName + "'.");
+        }
+    }
+
+    private void purge() {
+        long expiryTime = System.currentTimeMillis() - this.retentionPeriod;
+        long purgedRecordCount = 0;
+        try {
+            while (this.running) {
+                int deletedRecordCount = this.chunkDeleter.applyAsInt(expiryTime);
+                purgedRecordCount += deletedRecordCount;
+                if (deletedRecordCount < this.chunkSize) {
+                    break;
+                }
+                Thread.sleep(this.chunkPause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Not rethrowing, since that would cancel the following purges.
+            log.error("Error purging expired records from table '" + this.tableName + "', which is retried in " +
+                    this.purgeInterval + " ms: " + e.getMessage(), e);
+        }
+        if (log.isDebugEnabled() && purgedRecordCount > 0) {
+            log.debug("Purged " + purgedRecordCount + " expired records from table '" + this.tableName + "'.");
+        }
+    }
+}
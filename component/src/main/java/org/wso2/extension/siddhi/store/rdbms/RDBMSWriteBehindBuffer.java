@@ -0,0 +1,464 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSBatchExecutionException;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A bounded write-behind buffer which decouples RDBMS Event Table insertions from the Siddhi processing threads.
+ * Records are enqueued into a lock-free queue and are drained into batches by dedicated flusher threads, which hand
+ * them over to the given writer. A batch is written either when it reaches the maximum batch size or when the flush
+ * interval elapses, whichever happens first.
+ * <p>
+ * When more than one flusher thread is used, the order in which records reach the database is not guaranteed.
+ * <p>
+ * If a batch cannot be written, the records which were not committed are put back at the head of the buffer and are
+ * retried with an exponential backoff, starting from the flush interval. Depending on the {@link WriteFailurePolicy},
+ * the records are retried until they are written, or dropped once the given number of consecutive writes failed.
+ * Records which are put back may take the buffer beyond its capacity, in which case no further records are accepted
+ * until it drains. On {@link #shutdown()}, the buffered records are retried for up to 30 seconds, after which the
+ * records which still could not be written are discarded with an error.
+ */
+public class RDBMSWriteBehindBuffer {
+
+    private static final Log log = LogFactory.getLog(RDBMSWriteBehindBuffer.class);
+    private static final long BLOCKED_PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final long SHUTDOWN_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long DROP_WARNING_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final long MAX_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final String tableName;
+    private final int capacity;
+    private final int maxBatchSize;
+    private final long flushIntervalNanos;
+    private final BufferFullPolicy bufferFullPolicy;
+    private final WriteFailurePolicy writeFailurePolicy;
+    private final int retryCount;
+    private final Consumer<List<Object[]>> writer;
+    private final Deque<Object[]> queue;
+    private final AtomicInteger size;
+    private final AtomicLong droppedRecordCount;
+    private final AtomicInteger failedWriteCount;
+    private final ReadWriteLock shutdownLock;
+    private final Thread[] flushers;
+    private volatile boolean running;
+    private volatile long lastDropWarningTime;
+
+    /**
+     * Creates a write-behind buffer. The buffer does not accept records until {@link #start()} is called.
+     *
+     * @param tableName        the name of the table which the buffer belongs to, used for logging and thread names.
+     * @param capacity         the maximum number of records which can be held in the buffer.
+     * @param maxBatchSize     the maximum number of records handed over to the writer at once.
+     * @param flushInterval    the maximum time (in milliseconds) a record is held before it is flushed.
+     * @param flusherCount     the number of dedicated flusher threads.
+     * @param bufferFullPolicy   the action to be taken when records are offered to a full buffer.
+     * @param writeFailurePolicy the action to be taken when a batch of records cannot be written.
+     * @param retryCount         the number of consecutive failed writes after which records are dropped, if the
+     *                           write failure policy is {@link WriteFailurePolicy#DROP}.
+     * @param writer             the function which persists a batch of records, which throws an
+     *                           {@link RDBMSBatchExecutionException} if some of the records were committed before
+     *                           the failure.
+     */
+    public RDBMSWriteBehindBuffer(String tableName, int capacity, int maxBatchSize, long flushInterval,
+                                  int flusherCount, BufferFullPolicy bufferFullPolicy,
+                                  WriteFailurePolicy writeFailurePolicy, int retryCount,
+                                  Consumer<List<Object[]>> writer) {
+        this.tableName = tableName;
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        this.bufferFullPolicy = bufferFullPolicy;
+        this.writeFailurePolicy = writeFailurePolicy;
+        this.retryCount = retryCount;
+        this.writer = writer;
+        this.queue = new ConcurrentLinkedDeque<>();
+        this.size = new AtomicInteger();
+        this.droppedRecordCount = new AtomicLong();
+        this.failedWriteCount = new AtomicInteger();
+        this.shutdownLock = new ReentrantReadWriteLock();
+        this.flushers = new Thread[flusherCount];
+        for (int i = 0; i < flusherCount; i++) {
+            this.flushers[i] = new Thread(this::runFlusher, "siddhi-rdbms-flusher-" + tableName + "-" + i);
+            this.flushers[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Starts the flusher threads.
+     */
+    public void start() {
+        this.running = true;
+        for (Thread flusher : this.flushers) {
+            flusher.start();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Started " + this.flushers.length + " write-behind flusher thread(s) for table '" +
+                    this.tableName + "' with a buffer of " + this.capacity + " records.");
+        }
+    }
+
+    /**
+     * Enqueues the given records. If the buffer does not have room for all of them, the remaining records are handled
+     * according to the configured {@link BufferFullPolicy}.
+     *
+     * @param records the records to be written to the table.
+     */
+    public void offer(List<Object[]> records) {
+        Iterator<Object[]> iterator = records.iterator();
+        int remaining = records.size();
+        // Held while enqueueing, so that shutdown() only flushes once the records being offered are in the queue.
+        this.shutdownLock.readLock().lock();
+        try {
+            while (remaining > 0) {
+                if (!this.running) {
+                    // The buffer has been shut down, hence writing on the caller thread.
+                    this.writer.accept(this.collectRemaining(iterator, remaining));
+                    return;
+                }
+                int reserved = this.reserve(remaining);
+                if (reserved > 0) {
+                    for (int i = 0; i < reserved; i++) {
+                        this.queue.offer(iterator.next());
+                    }
+                    remaining -= reserved;
+                    continue;
+                }
+                switch (this.bufferFullPolicy) {
+                    case BLOCK:
+                        this.signalFlushers();
+                        LockSupport.parkNanos(this, BLOCKED_PRODUCER_PARK_NANOS);
+                        break;
+                    case DROP:
+                        this.recordDrop(remaining);
+                        return;
+                    case SPILL:
+                        this.writer.accept(this.collectRemaining(iterator, remaining));
+                        return;
+                }
+            }
+        } finally {
+            this.shutdownLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes all records currently held in the buffer on the caller thread, retrying failed writes for up to 30
+     * seconds.
+     *
+     * @throws RDBMSTableException if some of the records could not be written within that time.
+     */
+    public void flush() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_WAIT_MILLIS);
+        while (this.size.get() > 0 && !this.queue.isEmpty()) {
+            if (!this.drainAndWrite()) {
+                long delay = this.retryDelayNanos();
+                if (System.nanoTime() + delay - deadline > 0) {
+                    throw new RDBMSTableException(this.size.get() + " buffered record(s) could not be written to " +
+                            "table '" + this.tableName + "' within " + SHUTDOWN_WAIT_MILLIS + " ms.");
+                }
+                LockSupport.parkNanos(this, delay);
+            }
+        }
+    }
+
+    /**
+     * Stops the flusher threads and writes all buffered records before returning, including the records which are
+     * being offered concurrently.
+     */
+    public void shutdown() {
+        this.running = false;
+        // Waiting for the producers which passed the running check to complete enqueueing their records.
+        this.shutdownLock.writeLock().lock();
+        this.shutdownLock.writeLock().unlock();
+        for (Thread flusher : this.flushers) {
+            LockSupport.unpark(flusher);
+        }
+        for (Thread flusher : this.flushers) {
+            try {
+                flusher.join(SHUTDOWN_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        try {
+            this.flush();
+        } catch (RDBMSTableException e) {
+            log.error("Discarding " + this.size.get() + " buffered record(s) on shutting down the write-behind " +
+                    "buffer of table '" + this.tableName + "': " + e.getMessage(), e);
+        }
+        if (this.droppedRecordCount.get() > 0) {
+            log.warn("Write-behind buffer of table '" + this.tableName + "' dropped " +
+                    this.droppedRecordCount.get() + " record(s) in total since the buffer was full or since they " +
+                    "could not be written.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Write-behind buffer of table '" + this.tableName + "' has been flushed and shut down.");
+        }
+    }
+
+    /**
+     * Returns the number of records which are waiting to be written.
+     *
+     * @return the number of buffered records.
+     */
+    public int getBufferedRecordCount() {
+        return this.size.get();
+    }
+
+    /**
+     * Returns the number of records which have been dropped, since the buffer was full or since they could not be
+     * written.
+     *
+     * @return the number of dropped records.
+     */
+    public long getDroppedRecordCount() {
+        return this.droppedRecordCount.get();
+    }
+
+    private void runFlusher() {
+        long lastFlushTime = System.nanoTime();
+        while (this.running) {
+            int currentSize = this.size.get();
+            long elapsed = System.nanoTime() - lastFlushTime;
+            if (currentSize >= this.maxBatchSize || (currentSize > 0 && elapsed >= this.flushIntervalNanos)) {
+                if (!this.drainAndWrite()) {
+                    this.pause(this.retryDelayNanos());
+                }
+                lastFlushTime = System.nanoTime();
+            } else if (elapsed >= this.flushIntervalNanos) {
+                lastFlushTime = System.nanoTime();
+                LockSupport.parkNanos(this, this.flushIntervalNanos);
+            } else {
+                LockSupport.parkNanos(this, this.flushIntervalNanos - elapsed);
+            }
+        }
+    }
+
+    /**
+     * Reserves room in the buffer for up to the given number of records.
+     *
+     * @param requested the number of records which need to be enqueued.
+     * @return the number of records for which room has been reserved.
+     */
+    private int reserve(int requested) {
+        while (true) {
+            int current = this.size.get();
+            int available = this.capacity - current;
+            if (available <= 0) {
+                return 0;
+            }
+            int granted = Math.min(available, requested);
+            if (this.size.compareAndSet(current, current + granted)) {
+                if (current < this.maxBatchSize && current + granted >= this.maxBatchSize) {
+                    this.signalFlushers();
+                }
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of records taken from the head of the buffer.
+     *
+     * @return false if the batch could not be written.
+     */
+    private boolean drainAndWrite() {
+        List<Object[]> batch = new ArrayList<>(Math.min(this.maxBatchSize, Math.max(this.size.get(), 1)));
+        Object[] record;
+        while (batch.size() < this.maxBatchSize && (record = this.queue.poll()) != null) {
+            batch.add(record);
+        }
+        if (batch.isEmpty()) {
+            return true;
+        }
+        this.size.addAndGet(-batch.size());
+        try {
+            this.writer.accept(batch);
+            this.failedWriteCount.set(0);
+            return true;
+        } catch (RuntimeException e) {
+            this.handleFailedWrite(batch, e);
+            return false;
+        }
+    }
+
+    /**
+     * Puts the records of a failed batch which were not committed back at the head of the buffer, unless they are
+     * dropped according to the write failure policy.
+     *
+     * @param batch the batch which could not be written.
+     * @param e     the failure of the write.
+     */
+    private void handleFailedWrite(List<Object[]> batch, RuntimeException e) {
+        int committed = (e instanceof RDBMSBatchExecutionException) ?
+                Math.min(((RDBMSBatchExecutionException) e).getCommittedRecordCount(), batch.size()) : 0;
+        List<Object[]> uncommitted = batch.subList(committed, batch.size());
+        int failures = this.failedWriteCount.incrementAndGet();
+        if (this.writeFailurePolicy == WriteFailurePolicy.DROP && failures > this.retryCount) {
+            this.failedWriteCount.set(0);
+            this.droppedRecordCount.addAndGet(uncommitted.size());
+            log.error("Dropping " + uncommitted.size() + " of " + batch.size() + " buffered record(s) since they " +
+                    "could not be written to table '" + this.tableName + "' in " + failures + " attempts: " +
+                    e.getMessage(), e);
+            return;
+        }
+        for (int i = uncommitted.size() - 1; i >= 0; i--) {
+            this.queue.offerFirst(uncommitted.get(i));
+        }
+        this.size.addAndGet(uncommitted.size());
+        log.warn("Failed to write " + uncommitted.size() + " of " + batch.size() + " buffered record(s) to table '" +
+                this.tableName + "', retrying in " + TimeUnit.NANOSECONDS.toMillis(this.retryDelayNanos()) +
+                " ms: " + e.getMessage());
+        if (log.isDebugEnabled()) {
+            log.debug("Write of buffered records to table '" + this.tableName + "' failed.", e);
+        }
+    }
+
+    /**
+     * Returns the time to wait before retrying a failed write, which doubles with each consecutive failure, starting
+     * from the flush interval.
+     *
+     * @return the delay (in nanoseconds).
+     */
+    private long retryDelayNanos() {
+        long delay = this.flushIntervalNanos;
+        for (int i = 1; i < this.failedWriteCount.get() && delay < MAX_RETRY_DELAY_NANOS; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, MAX_RETRY_DELAY_NANOS);
+    }
+
+    /**
+     * Waits for the given time, or until the buffer is shut down.
+     *
+     * @param nanos the time to wait (in nanoseconds).
+     */
+    private void pause(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (this.running && remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private void signalFlushers() {
+        for (Thread flusher : this.flushers) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private List<Object[]> collectRemaining(Iterator<Object[]> iterator, int remaining) {
+        List<Object[]> result = new ArrayList<>(remaining);
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private void recordDrop(int count) {
+        long total = this.droppedRecordCount.addAndGet(count);
+        long now = System.currentTimeMillis();
+        if (now - this.lastDropWarningTime >= DROP_WARNING_INTERVAL_MILLIS) {
+            this.lastDropWarningTime = now;
+            log.warn("Write-behind buffer of table '" + this.tableName + "' is full; dropped " + count +
+                    " record(s) (" + total + " in total).");
+        }
+    }
+
+    /**
+     * The actions which can be taken when records are offered to a full write-behind buffer.
+     */
+    public enum BufferFullPolicy {
+        /**
+         * Blocks the caller until the flusher threads make room in the buffer.
+         */
+        BLOCK,
+        /**
+         * Discards the records which do not fit into the buffer.
+         */
+        DROP,
+        /**
+         * Writes the records which do not fit into the buffer synchronously on the caller thread.
+         */
+        SPILL;
+
+        /**
+         * Resolves a policy from its name as given in the "@Store" annotation.
+         *
+         * @param name the name of the policy (case-insensitive).
+         * @return the matching policy.
+         */
+        public static BufferFullPolicy fromName(String name) {
+            try {
+                return BufferFullPolicy.valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new RDBMSTableException("Buffer full policy '" + name + "' is not supported. Supported " +
+                        "policies are 'block', 'drop' and 'spill'.", e);
+            }
+        }
+    }
+
+    /**
+     * The actions which can be taken when a batch of buffered records cannot be written.
+     */
+    public enum WriteFailurePolicy {
+        /**
+         * Keeps the records in the buffer and retries them until they are written.
+         */
+        RETRY,
+        /**
+         * Retries the records, and discards them once the configured number of consecutive writes failed.
+         */
+        DROP;
+
+        /**
+         * Resolves a policy from its name as given in the "@Store" annotation.
+         *
+         * @param name the name of the policy (case-insensitive).
+         * @return the matching policy.
+         */
+        public static WriteFailurePolicy fromName(String name) {
+            try {
+                return WriteFailurePolicy.valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new RDBMSTableException("Buffer failure policy '" + name + "' is not supported. Supported " +
+                        "policies are 'retry' and 'drop'.", e);
+            }
+        }
+    }
+}
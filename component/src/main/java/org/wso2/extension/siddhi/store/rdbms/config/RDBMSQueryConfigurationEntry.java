@@ -20,6 +20,7 @@ package org.wso2.extension.siddhi.store.rdbms.config;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -35,16 +36,36 @@ public class RDBMSQueryConfigurationEntry {
     private String tableCheckQuery;
     private String tableCreateQuery;
     private String indexCreateQuery;
+    private String advisedIndexCreateQuery;
+    private String explainQuery;
+    private String fullScanPattern;
+    private String costPattern;
     private String recordSelectQuery;
     private String recordExistsQuery;
     private String recordInsertQuery;
     private String recordUpdateQuery;
     private String recordDeleteQuery;
+    private String recordUpsertQuery;
+    private String recordPurgeQuery;
     private boolean keyExplicitNotNull = false;
     private String stringSize;
     private RDBMSTypeMapping rdbmsTypeMapping;
+    private RDBMSFunctionMapping[] functionMappings;
     private int batchSize;
     private boolean batchEnable = false;
+    private boolean commitPerBatch = false;
+    private boolean multiRowInsertEnable = false;
+    private int maxBindParameters;
+    private String bulkCopyQuery;
+    private int bulkCopyThreshold;
+    private String stagingTableName;
+    private String stagingTableCreateQuery;
+    private String stagingUpsertQuery;
+    private String stagingSourceAlias = "SRC";
+    private int stagingUpsertThreshold;
+    private int fetchSize;
+    private String cursorMode;
+    private long fetchMemoryBudget = 8388608;
     private boolean transactionSupported = true;
 
     @XmlAttribute(name = "name", required = true)
@@ -88,6 +109,123 @@ public class RDBMSQueryConfigurationEntry {
         this.batchEnable = batchEnable;
     }
 
+    @XmlElement(name = "commitPerBatch")
+    public boolean isCommitPerBatch() {
+        return commitPerBatch;
+    }
+
+    public void setCommitPerBatch(boolean commitPerBatch) {
+        this.commitPerBatch = commitPerBatch;
+    }
+
+    @XmlElement(name = "multiRowInsertEnable")
+    public boolean isMultiRowInsertEnable() {
+        return multiRowInsertEnable;
+    }
+
+    public void setMultiRowInsertEnable(boolean multiRowInsertEnable) {
+        this.multiRowInsertEnable = multiRowInsertEnable;
+    }
+
+    @XmlElement(name = "maxBindParameters")
+    public int getMaxBindParameters() {
+        return maxBindParameters;
+    }
+
+    public void setMaxBindParameters(int maxBindParameters) {
+        this.maxBindParameters = maxBindParameters;
+    }
+
+    @XmlElement(name = "bulkCopyQuery")
+    public String getBulkCopyQuery() {
+        return bulkCopyQuery;
+    }
+
+    public void setBulkCopyQuery(String bulkCopyQuery) {
+        this.bulkCopyQuery = bulkCopyQuery;
+    }
+
+    @XmlElement(name = "bulkCopyThreshold")
+    public int getBulkCopyThreshold() {
+        return bulkCopyThreshold;
+    }
+
+    public void setBulkCopyThreshold(int bulkCopyThreshold) {
+        this.bulkCopyThreshold = bulkCopyThreshold;
+    }
+
+    @XmlElement(name = "stagingTableName")
+    public String getStagingTableName() {
+        return stagingTableName;
+    }
+
+    public void setStagingTableName(String stagingTableName) {
+        this.stagingTableName = stagingTableName;
+    }
+
+    @XmlElement(name = "stagingTableCreateQuery")
+    public String getStagingTableCreateQuery() {
+        return stagingTableCreateQuery;
+    }
+
+    public void setStagingTableCreateQuery(String stagingTableCreateQuery) {
+        this.stagingTableCreateQuery = stagingTableCreateQuery;
+    }
+
+    @XmlElement(name = "stagingUpsertQuery")
+    public String getStagingUpsertQuery() {
+        return stagingUpsertQuery;
+    }
+
+    public void setStagingUpsertQuery(String stagingUpsertQuery) {
+        this.stagingUpsertQuery = stagingUpsertQuery;
+    }
+
+    @XmlElement(name = "stagingSourceAlias")
+    public String getStagingSourceAlias() {
+        return stagingSourceAlias;
+    }
+
+    public void setStagingSourceAlias(String stagingSourceAlias) {
+        this.stagingSourceAlias = stagingSourceAlias;
+    }
+
+    @XmlElement(name = "stagingUpsertThreshold")
+    public int getStagingUpsertThreshold() {
+        return stagingUpsertThreshold;
+    }
+
+    public void setStagingUpsertThreshold(int stagingUpsertThreshold) {
+        this.stagingUpsertThreshold = stagingUpsertThreshold;
+    }
+
+    @XmlElement(name = "fetchSize")
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @XmlElement(name = "cursorMode")
+    public String getCursorMode() {
+        return cursorMode;
+    }
+
+    public void setCursorMode(String cursorMode) {
+        this.cursorMode = cursorMode;
+    }
+
+    @XmlElement(name = "fetchMemoryBudget")
+    public long getFetchMemoryBudget() {
+        return fetchMemoryBudget;
+    }
+
+    public void setFetchMemoryBudget(long fetchMemoryBudget) {
+        this.fetchMemoryBudget = fetchMemoryBudget;
+    }
+
     public void setCategory(String category) {
         this.category = category;
     }
@@ -164,6 +302,60 @@ public class RDBMSQueryConfigurationEntry {
         this.recordDeleteQuery = recordDeleteQuery;
     }
 
+    @XmlElement(name = "recordUpsertQuery")
+    public String getRecordUpsertQuery() {
+        return recordUpsertQuery;
+    }
+
+    public void setRecordUpsertQuery(String recordUpsertQuery) {
+        this.recordUpsertQuery = recordUpsertQuery;
+    }
+
+    @XmlElement(name = "advisedIndexCreateQuery")
+    public String getAdvisedIndexCreateQuery() {
+        return advisedIndexCreateQuery;
+    }
+
+    public void setAdvisedIndexCreateQuery(String advisedIndexCreateQuery) {
+        this.advisedIndexCreateQuery = advisedIndexCreateQuery;
+    }
+
+    @XmlElement(name = "explainQuery")
+    public String getExplainQuery() {
+        return explainQuery;
+    }
+
+    public void setExplainQuery(String explainQuery) {
+        this.explainQuery = explainQuery;
+    }
+
+    @XmlElement(name = "fullScanPattern")
+    public String getFullScanPattern() {
+        return fullScanPattern;
+    }
+
+    public void setFullScanPattern(String fullScanPattern) {
+        this.fullScanPattern = fullScanPattern;
+    }
+
+    @XmlElement(name = "costPattern")
+    public String getCostPattern() {
+        return costPattern;
+    }
+
+    public void setCostPattern(String costPattern) {
+        this.costPattern = costPattern;
+    }
+
+    @XmlElement(name = "recordPurgeQuery")
+    public String getRecordPurgeQuery() {
+        return recordPurgeQuery;
+    }
+
+    public void setRecordPurgeQuery(String recordPurgeQuery) {
+        this.recordPurgeQuery = recordPurgeQuery;
+    }
+
     public boolean isKeyExplicitNotNull() {
         return keyExplicitNotNull;
     }
@@ -197,6 +389,16 @@ public class RDBMSQueryConfigurationEntry {
         this.rdbmsTypeMapping = rdbmsTypeMapping;
     }
 
+    @XmlElementWrapper(name = "functionMappings")
+    @XmlElement(name = "functionMapping")
+    public RDBMSFunctionMapping[] getFunctionMappings() {
+        return functionMappings;
+    }
+
+    public void setFunctionMappings(RDBMSFunctionMapping[] functionMappings) {
+        this.functionMappings = functionMappings;
+    }
+
     @XmlElement(name = "batchSize", required = true)
     public int getBatchSize() {
         return batchSize;
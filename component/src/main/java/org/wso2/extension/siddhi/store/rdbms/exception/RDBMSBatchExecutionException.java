@@ -0,0 +1,43 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.exception;
+
+/**
+ * Represents a failure of a batched operation which was committed in chunks, where some of the leading records had
+ * already been committed before the failure. Only the records from {@link #getCommittedRecordCount()} onwards need
+ * to be resent.
+ */
+public class RDBMSBatchExecutionException extends RDBMSTableException {
+
+    private final int committedRecordCount;
+
+    public RDBMSBatchExecutionException(String message, Throwable throwable, int committedRecordCount) {
+        super(message, throwable);
+        this.committedRecordCount = committedRecordCount;
+    }
+
+    /**
+     * Returns the number of leading records of the batch which were committed before the failure.
+     *
+     * @return the number of committed records.
+     */
+    public int getCommittedRecordCount() {
+        return committedRecordCount;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSBatchExecutionException;
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Streams records to a table through the bulk copy API of a JDBC driver, one copy operation per chunk of records in
+ * the text format of {@link RDBMSCopyTextEncoder}. The API is accessed reflectively since the driver is not a
+ * dependency of this extension: connections are unwrapped to the given connection interface of the driver, whose
+ * "getCopyAPI()" method returns the copy manager, whose "copyIn(String, Reader)" method streams each chunk.
+ */
+public class RDBMSBulkCopier {
+
+    private static final Log log = LogFactory.getLog(RDBMSBulkCopier.class);
+
+    private final String tableName;
+    private final String driverConnectionClass;
+    private final String query;
+    private final List<Attribute> attributes;
+    private final int chunkSize;
+
+    /**
+     * Creates a bulk copier for a table.
+     *
+     * @param tableName             the name of the table, used for logging and error reporting.
+     * @param driverConnectionClass the name of the connection interface of the driver which exposes the copy API.
+     * @param query                 the copy query through which the records are streamed.
+     * @param attributes            the attributes of the table, in the order of the record values.
+     * @param chunkSize             the number of records streamed by each copy operation.
+     */
+    public RDBMSBulkCopier(String tableName, String driverConnectionClass, String query, List<Attribute> attributes,
+                           int chunkSize) {
+        this.tableName = tableName;
+        this.driverConnectionClass = driverConnectionClass;
+        this.query = query;
+        this.attributes = attributes;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Streams the given records through the copy API of the given connection, and lets the given committer commit
+     * the records after each chunk.
+     *
+     * @param conn      the connection to the database.
+     * @param records   the records to be copied.
+     * @param committer the committer of the chunks.
+     * @return true if the records were copied, false if the connection does not expose the copy API, in which case
+     * none of the records were copied.
+     * @throws SQLException                 if the copy fails before any of the records were committed.
+     * @throws RDBMSBatchExecutionException if the copy fails after some of the chunks were committed.
+     */
+    public boolean copyRecords(Connection conn, List<Object[]> records, ChunkCommitter committer)
+            throws SQLException {
+        Object copyManager;
+        Method copyIn;
+        try {
+            Class<?> connectionClass = Class.forName(this.driverConnectionClass, false,
+                    conn.unwrap(Connection.class).getClass().getClassLoader());
+            Object driverConnection = conn.unwrap(connectionClass);
+            copyManager = connectionClass.getMethod("getCopyAPI").invoke(driverConnection);
+            copyIn = copyManager.getClass().getMethod("copyIn", String.class, Reader.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException |
+                InvocationTargetException | SQLException e) {
+            log.warn("Bulk copy is not supported by the connections to table '" + this.tableName + "', hence " +
+                    "records will be inserted through batched statements: " + e.getMessage());
+            return false;
+        }
+        int copiedRecordCount = 0;
+        int committedRecordCount = 0;
+        try {
+            while (copiedRecordCount < records.size()) {
+                int chunkEnd = Math.min(copiedRecordCount + this.chunkSize, records.size());
+                String chunk = RDBMSCopyTextEncoder.encode(records.subList(copiedRecordCount, chunkEnd),
+                        this.attributes);
+                try {
+                    copyIn.invoke(copyManager, this.query, new StringReader(chunk));
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof SQLException) {
+                        throw (SQLException) e.getCause();
+                    }
+                    throw new SQLException(e.getCause().getMessage(), e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new SQLException(e.getMessage(), e);
+                }
+                copiedRecordCount = chunkEnd;
+                committedRecordCount = committer.commit(copiedRecordCount, committedRecordCount);
+            }
+            return true;
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attempted execution of query [" + this.query + "] produced an exception: " +
+                        e.getMessage());
+            }
+            if (committedRecordCount > 0) {
+                throw new RDBMSBatchExecutionException("Error in batch execution on table '" + this.tableName +
+                        "' after " + committedRecordCount + " of " + records.size() + " records were committed: " +
+                        e.getMessage(), e, committedRecordCount);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Commits the records copied so far, as configured for the table.
+     */
+    @FunctionalInterface
+    public interface ChunkCommitter {
+
+        /**
+         * Called after each chunk of records was copied.
+         *
+         * @param copiedRecordCount    the number of records which have been copied so far.
+         * @param committedRecordCount the number of records which have been committed so far.
+         * @return the number of records which have been committed after this chunk.
+         * @throws SQLException if the commit fails.
+         */
+        int commit(int copiedRecordCount, int committedRecordCount) throws SQLException;
+    }
+}
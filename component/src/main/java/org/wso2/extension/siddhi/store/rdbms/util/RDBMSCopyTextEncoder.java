@@ -0,0 +1,127 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.util;
+
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.util.List;
+
+/**
+ * Encodes records into the text format of the PostgreSQL "COPY ... FROM STDIN" command, i.e. one line per record with
+ * the column values separated by tab characters, "\N" denoting null values, and backslash escapes for the characters
+ * which would otherwise be interpreted as delimiters.
+ */
+public class RDBMSCopyTextEncoder {
+
+    private static final char COLUMN_DELIMITER = '\t';
+    private static final char ROW_DELIMITER = '\n';
+    private static final String NULL_VALUE = "\\N";
+
+    private RDBMSCopyTextEncoder() {
+        //preventing initialization
+    }
+
+    /**
+     * Checks whether records of the given attributes can be encoded in the COPY text format.
+     *
+     * @param attributes the attributes of the table.
+     * @return true if none of the attributes is of the OBJECT type.
+     */
+    public static boolean isEncodable(List<Attribute> attributes) {
+        for (Attribute attribute : attributes) {
+            if (attribute.getType() == Attribute.Type.OBJECT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes the given records, one line per record.
+     *
+     * @param records    the records to be encoded.
+     * @param attributes the attributes of the table, in the order of the record values.
+     * @return the encoded records.
+     */
+    public static String encode(List<Object[]> records, List<Attribute> attributes) {
+        StringBuilder builder = new StringBuilder(records.size() * attributes.size() * 16);
+        for (Object[] record : records) {
+            encodeRecord(record, attributes, builder);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends a single encoded record, including the terminating line break, to the given builder.
+     *
+     * @param record     the record to be encoded.
+     * @param attributes the attributes of the table, in the order of the record values.
+     * @param builder    the builder to which the encoded record is appended.
+     */
+    public static void encodeRecord(Object[] record, List<Attribute> attributes, StringBuilder builder) {
+        for (int i = 0; i < attributes.size(); i++) {
+            if (i > 0) {
+                builder.append(COLUMN_DELIMITER);
+            }
+            Object value = record[i];
+            if (value == null) {
+                builder.append(NULL_VALUE);
+                continue;
+            }
+            switch (attributes.get(i).getType()) {
+                case STRING:
+                    appendEscaped(value.toString(), builder);
+                    break;
+                case BOOL:
+                case DOUBLE:
+                case FLOAT:
+                case INT:
+                case LONG:
+                    builder.append(value);
+                    break;
+                default:
+                    throw new RDBMSTableException("Attribute '" + attributes.get(i).getName() + "' of type " +
+                            attributes.get(i).getType() + " cannot be encoded for bulk copy.");
+            }
+        }
+        builder.append(ROW_DELIMITER);
+    }
+
+    private static void appendEscaped(String value, StringBuilder builder) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+}
@@ -35,6 +35,16 @@ public class RDBMSTableConstants {
     public static final String PLACEHOLDER_INDEX = "{{INDEX_COLUMNS}}";
     public static final String PLACEHOLDER_Q = "{{Q}}";
     public static final String PLACEHOLDER_COLUMNS = "{{COLUMNS}}";
+    public static final String PLACEHOLDER_PRIMARY_KEYS = "{{PRIMARY_KEYS}}";
+    public static final String PLACEHOLDER_SOURCE_VALUES = "{{SOURCE_VALUES}}";
+    public static final String PLACEHOLDER_SOURCE_COLUMNS = "{{SOURCE_COLUMNS}}";
+    public static final String PLACEHOLDER_KEY_CONDITION = "{{KEY_CONDITION}}";
+    public static final String PLACEHOLDER_STAGING_TABLE_NAME = "{{STAGING_TABLE_NAME}}";
+    public static final String PLACEHOLDER_RETENTION_COLUMN = "{{RETENTION_COLUMN}}";
+    public static final String PLACEHOLDER_LIMIT = "{{LIMIT}}";
+    public static final String PLACEHOLDER_INDEX_NAME = "{{INDEX_NAME}}";
+    public static final String PLACEHOLDER_QUERY = "{{QUERY}}";
+    public static final String UPSERT_SOURCE_ALIAS = "SRC";
 
     //Miscellaneous SQL constants
     public static final String SQL_MATH_ADD = "+";
@@ -56,6 +66,7 @@ public class RDBMSTableConstants {
     public static final String SQL_NOT_NULL = "NOT NULL";
     public static final String SQL_PRIMARY_KEY_DEF = "PRIMARY KEY";
     public static final String SQL_WHERE = "WHERE";
+    public static final String SQL_AS = "AS";
     public static final String WHITESPACE = " ";
     public static final String SEPARATOR = ", ";
     public static final String EQUALS = "=";
@@ -73,6 +84,48 @@ public class RDBMSTableConstants {
     public static final String ANNOTATION_ELEMENT_JNDI_RESOURCE = "jndi.resource";
     public static final String ANNOTATION_DRIVER_CLASS_NAME = "jdbc.driver.name";
     public static final String ANNOTATION_ELEMENT_DATASOURCE = "datasource";
+    public static final String ANNOTATION_ELEMENT_WRITE_MODE = "write.mode";
+    public static final String ANNOTATION_ELEMENT_FLUSH_INTERVAL = "flush.interval";
+    public static final String ANNOTATION_ELEMENT_BUFFER_SIZE = "buffer.size";
+    public static final String ANNOTATION_ELEMENT_FLUSH_THREADS = "flush.threads";
+    public static final String ANNOTATION_ELEMENT_BUFFER_FULL_POLICY = "buffer.full.policy";
+    public static final String ANNOTATION_ELEMENT_BUFFER_FAILURE_POLICY = "buffer.failure.policy";
+    public static final String ANNOTATION_ELEMENT_BUFFER_RETRY_COUNT = "buffer.retry.count";
+    public static final String ANNOTATION_ELEMENT_CACHE = "cache";
+    public static final String ANNOTATION_ELEMENT_CACHE_SIZE = "cache.size";
+    public static final String ANNOTATION_ELEMENT_CACHE_TTL = "cache.ttl";
+    public static final String ANNOTATION_ELEMENT_LOOKUP_BATCHING = "lookup.batching";
+    public static final String ANNOTATION_ELEMENT_KEY_FILTER = "key.filter";
+    public static final String ANNOTATION_ELEMENT_KEY_FILTER_SIZE = "key.filter.size";
+    public static final String ANNOTATION_ELEMENT_WRITE_COALESCING = "write.coalescing";
+    public static final String ANNOTATION_ELEMENT_RETENTION_ATTRIBUTE = "retention.attribute";
+    public static final String ANNOTATION_ELEMENT_RETENTION_PERIOD = "retention.period";
+    public static final String ANNOTATION_ELEMENT_RETENTION_INTERVAL = "retention.interval";
+    public static final String ANNOTATION_ELEMENT_RETENTION_CHUNK_SIZE = "retention.chunk.size";
+    public static final String ANNOTATION_ELEMENT_RETENTION_PAUSE = "retention.pause";
+    public static final String ANNOTATION_ELEMENT_FETCH_SIZE = "fetch.size";
+    public static final String ANNOTATION_ELEMENT_CONNECTION_QUOTA = "connection.quota";
+    public static final String ANNOTATION_ELEMENT_INDEX_ADVISOR = "index.advisor";
+    public static final String ANNOTATION_ELEMENT_PLAN_INSPECTION = "plan.inspection";
+    public static final String ANNOTATION_ELEMENT_PLAN_INSPECTION_ROWS = "plan.inspection.rows";
+
+    //Annotation field values and defaults
+    public static final String WRITE_MODE_SYNC = "sync";
+    public static final String WRITE_MODE_ASYNC = "async";
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000;
+    public static final int DEFAULT_BUFFER_SIZE = 10000;
+    public static final int DEFAULT_FLUSH_THREADS = 1;
+    public static final int DEFAULT_BUFFER_RETRY_COUNT = 3;
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+    public static final long DEFAULT_CACHE_TTL = 30000;
+    public static final int DEFAULT_KEY_LIST_SIZE = 1000;
+    public static final int DEFAULT_KEY_FILTER_SIZE = 1000000;
+    public static final long DEFAULT_RETENTION_INTERVAL = 60000;
+    public static final int DEFAULT_RETENTION_CHUNK_SIZE = 1000;
+    public static final long DEFAULT_RETENTION_PAUSE = 100;
+    public static final long DEFAULT_PLAN_INSPECTION_ROWS = 10000;
+    public static final int MIN_ADAPTIVE_FETCH_SIZE = 10;
+    public static final int MAX_ADAPTIVE_FETCH_SIZE = 10000;
 
     //Configurable System Parameters
     public static final String PROPERTY_SEPARATOR = ".";
@@ -81,13 +134,20 @@ public class RDBMSTableConstants {
     public static final String TABLE_CHECK_QUERY = "tableCheckQuery";
     public static final String TABLE_CREATE_QUERY = "tableCreateQuery";
     public static final String INDEX_CREATE_QUERY = "indexCreateQuery";
+    public static final String ADVISED_INDEX_CREATE_QUERY = "advisedIndexCreateQuery";
+    public static final String EXPLAIN_QUERY = "explainQuery";
+    public static final String FULL_SCAN_PATTERN = "fullScanPattern";
+    public static final String COST_PATTERN = "costPattern";
     public static final String RECORD_INSERT_QUERY = "recordInsertQuery";
     public static final String RECORD_UPDATE_QUERY = "recordUpdateQuery";
     public static final String RECORD_SELECT_QUERY = "recordSelectQuery";
     public static final String RECORD_EXISTS_QUERY = "recordExistsQuery";
     public static final String RECORD_DELETE_QUERY = "recordDeleteQuery";
+    public static final String RECORD_UPSERT_QUERY = "recordUpsertQuery";
+    public static final String RECORD_PURGE_QUERY = "recordPurgeQuery";
     public static final String STRING_SIZE = "stringSize";
     public static final String TYPE_MAPPING = "typeMapping";
+    public static final String FUNCTION_MAPPING = "functionMapping";
     public static final String BINARY_TYPE = "binaryType";
     public static final String BOOLEAN_TYPE = "booleanType";
     public static final String DOUBLE_TYPE = "doubleType";
@@ -97,6 +157,24 @@ public class RDBMSTableConstants {
     public static final String STRING_TYPE = "stringType";
     public static final String BATCH_SIZE = "batchSize";
     public static final String BATCH_ENABLE = "batchEnable";
+    public static final String COMMIT_PER_BATCH = "commitPerBatch";
+    public static final String ROW_WISE_UPDATE_OR_INSERT = "rowWiseUpdateOrInsert";
+    public static final String MULTI_ROW_INSERT_ENABLE = "multiRowInsertEnable";
+    public static final String MAX_BIND_PARAMETERS = "maxBindParameters";
+    public static final String BULK_COPY_QUERY = "bulkCopyQuery";
+    public static final String BULK_COPY_THRESHOLD = "bulkCopyThreshold";
+    public static final String STAGING_TABLE_NAME = "stagingTableName";
+    public static final String STAGING_TABLE_CREATE_QUERY = "stagingTableCreateQuery";
+    public static final String STAGING_UPSERT_QUERY = "stagingUpsertQuery";
+    public static final String STAGING_SOURCE_ALIAS = "stagingSourceAlias";
+    public static final String STAGING_UPSERT_THRESHOLD = "stagingUpsertThreshold";
+    public static final String FETCH_SIZE = "fetchSize";
+    public static final String CURSOR_MODE = "cursorMode";
+    public static final String FETCH_MEMORY_BUDGET = "fetchMemoryBudget";
+    public static final String CURSOR_MODE_NONE = "none";
+    public static final String CURSOR_MODE_TRANSACTION = "transaction";
+    public static final String CURSOR_MODE_STREAMING = "streaming";
+    public static final String FETCH_SIZE_ADAPTIVE = "adaptive";
     public static final String TRANSACTION_SUPPORTED = "transactionSupported";
 
     private RDBMSTableConstants() {
@@ -42,8 +42,10 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -56,7 +58,13 @@ import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.MAX
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.MIN_VERSION;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_CONDITION;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.PROPERTY_SEPARATOR;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.QUESTION_MARK;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.RDBMS_QUERY_CONFIG_FILE;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SEPARATOR;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_AND;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_COMPARE_EQUAL;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_IN;
+import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_OR;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.SQL_WHERE;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.VERSION;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableConstants.WHITESPACE;
@@ -69,6 +77,7 @@ public class RDBMSTableUtils {
 
     private static RDBMSConfigurationMapper mapper;
     private static final Log log = LogFactory.getLog(RDBMSTableUtils.class);
+    private static final Pattern TIME_PATTERN = Pattern.compile("\\s*(\\d+)\\s*([a-zA-Z]*)\\s*");
 
     private RDBMSTableUtils() {
         //preventing initialization
@@ -159,41 +168,15 @@ public class RDBMSTableUtils {
      */
     public static void resolveCondition(PreparedStatement stmt, RDBMSCompiledCondition compiledCondition,
                                         Map<String, Object> conditionParameterMap, int seed) throws SQLException {
-        SortedMap<Integer, Object> parameters = compiledCondition.getParameters();
-        for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
-            Object parameter = entry.getValue();
-            if (parameter instanceof Constant) {
-                Constant constant = (Constant) parameter;
-                populateStatementWithSingleElement(stmt, seed + entry.getKey(), constant.getType(),
-                        constant.getValue());
-            } else {
-                Attribute variable = (Attribute) parameter;
-                populateStatementWithSingleElement(stmt, seed + entry.getKey(), variable.getType(),
-                        conditionParameterMap.get(variable.getName()));
-            }
-        }
+        compiledCondition.bindParameters(stmt, conditionParameterMap, seed);
     }
 
     public static int enumerateUpdateSetEntries(Map<String, CompiledExpression> updateSetExpressions,
                                                 PreparedStatement stmt, Map<String, Object> updateSetMap)
             throws SQLException {
-        Object parameter;
         int ordinal = 1;
-        for (Map.Entry<String, CompiledExpression> assignmentEntry : updateSetExpressions.entrySet()) {
-            for (Map.Entry<Integer, Object> parameterEntry :
-                    ((RDBMSCompiledCondition) assignmentEntry.getValue()).getParameters().entrySet()) {
-                parameter = parameterEntry.getValue();
-                if (parameter instanceof Constant) {
-                    Constant constant = (Constant) parameter;
-                    RDBMSTableUtils.populateStatementWithSingleElement(stmt, ordinal, constant.getType(),
-                            constant.getValue());
-                } else {
-                    Attribute variable = (Attribute) parameter;
-                    RDBMSTableUtils.populateStatementWithSingleElement(stmt, ordinal, variable.getType(),
-                            updateSetMap.get(variable.getName()));
-                }
-                ordinal++;
-            }
+        for (CompiledExpression expression : updateSetExpressions.values()) {
+            ordinal += ((RDBMSCompiledCondition) expression).bindParameters(stmt, updateSetMap, ordinal - 1);
         }
         return ordinal;
     }
@@ -205,34 +188,12 @@ public class RDBMSTableUtils {
      * @param ordinal the ordinal of the element in the statement (its place in a potential list of places).
      * @param type    the type of the element to be set, adheres to
      *                {@link org.wso2.siddhi.query.api.definition.Attribute.Type}.
-     * @param value   the value of the element.
+     * @param value   the value of the element, which is set as SQL NULL if null.
      * @throws SQLException if there are issues when the element is being set.
      */
     public static void populateStatementWithSingleElement(PreparedStatement stmt, int ordinal, Attribute.Type type,
                                                           Object value) throws SQLException {
-        switch (type) {
-            case BOOL:
-                stmt.setBoolean(ordinal, (Boolean) value);
-                break;
-            case DOUBLE:
-                stmt.setDouble(ordinal, (Double) value);
-                break;
-            case FLOAT:
-                stmt.setFloat(ordinal, (Float) value);
-                break;
-            case INT:
-                stmt.setInt(ordinal, (Integer) value);
-                break;
-            case LONG:
-                stmt.setLong(ordinal, (Long) value);
-                break;
-            case OBJECT:
-                stmt.setObject(ordinal, value);
-                break;
-            case STRING:
-                stmt.setString(ordinal, (String) value);
-                break;
-        }
+        RDBMSValueBinder.forType(type).bind(stmt, ordinal, value);
     }
 
     /**
@@ -309,6 +270,138 @@ public class RDBMSTableUtils {
         return keyValuePairs;
     }
 
+    /**
+     * Converts a time period given in an annotation (e.g. "50 ms", "30 sec", "7 days") into milliseconds. A value
+     * without a unit is considered to be in milliseconds.
+     *
+     * @param elementName the name of the annotation element, used when reporting errors.
+     * @param time        the time period in string form.
+     * @return the time period in milliseconds.
+     */
+    public static long parseTimeToMillis(String elementName, String time) {
+        Matcher matcher = TIME_PATTERN.matcher(time);
+        if (!matcher.matches()) {
+            throw new RDBMSTableException("Value '" + time + "' given for '" + elementName + "' is not a valid time " +
+                    "period. Please specify it in the form '<value> <unit>', e.g. '500 ms' or '30 sec'.");
+        }
+        long value = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2).toLowerCase(Locale.ENGLISH)) {
+            case "":
+            case "ms":
+            case "millisec":
+            case "millisecs":
+            case "millisecond":
+            case "milliseconds":
+                return value;
+            case "sec":
+            case "secs":
+            case "second":
+            case "seconds":
+                return TimeUnit.SECONDS.toMillis(value);
+            case "min":
+            case "mins":
+            case "minute":
+            case "minutes":
+                return TimeUnit.MINUTES.toMillis(value);
+            case "hour":
+            case "hours":
+                return TimeUnit.HOURS.toMillis(value);
+            case "day":
+            case "days":
+                return TimeUnit.DAYS.toMillis(value);
+            case "week":
+            case "weeks":
+                return TimeUnit.DAYS.toMillis(value * 7);
+            default:
+                throw new RDBMSTableException("Unit '" + matcher.group(2) + "' given for '" + elementName +
+                        "' is not a supported time unit.");
+        }
+    }
+
+    /**
+     * Reads a positive integer value given for an annotation element.
+     *
+     * @param elementName  the name of the annotation element, used when reporting errors.
+     * @param value        the value of the element (can be empty).
+     * @param defaultValue the value to be returned if the element has not been specified.
+     * @return the parsed value, or the default value.
+     */
+    public static int parsePositiveInteger(String elementName, String value, int defaultValue) {
+        if (isEmpty(value)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new RDBMSTableException("Value '" + value + "' given for '" + elementName + "' is not a valid " +
+                    "integer.", e);
+        }
+        if (result < 1) {
+            throw new RDBMSTableException("Value given for '" + elementName + "' should be greater than zero, but " +
+                    "found '" + value + "'.");
+        }
+        return result;
+    }
+
+    /**
+     * Returns the elements of a list at the given indexes.
+     *
+     * @param list    the list.
+     * @param indexes the indexes of the elements to be returned.
+     * @param <T>     the type of the elements.
+     * @return a new list of the selected elements, in the order of the indexes.
+     */
+    public static <T> List<T> select(List<T> list, int[] indexes) {
+        List<T> selected = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            selected.add(list.get(index));
+        }
+        return selected;
+    }
+
+    /**
+     * Method for composing a condition which matches any of a number of keys, where each key consists of values for
+     * the given columns. A single-column key is matched through "column IN (?, ?, ...)", and a multi-column key through
+     * "(column1 = ? AND column2 = ?) OR (...)". The parameters are ordered key by key, and column by column within a
+     * key.
+     *
+     * @param tableName the name of the table, used to qualify the columns.
+     * @param columns   the key columns.
+     * @param keyCount  the number of keys to be matched.
+     * @return the condition, without the SQL Where clause.
+     */
+    public static String composeKeyListCondition(String tableName, List<String> columns, int keyCount) {
+        StringBuilder condition = new StringBuilder("(");
+        if (columns.size() == 1) {
+            condition.append(tableName).append(".").append(columns.get(0)).append(WHITESPACE).append(SQL_IN)
+                    .append(WHITESPACE).append("(");
+            for (int i = 0; i < keyCount; i++) {
+                if (i > 0) {
+                    condition.append(SEPARATOR);
+                }
+                condition.append(QUESTION_MARK);
+            }
+            condition.append(")");
+        } else {
+            for (int i = 0; i < keyCount; i++) {
+                if (i > 0) {
+                    condition.append(WHITESPACE).append(SQL_OR).append(WHITESPACE);
+                }
+                condition.append("(");
+                for (int j = 0; j < columns.size(); j++) {
+                    if (j > 0) {
+                        condition.append(WHITESPACE).append(SQL_AND).append(WHITESPACE);
+                    }
+                    condition.append(tableName).append(".").append(columns.get(j)).append(WHITESPACE)
+                            .append(SQL_COMPARE_EQUAL).append(WHITESPACE).append(QUESTION_MARK);
+                }
+                condition.append(")");
+            }
+        }
+        return condition.append(")").toString();
+    }
+
     /**
      * Method for replacing the placeholder for conditions with the SQL Where clause and the actual condition.
      *
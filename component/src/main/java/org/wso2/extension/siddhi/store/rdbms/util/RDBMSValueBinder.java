@@ -0,0 +1,125 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.util;
+
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Type-specialized setters of {@link PreparedStatement} parameters, one per Siddhi attribute type. The binders are
+ * resolved once for the columns of a table or the parameters of a compiled condition, so that binding a value does not
+ * need to inspect its type. Null values are bound through {@link PreparedStatement#setNull(int, int)} with the SQL type
+ * corresponding to the attribute type.
+ */
+public enum RDBMSValueBinder {
+
+    BOOL(Types.BOOLEAN) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setBoolean(ordinal, (Boolean) value);
+        }
+    },
+    DOUBLE(Types.DOUBLE) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setDouble(ordinal, (Double) value);
+        }
+    },
+    FLOAT(Types.REAL) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setFloat(ordinal, (Float) value);
+        }
+    },
+    INT(Types.INTEGER) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setInt(ordinal, (Integer) value);
+        }
+    },
+    LONG(Types.BIGINT) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setLong(ordinal, (Long) value);
+        }
+    },
+    OBJECT(Types.VARBINARY) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setObject(ordinal, value);
+        }
+    },
+    STRING(Types.VARCHAR) {
+        @Override
+        protected void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+            stmt.setString(ordinal, (String) value);
+        }
+    };
+
+    private final int sqlType;
+
+    RDBMSValueBinder(int sqlType) {
+        this.sqlType = sqlType;
+    }
+
+    /**
+     * Returns the binder for values of the given attribute type.
+     *
+     * @param type the attribute type.
+     * @return the binder.
+     */
+    public static RDBMSValueBinder forType(Attribute.Type type) {
+        switch (type) {
+            case BOOL:
+                return BOOL;
+            case DOUBLE:
+                return DOUBLE;
+            case FLOAT:
+                return FLOAT;
+            case INT:
+                return INT;
+            case LONG:
+                return LONG;
+            case STRING:
+                return STRING;
+            default:
+                return OBJECT;
+        }
+    }
+
+    /**
+     * Sets the given value as a parameter of the statement.
+     *
+     * @param stmt    the statement to which the value should be set.
+     * @param ordinal the ordinal of the parameter.
+     * @param value   the value, which may be null.
+     * @throws SQLException if the value cannot be set.
+     */
+    public void bind(PreparedStatement stmt, int ordinal, Object value) throws SQLException {
+        if (value == null) {
+            stmt.setNull(ordinal, this.sqlType);
+        } else {
+            this.bindValue(stmt, ordinal, value);
+        }
+    }
+
+    protected abstract void bindValue(PreparedStatement stmt, int ordinal, Object value) throws SQLException;
+}
@@ -0,0 +1,137 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.util;
+
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Type-specialized getters of {@link ResultSet} columns, one per Siddhi attribute type, which are the counterparts of
+ * {@link RDBMSValueBinder}. SQL NULL values of primitive columns are returned as null rather than as the default value
+ * of the primitive type.
+ */
+public enum RDBMSValueReader {
+
+    BOOL {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            boolean value = rs.getBoolean(ordinal);
+            return rs.wasNull() ? null : value;
+        }
+    },
+    DOUBLE {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            double value = rs.getDouble(ordinal);
+            return rs.wasNull() ? null : value;
+        }
+    },
+    FLOAT {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            float value = rs.getFloat(ordinal);
+            return rs.wasNull() ? null : value;
+        }
+    },
+    INT {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            int value = rs.getInt(ordinal);
+            return rs.wasNull() ? null : value;
+        }
+    },
+    LONG {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            long value = rs.getLong(ordinal);
+            return rs.wasNull() ? null : value;
+        }
+    },
+    OBJECT {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            return rs.getObject(ordinal);
+        }
+    },
+    STRING {
+        @Override
+        public Object read(ResultSet rs, int ordinal) throws SQLException {
+            return rs.getString(ordinal);
+        }
+    };
+
+    /**
+     * Returns the reader for values of the given attribute type.
+     *
+     * @param type the attribute type.
+     * @return the reader.
+     */
+    public static RDBMSValueReader forType(Attribute.Type type) {
+        switch (type) {
+            case BOOL:
+                return BOOL;
+            case DOUBLE:
+                return DOUBLE;
+            case FLOAT:
+                return FLOAT;
+            case INT:
+                return INT;
+            case LONG:
+                return LONG;
+            case STRING:
+                return STRING;
+            default:
+                return OBJECT;
+        }
+    }
+
+    /**
+     * Returns the reader for values of the attribute type of which the given value is.
+     *
+     * @param value the value, which must not be null.
+     * @return the reader.
+     */
+    public static RDBMSValueReader forValue(Object value) {
+        if (value instanceof Boolean) {
+            return BOOL;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Integer) {
+            return INT;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof String) {
+            return STRING;
+        }
+        return OBJECT;
+    }
+
+    /**
+     * Reads the value of a column of the current row of the result set.
+     *
+     * @param rs      the result set.
+     * @param ordinal the ordinal of the column.
+     * @return the value, or null if it is SQL NULL.
+     * @throws SQLException if the value cannot be read.
+     */
+    public abstract Object read(ResultSet rs, int ordinal) throws SQLException;
+}
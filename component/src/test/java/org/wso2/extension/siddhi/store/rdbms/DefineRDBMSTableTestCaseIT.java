@@ -30,7 +30,15 @@ import org.wso2.siddhi.core.SiddhiAppRuntime;
 import org.wso2.siddhi.core.SiddhiManager;
 import org.wso2.siddhi.core.stream.input.InputHandler;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import javax.naming.NamingException;
 
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
@@ -882,4 +890,100 @@ public class DefineRDBMSTableTestCaseIT {
         Assert.assertEquals(totalRowsInTable, 3, "Definition/Insertion failed");
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(testName = "rdbmstabledefinitiontest24", description = "Testing connection pool sharing.")
+    public void rdbmstabledefinitiontest24() throws InterruptedException, SQLException {
+        //Testing that tables with the same connection parameters share a pool, which is closed after the last one
+        log.info("rdbmstabledefinitiontest24");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        try {
+            RDBMSTableTestUtils.initDatabaseTable("StockTable2");
+        } catch (SQLException e) {
+            log.info("Test case ignored due to " + e.getMessage());
+        }
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\", " +
+                "connection.quota=\"2\")\n" +
+                "define table StockTable (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\", " +
+                "connection.quota=\"1\")\n" +
+                "define table StockTable2 (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;" +
+                "@info(name = 'query2') " +
+                "from StockStream   " +
+                "insert into StockTable2 ;";
+
+        int dataSourceCount = RDBMSDataSourceRegistry.getDataSourceCount();
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+        Assert.assertEquals(RDBMSDataSourceRegistry.getDataSourceCount(), dataSourceCount + 1,
+                "Connection pool not shared");
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 100L});
+        stockStream.send(new Object[]{"MSFT", 57.6F, 100L});
+        Thread.sleep(1000);
+
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 3, "Definition/Insertion failed");
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable("StockTable2"), 3, "Definition/Insertion failed");
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(RDBMSDataSourceRegistry.getDataSourceCount(), dataSourceCount,
+                "Connection pool not closed");
+    }
+
+    @Test(testName = "rdbmstabledefinitiontest25", description = "Testing index advisor.")
+    public void rdbmstabledefinitiontest25() throws InterruptedException, SQLException {
+        //Testing that the index advised for the conditions on the table is created when opted in
+        log.info("rdbmstabledefinitiontest25");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\", " +
+                "index.advisor=\"create\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;" +
+                "@info(name = 'query2') " +
+                "from CheckStockStream join StockTable " +
+                "on StockTable.volume > CheckStockStream.volume and StockTable.symbol == CheckStockStream.symbol " +
+                "select StockTable.symbol, StockTable.price " +
+                "insert into OutputStream ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.start();
+
+        List<List<String>> indexes = new ArrayList<>();
+        try (Connection conn = RDBMSTableTestUtils.getTestDataSource().getConnection()) {
+            DatabaseMetaData metaData = conn.getMetaData();
+            try (ResultSet rs = metaData.getIndexInfo(conn.getCatalog(), null,
+                    TABLE_NAME.toUpperCase(Locale.ENGLISH), false, true)) {
+                Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+                while (rs.next()) {
+                    if (rs.getString("INDEX_NAME") != null && rs.getString("COLUMN_NAME") != null) {
+                        indexColumns.computeIfAbsent(rs.getString("INDEX_NAME"), index -> new ArrayList<>())
+                                .add(rs.getString("COLUMN_NAME").toUpperCase(Locale.ENGLISH));
+                    }
+                }
+                indexes.addAll(indexColumns.values());
+            }
+        }
+        List<String> advisedIndex = new ArrayList<>();
+        advisedIndex.add("SYMBOL");
+        advisedIndex.add("VOLUME");
+        Assert.assertTrue(indexes.contains(advisedIndex), "Advised index not created: " + indexes);
+        siddhiAppRuntime.shutdown();
+    }
 }
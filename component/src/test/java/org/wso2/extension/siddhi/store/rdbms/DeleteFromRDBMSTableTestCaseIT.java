@@ -27,6 +27,7 @@ import org.testng.annotations.Test;
 import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils;
 import org.wso2.siddhi.core.SiddhiAppRuntime;
 import org.wso2.siddhi.core.SiddhiManager;
+import org.wso2.siddhi.core.event.Event;
 import org.wso2.siddhi.core.stream.input.InputHandler;
 
 import java.sql.SQLException;
@@ -366,4 +367,82 @@ public class DeleteFromRDBMSTableTestCaseIT {
         AssertJUnit.assertEquals("Deletion failed", 2, totalRowsInTable);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = "deleteFromRDBMSTableTest8")
+    public void deleteFromRDBMSTableTest9() throws InterruptedException, SQLException {
+        //Testing a batch of deletes on a composite key, which are performed through key-list deletes
+        log.info("deleteFromRDBMSTableTest9");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream DeleteStockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\"," +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from DeleteStockStream " +
+                "delete StockTable " +
+                "   on StockTable.symbol == symbol and StockTable.volume == volume ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler deleteStockStream = siddhiAppRuntime.getInputHandler("DeleteStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 75.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L})
+        });
+        deleteStockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 57.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 57.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 57.6F, 200L})
+        });
+        Thread.sleep(1000);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Deletion failed", 2, totalRowsInTable);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "deleteFromRDBMSTableTest9")
+    public void deleteFromRDBMSTableTest10() throws InterruptedException, SQLException {
+        //Testing the purging of expired records in chunks of a single record
+        log.info("deleteFromRDBMSTableTest10");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, timestamp long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\"," +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\", " +
+                "retention.attribute=\"timestamp\", retention.period=\"1 hour\", retention.interval=\"100 ms\", " +
+                "retention.chunk.size=\"1\", retention.pause=\"10 ms\")\n" +
+                "@Index(\"timestamp\")" +
+                "define table StockTable (symbol string, price float, timestamp long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        long now = System.currentTimeMillis();
+        stockStream.send(new Object[]{"WSO2", 55.6F, now - 7200000L});
+        stockStream.send(new Object[]{"IBM", 75.6F, now});
+        stockStream.send(new Object[]{"WSO2", 57.6F, now - 3700000L});
+        Thread.sleep(1000);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Purging failed", 1, totalRowsInTable);
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -23,12 +23,18 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSBatchExecutionException;
 import org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils;
 import org.wso2.siddhi.core.SiddhiAppRuntime;
 import org.wso2.siddhi.core.SiddhiManager;
+import org.wso2.siddhi.core.event.Event;
 import org.wso2.siddhi.core.stream.input.InputHandler;
+import org.wso2.siddhi.core.util.config.ConfigManager;
+import org.wso2.siddhi.core.util.config.InMemoryConfigManager;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -166,4 +172,237 @@ public class InsertIntoRDBMSTableTestCaseIT {
         Assert.assertEquals(totalRowsInTable, 4, "Definition/Insertion failed");
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void insertIntoRDBMSTableTest4() throws InterruptedException, SQLException {
+        //Testing inserts through the asynchronous write-behind buffer
+        log.info("insertIntoRDBMSTableTest4");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", write.mode=\"async\", flush.interval=\"50 ms\", " +
+                "buffer.size=\"2\", buffer.full.policy=\"block\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 100L});
+        stockStream.send(new Object[]{"MSFT", 57.6F, 100L});
+        Thread.sleep(1000);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 3, "Asynchronous insertion failed");
+
+        stockStream.send(new Object[]{"ORCL", 60.1F, 100L});
+        siddhiAppRuntime.shutdown();
+        totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 4, "Buffered records were not flushed on shutdown");
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest5() throws InterruptedException, SQLException {
+        //Testing a batch of inserts spanning multiple multi-row insert statement shapes
+        log.info("insertIntoRDBMSTableTest5");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        Event[] events = new Event[83];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Event(System.currentTimeMillis(), new Object[]{"SYM" + i, 50.5F + i, (long) i});
+        }
+        stockStream.send(events);
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 83, "Multi-row insertion failed");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest6() throws InterruptedException, SQLException {
+        //Testing a batch of inserts above the default bulk copy threshold of PostgreSQL, including values which would
+        //need escaping if bulk copied. Databases without a bulk copy query, e.g. H2, insert them through batched
+        //statements, and the bulk copy itself is covered by RDBMSBulkCopierTestCaseIT.
+        log.info("insertIntoRDBMSTableTest6");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        Event[] events = new Event[2500];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Event(System.currentTimeMillis(), new Object[]{"SYM\t" + i + "\\", 50.5F + i,
+                    (long) i});
+        }
+        stockStream.send(events);
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 2500, "Bulk insertion failed");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest7() throws InterruptedException, SQLException {
+        //Testing the insertion of null values for attributes of non-string types
+        log.info("insertIntoRDBMSTableTest7");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", null, 100L});
+        stockStream.send(new Object[]{"IBM", 57.6F, null});
+        stockStream.send(new Object[]{"MSFT", null, null});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 3, "Insertion of null values failed");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest8() throws InterruptedException, SQLException {
+        //Testing the insertion of a batch of events larger than the batch size, committed per chunk of two records
+        log.info("insertIntoRDBMSTableTest8");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(chunkedCommitConfigManager());
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 75.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"MSFT", 20.6F, 300L}),
+                new Event(System.currentTimeMillis(), new Object[]{"ORCL", 30.6F, 400L})
+        });
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 5, "Insertion of the batch failed");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest9() throws InterruptedException, SQLException {
+        //Testing that the chunks of a failing batch which were committed before the failure are kept and reported
+        log.info("insertIntoRDBMSTableTest9");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(chunkedCommitConfigManager());
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:5\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        try {
+            stockStream.send(new Event[]{
+                    new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"IBM", 75.6F, 100L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"TOO-LONG", 20.6F, 300L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"ORCL", 30.6F, 400L})
+            });
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof RDBMSBatchExecutionException)) {
+                cause = cause.getCause();
+            }
+            Assert.assertNotNull(cause, "Failure of the batch was not reported as a partial commit");
+            Assert.assertEquals(((RDBMSBatchExecutionException) cause).getCommittedRecordCount(), 2,
+                    "Number of committed records");
+        }
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 2, "Committed chunks of the failing batch were not kept");
+        siddhiAppRuntime.shutdown();
+    }
+
+    private static ConfigManager chunkedCommitConfigManager() {
+        Map<String, String> configs = new HashMap<>();
+        for (String database : new String[]{"h2", "mysql", "Microsoft SQL Server", "PostgreSQL"}) {
+            configs.put("store.rdbms." + database + ".batchSize", "2");
+            configs.put("store.rdbms." + database + ".commitPerBatch", "true");
+        }
+        return new InMemoryConfigManager(configs, new HashMap<>());
+    }
 }
@@ -0,0 +1,131 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms;
+
+import org.apache.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSBatchExecutionException;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RDBMSWriteBehindBufferTestCaseIT {
+    private static final Logger log = Logger.getLogger(RDBMSWriteBehindBufferTestCaseIT.class);
+
+    @BeforeClass
+    public static void startTest() {
+        log.info("== RDBMS write-behind buffer tests started ==");
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        log.info("== RDBMS write-behind buffer tests completed ==");
+    }
+
+    @Test
+    public void writeBehindBufferTest1() throws InterruptedException {
+        //Testing that the records of failed flushes are retried without losing or duplicating any of them
+        log.info("writeBehindBufferTest1");
+        List<Object> written = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger attempts = new AtomicInteger();
+        RDBMSWriteBehindBuffer buffer = new RDBMSWriteBehindBuffer("StockTable", 100, 3, 10, 1,
+                RDBMSWriteBehindBuffer.BufferFullPolicy.BLOCK, RDBMSWriteBehindBuffer.WriteFailurePolicy.RETRY, 3,
+                batch -> {
+                    switch (attempts.incrementAndGet()) {
+                        case 1:
+                            // Committing the first record of the batch before failing.
+                            written.add(batch.get(0)[0]);
+                            throw new RDBMSBatchExecutionException("Connection lost", null, 1);
+                        case 2:
+                            throw new RDBMSTableException("Connection refused");
+                        default:
+                            batch.forEach(record -> written.add(record[0]));
+                    }
+                });
+        buffer.start();
+        List<Object[]> records = new ArrayList<>();
+        for (String symbol : new String[]{"WSO2", "IBM", "GOOG", "MSFT", "ORCL"}) {
+            records.add(new Object[]{symbol, 55.6F, 100L});
+        }
+        buffer.offer(records);
+        for (int i = 0; i < 100 && written.size() < records.size(); i++) {
+            Thread.sleep(20);
+        }
+        buffer.shutdown();
+
+        Assert.assertTrue(attempts.get() > 2, "Failed flushes were not retried");
+        Assert.assertEquals(written.toArray(), new Object[]{"WSO2", "IBM", "GOOG", "MSFT", "ORCL"},
+                "Records of the failed flushes were lost or duplicated");
+        Assert.assertEquals(buffer.getDroppedRecordCount(), 0, "Number of dropped records");
+    }
+
+    @Test
+    public void writeBehindBufferTest2() {
+        //Testing that records are only dropped under the drop policy, once the retries are exhausted
+        log.info("writeBehindBufferTest2");
+        AtomicInteger attempts = new AtomicInteger();
+        RDBMSWriteBehindBuffer buffer = new RDBMSWriteBehindBuffer("StockTable", 100, 10, 10, 1,
+                RDBMSWriteBehindBuffer.BufferFullPolicy.BLOCK, RDBMSWriteBehindBuffer.WriteFailurePolicy.DROP, 2,
+                batch -> {
+                    attempts.incrementAndGet();
+                    throw new RDBMSTableException("Connection refused");
+                });
+        buffer.start();
+        buffer.offer(Collections.singletonList(new Object[]{"WSO2", 55.6F, 100L}));
+        buffer.offer(Collections.singletonList(new Object[]{"IBM", 75.6F, 100L}));
+        buffer.shutdown();
+
+        Assert.assertEquals(buffer.getDroppedRecordCount(), 2, "Number of dropped records");
+        Assert.assertEquals(buffer.getBufferedRecordCount(), 0, "Number of buffered records");
+        Assert.assertTrue(attempts.get() >= 3, "Records were dropped before the retries were exhausted");
+    }
+
+    @Test
+    public void writeBehindBufferTest3() throws InterruptedException {
+        //Testing that records offered concurrently with the shutdown of the buffer are all written
+        log.info("writeBehindBufferTest3");
+        AtomicInteger written = new AtomicInteger();
+        RDBMSWriteBehindBuffer buffer = new RDBMSWriteBehindBuffer("StockTable", 100, 10, 1000, 1,
+                RDBMSWriteBehindBuffer.BufferFullPolicy.BLOCK, RDBMSWriteBehindBuffer.WriteFailurePolicy.RETRY, 3,
+                batch -> written.addAndGet(batch.size()));
+        buffer.start();
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    buffer.offer(Collections.singletonList(new Object[]{"WSO2", 55.6F, (long) j}));
+                }
+            });
+            producers[i].start();
+        }
+        Thread.sleep(5);
+        buffer.shutdown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        Assert.assertEquals(written.get(), 2000, "Records offered during the shutdown were lost");
+        Assert.assertEquals(buffer.getBufferedRecordCount(), 0, "Number of buffered records");
+    }
+}
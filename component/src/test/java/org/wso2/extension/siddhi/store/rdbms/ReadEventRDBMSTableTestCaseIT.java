@@ -32,7 +32,10 @@ import org.wso2.siddhi.core.stream.input.InputHandler;
 import org.wso2.siddhi.core.util.EventPrinter;
 import org.wso2.siddhi.query.compiler.exception.SiddhiParserException;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -434,4 +437,640 @@ public class ReadEventRDBMSTableTestCaseIT {
         Assert.assertEquals(eventArrived, true, "Event arrived");
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase5")
+    public void readEventRDBMSTableTestCase7() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through the lookup cache, which is invalidated by table modifications.
+        log.info("readEventRDBMSTableTestCase7");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (name string, type string, volume long);\n" +
+                "define stream UpdateStream (name string, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"name:100\", cache=\"true\", cache.size=\"100\", cache.ttl=\"1 min\")\n" +
+                "@PrimaryKey(\"name\")\n" +
+                "define table StockTable (name string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on FooStream.name == StockTable.name\n" +
+                "select StockTable.name as checkName, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n" +
+                "@info(name = 'query3')\n" +
+                "from UpdateStream\n" +
+                "update StockTable set StockTable.volume = volume on StockTable.name == name;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        InputHandler updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                            case 2:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", 100L});
+                                break;
+                            case 3:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", 300L});
+                                break;
+                            default:
+                                Assert.assertSame(inEventCount, 3);
+                        }
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        fooStream.send(new Object[]{"WSO2"});
+        stockStream.send(new Object[]{"WSO2", "type1", 100L});
+        fooStream.send(new Object[]{"WSO2"});
+        fooStream.send(new Object[]{"WSO2"});
+        updateStream.send(new Object[]{"WSO2", 300L});
+        fooStream.send(new Object[]{"WSO2"});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 3, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase7")
+    public void readEventRDBMSTableTestCase8() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table with concurrent lookups being batched.
+        log.info("readEventRDBMSTableTestCase8");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (id long, type int);\n" +
+                "define stream StockStream (name string, id long, type int, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"name:100\", lookup.batching=\"true\")\n" +
+                "define table StockTable (name string, id long, type int, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable " +
+                "on FooStream.id == StockTable.id and FooStream.type == StockTable.type\n" +
+                "select StockTable.name as checkName, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        AtomicLong volumeSum = new AtomicLong();
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        synchronized (ReadEventRDBMSTableTestCaseIT.this) {
+                            inEventCount++;
+                        }
+                        volumeSum.addAndGet((Long) event.getData(1));
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 1L, 1, 100L});
+        stockStream.send(new Object[]{"WSO2", 1L, 2, 10L});
+        stockStream.send(new Object[]{"IBM", 2L, 1, 1L});
+        Thread[] senders = new Thread[4];
+        for (int i = 0; i < senders.length; i++) {
+            senders[i] = new Thread(() -> {
+                try {
+                    fooStream.send(new Object[]{1L, 1});
+                    fooStream.send(new Object[]{1L, 2});
+                    fooStream.send(new Object[]{2L, 1});
+                    fooStream.send(new Object[]{2L, 2});
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            senders[i].start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 12, "Number of success events");
+        Assert.assertEquals(volumeSum.get(), 444L, "Sum of volumes");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase8")
+    public void readEventRDBMSTableTestCase9() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table with a result set spanning several fetches.
+        log.info("readEventRDBMSTableTestCase9");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (volume long);\n" +
+                "define stream StockStream (name string, type string, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"name:100\", fetch.size=\"2\")\n" +
+                "define table StockTable (name string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on StockTable.volume > FooStream.volume\n" +
+                "select StockTable.name as checkName, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    inEventCount = inEventCount + inEvents.length;
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        for (long i = 1; i <= 7; i++) {
+            stockStream.send(new Object[]{"WSO2", "type" + i, i * 10});
+        }
+        fooStream.send(new Object[]{15L});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 6, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void readEventRDBMSTableTestCase10() throws InterruptedException, SQLException {
+        //Read events from an existing RDBMS table whose columns are not in the order of the table definition.
+        log.info("readEventRDBMSTableTestCase10");
+        try (Connection conn = RDBMSTableTestUtils.getTestDataSource().getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE " + TABLE_NAME + " (volume BIGINT, type VARCHAR(254), name VARCHAR(100))");
+        }
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (volume long);\n" +
+                "define stream StockStream (name string, type string, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"name:100\")\n" +
+                "define table StockTable (name string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on StockTable.volume > FooStream.volume\n" +
+                "select StockTable.name as checkName, StockTable.type as checkType, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type2", 20L});
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"IBM", "type1", 10L});
+        stockStream.send(new Object[]{"WSO2", "type2", 20L});
+        fooStream.send(new Object[]{15L});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 1, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void readEventRDBMSTableTestCase11() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through a condition with namespaced functions, which run in the database.
+        log.info("readEventRDBMSTableTestCase11");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (pattern string, volume long);\n" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\")\n" +
+                "define table StockTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on str:contains(str:lower(StockTable.symbol), FooStream.pattern) " +
+                "and math:abs(StockTable.volume) > FooStream.volume\n" +
+                "select StockTable.symbol as checkSymbol, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        Assert.assertEquals(event.getData(), new Object[]{"WSO2-ESB", -200L});
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2-IS", 55.6F, 50L});
+        stockStream.send(new Object[]{"WSO2-ESB", 57.6F, -200L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 300L});
+        fooStream.send(new Object[]{"wso2", 100L});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 1, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase11")
+    public void readEventRDBMSTableTestCase12() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table with plan inspection, which rejects the lookups scanning the whole table.
+        log.info("readEventRDBMSTableTestCase12");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (symbol string);\n" +
+                "define stream BarStream (volume long);\n" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", plan.inspection=\"reject\", index.advisor=\"off\")\n" +
+                "@PrimaryKey(\"symbol\")\n" +
+                "define table StockTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on StockTable.symbol == FooStream.symbol\n" +
+                "select StockTable.symbol as checkSymbol, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n" +
+                "@info(name = 'query3')\n" +
+                "from BarStream join StockTable on StockTable.volume > BarStream.volume\n" +
+                "select StockTable.symbol as checkSymbol, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        InputHandler barStream = siddhiAppRuntime.getInputHandler("BarStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        Assert.assertEquals(event.getData(), new Object[]{"WSO2", 100L});
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        siddhiAppRuntime.addCallback("query3", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    removeEventCount = removeEventCount + inEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 300L});
+        fooStream.send(new Object[]{"WSO2"});
+        barStream.send(new Object[]{50L});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 1, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of events of rejected lookups");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase12")
+    public void readEventRDBMSTableTestCase13() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through comparisons of math expressions of columns, which are rewritten.
+        log.info("readEventRDBMSTableTestCase13");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (price float, volume long);\n" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\")\n" +
+                "define table StockTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on StockTable.volume - 100 > FooStream.volume " +
+                "and StockTable.price * 2.0 < FooStream.price and 1000 - StockTable.volume > FooStream.volume " +
+                "and StockTable.price * 2 > FooStream.volume - 51\n" +
+                "select StockTable.symbol as checkSymbol, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        Assert.assertEquals(event.getData(), new Object[]{"GOOG", 500L});
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 300L});
+        stockStream.send(new Object[]{"GOOG", 50.0F, 500L});
+        stockStream.send(new Object[]{"MSFT", 20.0F, 900L});
+        //Only excluded if the integer factor is promoted, i.e. if 99 / 2 is not truncated to 49.
+        stockStream.send(new Object[]{"ORCL", 49.2F, 400L});
+        fooStream.send(new Object[]{120.0F, 150L});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 1, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase13")
+    public void readEventRDBMSTableTestCase14() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through the lookup cache, with results larger than the cache being streamed.
+        log.info("readEventRDBMSTableTestCase14");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (volume long);\n" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", cache=\"true\", cache.size=\"2\", cache.ttl=\"1 min\")\n" +
+                "define table StockTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on StockTable.volume > FooStream.volume\n" +
+                "select StockTable.symbol as checkSymbol, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    inEventCount = inEventCount + inEvents.length;
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 200L});
+        stockStream.send(new Object[]{"GOOG", 50.0F, 300L});
+        fooStream.send(new Object[]{50L});
+        fooStream.send(new Object[]{50L});
+        fooStream.send(new Object[]{250L});
+        fooStream.send(new Object[]{250L});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 8, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase14")
+    public void readEventRDBMSTableTestCase15() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through concurrent lookups of mixed-case string keys, with lookup batching
+        //enabled, which need to match the same rows as the database does.
+        log.info("readEventRDBMSTableTestCase15");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (name string, volume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"name:100\", lookup.batching=\"true\")\n" +
+                "define table StockTable (name string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on FooStream.name == StockTable.name\n" +
+                "select FooStream.name as lookupName, StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    synchronized (ReadEventRDBMSTableTestCaseIT.this) {
+                        inEventCount = inEventCount + inEvents.length;
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 100L});
+        // The number of rows which the database itself matches for each key, depending on its collation.
+        long expectedCount = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME, "name", "WSO2") +
+                RDBMSTableTestUtils.getRowsInTable(TABLE_NAME, "name", "wso2");
+        Thread[] senders = new Thread[4];
+        for (int i = 0; i < senders.length; i++) {
+            senders[i] = new Thread(() -> {
+                try {
+                    fooStream.send(new Object[]{"WSO2"});
+                    fooStream.send(new Object[]{"wso2"});
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            senders[i].start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, senders.length * expectedCount, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase15")
+    public void readEventRDBMSTableTestCase16() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through comparisons of math expressions of floating point columns, which are
+        //only rewritten if the inverse operation does not round at the boundary of the comparison.
+        log.info("readEventRDBMSTableTestCase16");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (price double);\n" +
+                "define stream StockStream (symbol string, price double);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\")\n" +
+                "define table StockTable (symbol string, price double);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on StockTable.price * 3 == FooStream.price " +
+                "and StockTable.price + 0.2 == FooStream.price and StockTable.price * 4 > FooStream.price\n" +
+                "select StockTable.symbol as checkSymbol, StockTable.price as checkPrice\n" +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        Assert.assertEquals(event.getData(), new Object[]{"WSO2", 0.1});
+                    }
+                    eventArrived = true;
+                }
+                if (removeEvents != null) {
+                    removeEventCount = removeEventCount + removeEvents.length;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 0.1});
+        stockStream.send(new Object[]{"IBM", 0.5});
+        //0.1 * 3 and 0.1 + 0.2 both round to 0.30000000000000004, whereas 0.30000000000000004 / 3 and
+        //0.30000000000000004 - 0.2 do not round back to 0.1.
+        fooStream.send(new Object[]{0.30000000000000004});
+        Thread.sleep(500);
+
+        Assert.assertEquals(inEventCount, 1, "Number of success events");
+        Assert.assertEquals(removeEventCount, 0, "Number of remove events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -31,9 +31,13 @@ import org.wso2.siddhi.core.event.Event;
 import org.wso2.siddhi.core.query.output.callback.QueryCallback;
 import org.wso2.siddhi.core.stream.input.InputHandler;
 import org.wso2.siddhi.core.util.EventPrinter;
+import org.wso2.siddhi.core.util.config.ConfigManager;
+import org.wso2.siddhi.core.util.config.InMemoryConfigManager;
 import org.wso2.siddhi.query.api.exception.DuplicateDefinitionException;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
 import static org.wso2.extension.siddhi.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -848,4 +852,496 @@ public class UpdateOrInsertRDBMSTableTestCaseIT {
         AssertJUnit.assertEquals("Update failed", 4, totalRowsInTable);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = "updateOrInsertTableTest12")
+    public void updateOrInsertTableTest13() throws InterruptedException, SQLException {
+        //Testing update or insert on primary key equality, performed through the single-statement upsert query
+        log.info("updateOrInsertTableTest13");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "update or insert into StockTable " +
+                "   on StockTable.symbol==symbol ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from CheckStockStream join StockTable " +
+                "   on CheckStockStream.symbol==StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 58.6F, 300L}, event.getData());
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 75.6F, 100L})
+        });
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 58.6F, 300L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L})
+        });
+        checkStockStream.send(new Object[]{"WSO2"});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Update or insert failed", 3, totalRowsInTable);
+        AssertJUnit.assertEquals("Number of success events", 1, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "updateOrInsertTableTest13")
+    public void updateOrInsertTableTest14() throws InterruptedException, SQLException {
+        //Testing a batch of updates or inserts on a table without primary keys, which is performed on one connection
+        log.info("updateOrInsertTableTest14");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "update or insert into StockTable " +
+                "   set StockTable.price = price, StockTable.volume = StockTable.volume + volume " +
+                "   on StockTable.symbol==symbol ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from CheckStockStream join StockTable " +
+                "   on CheckStockStream.symbol==StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 57.6F, 300L}, event.getData());
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 75.6F, 100L})
+        });
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"ORCL", 20.6F, 100L})
+        });
+        checkStockStream.send(new Object[]{"WSO2"});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Update or insert failed", 4, totalRowsInTable);
+        AssertJUnit.assertEquals("Number of success events", 1, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void updateOrInsertTableTest15() throws InterruptedException, SQLException {
+        //Testing updates or inserts routed through the key filter, including a new key repeated within a batch
+        log.info("updateOrInsertTableTest15");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", key.filter=\"true\", key.filter.size=\"1000\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "update or insert into StockTable " +
+                "   set StockTable.price = price, StockTable.volume = StockTable.volume + volume " +
+                "   on StockTable.symbol==symbol ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from CheckStockStream join StockTable " +
+                "   on CheckStockStream.symbol==StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 57.6F, 300L}, event.getData());
+                                break;
+                            case 2:
+                                AssertJUnit.assertArrayEquals(new Object[]{"GOOG", 12.6F, 150L}, event.getData());
+                                break;
+                            default:
+                                AssertJUnit.assertSame(2, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 75.6F, 100L})
+        });
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 12.6F, 50L})
+        });
+        checkStockStream.send(new Object[]{"WSO2"});
+        checkStockStream.send(new Object[]{"GOOG"});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Update or insert failed", 3, totalRowsInTable);
+        AssertJUnit.assertEquals("Number of success events", 2, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void updateOrInsertTableTest16() throws InterruptedException, SQLException {
+        //Testing the coalescing of updates or inserts of the same keys within a batch
+        log.info("updateOrInsertTableTest16");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", write.coalescing=\"true\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "update or insert into StockTable " +
+                "   set StockTable.price = price, StockTable.volume = volume " +
+                "   on StockTable.symbol==symbol ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from CheckStockStream join StockTable " +
+                "   on CheckStockStream.symbol==StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 58.6F, 300L}, event.getData());
+                                break;
+                            case 2:
+                                AssertJUnit.assertArrayEquals(new Object[]{"GOOG", 12.6F, 50L}, event.getData());
+                                break;
+                            default:
+                                AssertJUnit.assertSame(2, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 12.6F, 50L}),
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 58.6F, 300L})
+        });
+        checkStockStream.send(new Object[]{"WSO2"});
+        checkStockStream.send(new Object[]{"GOOG"});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Update or insert failed", 2, totalRowsInTable);
+        AssertJUnit.assertEquals("Number of success events", 2, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void updateOrInsertTableTest17() throws InterruptedException, SQLException {
+        //Testing updates or inserts applied through the staging table, committed per chunk of two records
+        log.info("updateOrInsertTableTest17");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(stagedUpsertConfigManager(true));
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream UpdateStockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from UpdateStockStream " +
+                "update or insert into StockTable " +
+                "   set StockTable.price = price, StockTable.volume = volume " +
+                "   on StockTable.symbol==symbol ;" +
+                "" +
+                "@info(name = 'query3') " +
+                "from CheckStockStream join StockTable " +
+                "   on CheckStockStream.symbol==StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query3", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 57.6F, 200L}, event.getData());
+                                break;
+                            case 2:
+                                AssertJUnit.assertArrayEquals(new Object[]{"ORCL", 30.6F, 400L}, event.getData());
+                                break;
+                            default:
+                                AssertJUnit.assertSame(2, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStockStream = siddhiAppRuntime.getInputHandler("UpdateStockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6F, 100L});
+        updateStockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"MSFT", 20.6F, 300L}),
+                new Event(System.currentTimeMillis(), new Object[]{"ORCL", 30.6F, 400L})
+        });
+        checkStockStream.send(new Object[]{"WSO2"});
+        checkStockStream.send(new Object[]{"ORCL"});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Update or insert failed", 5, totalRowsInTable);
+        AssertJUnit.assertEquals("Number of success events", 2, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void updateOrInsertTableTest18() throws InterruptedException, SQLException {
+        //Testing that a failing batch applied through the staging table is rolled back as a whole
+        log.info("updateOrInsertTableTest18");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(stagedUpsertConfigManager(false));
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream UpdateStockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:5\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from UpdateStockStream " +
+                "update or insert into StockTable " +
+                "   set StockTable.price = price, StockTable.volume = volume " +
+                "   on StockTable.symbol==symbol ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStockStream = siddhiAppRuntime.getInputHandler("UpdateStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        try {
+            updateStockStream.send(new Event[]{
+                    new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"MSFT", 20.6F, 300L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"TOO-LONG", 30.6F, 400L})
+            });
+        } catch (RuntimeException e) {
+            log.info("Update or insert failed as expected: " + e.getMessage());
+        }
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Failed update or insert was not rolled back", 1, totalRowsInTable);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void updateOrInsertTableTest19() throws InterruptedException, SQLException {
+        //Testing updates or inserts processed one record at a time when configured, where a failing record
+        //is rolled back to its savepoint while the other records are committed per chunk of two records
+        log.info("updateOrInsertTableTest19");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        Map<String, String> configs = new HashMap<>();
+        for (String database : new String[]{"h2", "mysql", "Microsoft SQL Server", "PostgreSQL"}) {
+            configs.put("store.rdbms." + database + ".rowWiseUpdateOrInsert", "true");
+            configs.put("store.rdbms." + database + ".batchSize", "2");
+            configs.put("store.rdbms." + database + ".commitPerBatch", "true");
+        }
+        siddhiManager.setConfigManager(new InMemoryConfigManager(configs, new HashMap<>()));
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream UpdateStockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:5\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from UpdateStockStream " +
+                "update or insert into StockTable " +
+                "   set StockTable.price = price, StockTable.volume = volume " +
+                "   on StockTable.symbol==symbol ;" +
+                "" +
+                "@info(name = 'query3') " +
+                "from CheckStockStream join StockTable " +
+                "   on CheckStockStream.symbol==StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query3", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 57.6F, 200L}, event.getData());
+                                break;
+                            case 2:
+                                AssertJUnit.assertArrayEquals(new Object[]{"MSFT", 20.6F, 300L}, event.getData());
+                                break;
+                            default:
+                                AssertJUnit.assertSame(2, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStockStream = siddhiAppRuntime.getInputHandler("UpdateStockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        try {
+            updateStockStream.send(new Event[]{
+                    new Event(System.currentTimeMillis(), new Object[]{"WSO2", 57.6F, 200L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"GOOG", 10.6F, 100L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"TOO-LONG", 30.6F, 400L}),
+                    new Event(System.currentTimeMillis(), new Object[]{"MSFT", 20.6F, 300L})
+            });
+        } catch (RuntimeException e) {
+            log.info("Update or insert of a record failed as expected: " + e.getMessage());
+        }
+        checkStockStream.send(new Object[]{"WSO2"});
+        checkStockStream.send(new Object[]{"MSFT"});
+        Thread.sleep(500);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Records other than the failing one were not processed", 3, totalRowsInTable);
+        AssertJUnit.assertEquals("Number of success events", 2, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    private static ConfigManager stagedUpsertConfigManager(boolean commitPerBatch) {
+        Map<String, String> configs = new HashMap<>();
+        for (String database : new String[]{"h2", "mysql", "Microsoft SQL Server", "PostgreSQL"}) {
+            configs.put("store.rdbms." + database + ".stagingUpsertThreshold", "3");
+            configs.put("store.rdbms." + database + ".batchSize", "2");
+            configs.put("store.rdbms." + database + ".commitPerBatch", String.valueOf(commitPerBatch));
+        }
+        return new InMemoryConfigManager(configs, new HashMap<>());
+    }
 }
@@ -523,4 +523,75 @@ public class UpdateRDBMSTableTestCaseIT {
         AssertJUnit.assertEquals("Update failed", 3, totalRowsInTable);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = "updateFromTableTest9")
+    public void updateFromTableTest10() throws InterruptedException, SQLException {
+        //Check for update event data in RDBMS table when several queries update it with different set clauses.
+        log.info("updateFromTableTest10");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price double, volume long); " +
+                "define stream UpdatePriceStream (symbol string, price double); " +
+                "define stream UpdateVolumeStream (symbol string, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\")\n" +
+                "define table StockTable (symbol string, price double, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from UpdatePriceStream " +
+                "update StockTable " +
+                "   set StockTable.price = price " +
+                "   on StockTable.symbol == symbol ;" +
+                "" +
+                "@info(name = 'query3') " +
+                "from UpdateVolumeStream " +
+                "update StockTable " +
+                "   set StockTable.volume = volume " +
+                "   on StockTable.symbol == symbol and StockTable.price > 0.0 ;" +
+                "" +
+                "@info(name = 'query4') " +
+                "from CheckStockStream join StockTable on CheckStockStream.symbol == StockTable.symbol " +
+                "select StockTable.symbol, StockTable.price, StockTable.volume " +
+                "insert into OutStream ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query4", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        AssertJUnit.assertArrayEquals(new Object[]{"WSO2", 85.6, 300L}, event.getData());
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updatePriceStream = siddhiAppRuntime.getInputHandler("UpdatePriceStream");
+        InputHandler updateVolumeStream = siddhiAppRuntime.getInputHandler("UpdateVolumeStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6, 50L});
+        stockStream.send(new Object[]{"IBM", 75.6, 100L});
+        updatePriceStream.send(new Object[]{"WSO2", 85.6});
+        updateVolumeStream.send(new Object[]{"WSO2", 300L});
+        updatePriceStream.send(new Object[]{"WSO2", 85.6});
+        checkStockStream.send(new Object[]{"WSO2"});
+        Thread.sleep(1000);
+
+        AssertJUnit.assertEquals("Number of success events", 1, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        AssertJUnit.assertEquals("Update failed", 2, totalRowsInTable);
+        siddhiAppRuntime.shutdown();
+    }
 }
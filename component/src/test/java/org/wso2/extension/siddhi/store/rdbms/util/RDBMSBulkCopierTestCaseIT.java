@@ -0,0 +1,191 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+package org.wso2.extension.siddhi.store.rdbms.util;
+
+import org.apache.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSBatchExecutionException;
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RDBMSBulkCopierTestCaseIT {
+    private static final Logger log = Logger.getLogger(RDBMSBulkCopierTestCaseIT.class);
+
+    private static final String COPY_QUERY = "COPY StockTable (symbol, price, volume) FROM STDIN";
+    private static final List<Attribute> ATTRIBUTES = Arrays.asList(
+            new Attribute("symbol", Attribute.Type.STRING),
+            new Attribute("price", Attribute.Type.FLOAT),
+            new Attribute("volume", Attribute.Type.LONG));
+
+    @BeforeClass
+    public static void startTest() {
+        log.info("== RDBMS bulk copier tests started ==");
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        log.info("== RDBMS bulk copier tests completed ==");
+    }
+
+    @Test
+    public void bulkCopyTest1() throws SQLException {
+        //Testing that records are streamed through the copy API of the driver one chunk at a time, each of which is
+        //committed
+        log.info("bulkCopyTest1");
+        StubCopyManager copyManager = new StubCopyManager(-1);
+        List<String> commits = new ArrayList<>();
+        RDBMSBulkCopier copier = new RDBMSBulkCopier("StockTable", StubDriverConnection.class.getName(),
+                COPY_QUERY, ATTRIBUTES, 2);
+        boolean copied = copier.copyRecords(stubConnection(copyManager), records(),
+                (copiedRecordCount, committedRecordCount) -> {
+                    commits.add(copiedRecordCount + "/" + committedRecordCount);
+                    return copiedRecordCount;
+                });
+
+        Assert.assertTrue(copied, "Records were not copied");
+        Assert.assertEquals(copyManager.queries, Arrays.asList(COPY_QUERY, COPY_QUERY, COPY_QUERY),
+                "Copy queries");
+        Assert.assertEquals(copyManager.chunks, Arrays.asList(
+                "WSO2\t55.6\t100\nIBM\t75.6\t200\n",
+                "GOOG\t\\N\t300\nMS\\tFT\t20.5\t\\N\n",
+                "ORCL\t10.0\t500\n"), "Streamed chunks");
+        Assert.assertEquals(commits, Arrays.asList("2/0", "4/2", "5/4"), "Committed chunks");
+    }
+
+    @Test
+    public void bulkCopyTest2() throws SQLException {
+        //Testing that no records are copied and false is returned if the connection cannot be unwrapped to the
+        //connection of the driver, or the driver is not available
+        log.info("bulkCopyTest2");
+        StubCopyManager copyManager = new StubCopyManager(-1);
+        List<String> commits = new ArrayList<>();
+        RDBMSBulkCopier.ChunkCommitter committer = (copiedRecordCount, committedRecordCount) -> {
+            commits.add(copiedRecordCount + "/" + committedRecordCount);
+            return copiedRecordCount;
+        };
+        RDBMSBulkCopier copier = new RDBMSBulkCopier("StockTable", StubDriverConnection.class.getName(),
+                COPY_QUERY, ATTRIBUTES, 2);
+        Assert.assertFalse(copier.copyRecords(stubConnection(null), records(), committer),
+                "Records were copied although the connection could not be unwrapped");
+
+        copier = new RDBMSBulkCopier("StockTable", "org.wso2.extension.siddhi.store.rdbms.MissingConnection",
+                COPY_QUERY, ATTRIBUTES, 2);
+        Assert.assertFalse(copier.copyRecords(stubConnection(copyManager), records(), committer),
+                "Records were copied although the driver is not available");
+
+        Assert.assertTrue(copyManager.chunks.isEmpty(), "Records were streamed");
+        Assert.assertTrue(commits.isEmpty(), "Records were committed");
+    }
+
+    @Test
+    public void bulkCopyTest3() throws SQLException {
+        //Testing that a failed copy reports the number of records committed before it
+        log.info("bulkCopyTest3");
+        RDBMSBulkCopier copier = new RDBMSBulkCopier("StockTable", StubDriverConnection.class.getName(),
+                COPY_QUERY, ATTRIBUTES, 2);
+        try {
+            copier.copyRecords(stubConnection(new StubCopyManager(1)), records(),
+                    (copiedRecordCount, committedRecordCount) -> copiedRecordCount);
+            Assert.fail("The failure of the copy was not reported");
+        } catch (RDBMSBatchExecutionException e) {
+            Assert.assertEquals(e.getCommittedRecordCount(), 2, "Number of committed records");
+        }
+        try {
+            copier.copyRecords(stubConnection(new StubCopyManager(0)), records(),
+                    (copiedRecordCount, committedRecordCount) -> copiedRecordCount);
+            Assert.fail("The failure of the copy was not reported");
+        } catch (RDBMSBatchExecutionException e) {
+            Assert.fail("A failure before any commit was reported as a partially committed batch");
+        } catch (SQLException e) {
+            Assert.assertEquals(e.getMessage(), "Copy failed", "Reported failure");
+        }
+    }
+
+    private static List<Object[]> records() {
+        return Arrays.asList(
+                new Object[]{"WSO2", 55.6F, 100L},
+                new Object[]{"IBM", 75.6F, 200L},
+                new Object[]{"GOOG", null, 300L},
+                new Object[]{"MS\tFT", 20.5F, null},
+                new Object[]{"ORCL", 10.0F, 500L});
+    }
+
+    /**
+     * Creates a connection which unwraps to a driver connection exposing the given copy manager, or which cannot be
+     * unwrapped to the driver connection if there is none.
+     */
+    private static Connection stubConnection(StubCopyManager copyManager) {
+        StubDriverConnection driverConnection = () -> copyManager;
+        return (Connection) Proxy.newProxyInstance(RDBMSBulkCopierTestCaseIT.class.getClassLoader(),
+                new Class[]{Connection.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("unwrap")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    } else if (args[0] == Connection.class) {
+                        return proxy;
+                    } else if (args[0] == StubDriverConnection.class && copyManager != null) {
+                        return driverConnection;
+                    }
+                    throw new SQLException("Cannot unwrap to " + args[0]);
+                });
+    }
+
+    /**
+     * The connection interface of the stub driver, which exposes its copy API.
+     */
+    public interface StubDriverConnection {
+
+        StubCopyManager getCopyAPI();
+    }
+
+    /**
+     * The copy API of the stub driver, which records the streamed text and fails the copy of the given chunk.
+     */
+    public static class StubCopyManager {
+
+        private final List<String> queries = new ArrayList<>();
+        private final List<String> chunks = new ArrayList<>();
+        private final int failingChunk;
+
+        private StubCopyManager(int failingChunk) {
+            this.failingChunk = failingChunk;
+        }
+
+        public long copyIn(String sql, Reader from) throws SQLException, IOException {
+            if (this.chunks.size() == this.failingChunk) {
+                throw new SQLException("Copy failed");
+            }
+            String text = new BufferedReader(from).lines().map(line -> line + "\n").collect(Collectors.joining());
+            this.queries.add(sql);
+            this.chunks.add(text);
+            return text.chars().filter(c -> c == '\n').count();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.extension.siddhi.store.rdbms.util;
+
+import org.apache.log4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.extension.siddhi.store.rdbms.exception.RDBMSTableException;
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RDBMSCopyTextEncoderTestCaseIT {
+    private static final Logger log = Logger.getLogger(RDBMSCopyTextEncoderTestCaseIT.class);
+
+    private static final List<Attribute> ATTRIBUTES = Arrays.asList(
+            new Attribute("symbol", Attribute.Type.STRING),
+            new Attribute("price", Attribute.Type.FLOAT),
+            new Attribute("volume", Attribute.Type.LONG),
+            new Attribute("active", Attribute.Type.BOOL));
+
+    @BeforeClass
+    public static void startTest() {
+        log.info("== RDBMS COPY text encoder tests started ==");
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        log.info("== RDBMS COPY text encoder tests completed ==");
+    }
+
+    @Test
+    public void encodeRecordsTest1() {
+        //Testing the encoding of plain values, one line per record
+        log.info("encodeRecordsTest1");
+        List<Object[]> records = new ArrayList<>();
+        records.add(new Object[]{"WSO2", 55.6F, 100L, true});
+        records.add(new Object[]{"IBM", 75.5F, 200L, false});
+        Assert.assertEquals(RDBMSCopyTextEncoder.encode(records, ATTRIBUTES),
+                "WSO2\t55.6\t100\ttrue\nIBM\t75.5\t200\tfalse\n", "Encoding of plain values failed");
+    }
+
+    @Test
+    public void encodeRecordsTest2() {
+        //Testing the encoding of null values
+        log.info("encodeRecordsTest2");
+        List<Object[]> records = Collections.singletonList(new Object[]{null, 55.6F, null, null});
+        Assert.assertEquals(RDBMSCopyTextEncoder.encode(records, ATTRIBUTES), "\\N\t55.6\t\\N\t\\N\n",
+                "Encoding of null values failed");
+    }
+
+    @Test
+    public void encodeRecordsTest3() {
+        //Testing the escaping of delimiters and backslashes within strings
+        log.info("encodeRecordsTest3");
+        List<Object[]> records = Collections.singletonList(new Object[]{"a\tb\nc\rd\\N", 1.0F, 1L, true});
+        Assert.assertEquals(RDBMSCopyTextEncoder.encode(records, ATTRIBUTES),
+                "a\\tb\\nc\\rd\\\\N\t1.0\t1\ttrue\n", "Escaping of special characters failed");
+    }
+
+    @Test
+    public void encodeRecordsTest4() {
+        //Testing that an empty string is not confused with a null value
+        log.info("encodeRecordsTest4");
+        List<Object[]> records = Collections.singletonList(new Object[]{"", 1.0F, 1L, true});
+        Assert.assertEquals(RDBMSCopyTextEncoder.encode(records, ATTRIBUTES), "\t1.0\t1\ttrue\n",
+                "Encoding of empty string failed");
+    }
+
+    @Test
+    public void encodeRecordsTest5() {
+        //Testing that tables with object attributes are not encodable
+        log.info("encodeRecordsTest5");
+        Assert.assertTrue(RDBMSCopyTextEncoder.isEncodable(ATTRIBUTES));
+        List<Attribute> attributes = Arrays.asList(new Attribute("symbol", Attribute.Type.STRING),
+                new Attribute("payload", Attribute.Type.OBJECT));
+        Assert.assertFalse(RDBMSCopyTextEncoder.isEncodable(attributes));
+    }
+
+    @Test(expectedExceptions = RDBMSTableException.class)
+    public void encodeRecordsTest6() {
+        //Testing the rejection of object values
+        log.info("encodeRecordsTest6");
+        List<Attribute> attributes = Collections.singletonList(new Attribute("payload", Attribute.Type.OBJECT));
+        List<Object[]> records = Collections.singletonList(new Object[]{new Object()});
+        RDBMSCopyTextEncoder.encode(records, attributes);
+    }
+}
@@ -181,6 +181,26 @@ public class RDBMSTableTestUtils {
         }
     }
 
+    public static long getRowsInTable(String tableName, String column, Object value) throws SQLException {
+        PreparedStatement stmt = null;
+        Connection con = null;
+        try {
+            con = getTestDataSource().getConnection();
+            stmt = con.prepareStatement("SELECT count(*) FROM " + tableName + " WHERE " + column + " = ?");
+            stmt.setObject(1, value);
+            ResultSet resultSet = stmt.executeQuery();
+            if (resultSet.next()) {
+                return resultSet.getInt(1);
+            }
+            return 0;
+        } catch (SQLException e) {
+            log.error("Getting matching rows in DB table failed due to " + e.getMessage(), e);
+            throw e;
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, stmt, con);
+        }
+    }
+
     public enum TestType {
         MySQL, H2, ORACLE, MSSQL, DB2, POSTGRES
     }